@@ -8,18 +8,32 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.github.jpmorganchase.fusion.api.APIManager;
 import io.github.jpmorganchase.fusion.api.FusionAPIManager;
+import io.github.jpmorganchase.fusion.api.batch.DownloadListener;
+import io.github.jpmorganchase.fusion.api.batch.DownloadResult;
+import io.github.jpmorganchase.fusion.api.cache.CacheMetrics;
+import io.github.jpmorganchase.fusion.api.cache.ParsedResponses;
+import io.github.jpmorganchase.fusion.api.cache.ResponseCache;
+import io.github.jpmorganchase.fusion.api.concurrent.PrefetchedCall;
+import io.github.jpmorganchase.fusion.api.concurrent.TransferScheduler;
 import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.api.exception.ApiInputValidationException;
 import io.github.jpmorganchase.fusion.api.exception.FileDownloadException;
 import io.github.jpmorganchase.fusion.api.exception.FileUploadException;
+import io.github.jpmorganchase.fusion.api.paging.PageIterator;
+import io.github.jpmorganchase.fusion.api.retry.Retrier;
+import io.github.jpmorganchase.fusion.api.retry.RetryMetrics;
+import io.github.jpmorganchase.fusion.api.stream.ByteBufferPublisher;
+import io.github.jpmorganchase.fusion.api.stream.LazyInputStream;
 import io.github.jpmorganchase.fusion.builders.APIConfiguredBuilders;
 import io.github.jpmorganchase.fusion.builders.Builders;
 import io.github.jpmorganchase.fusion.http.Client;
+import io.github.jpmorganchase.fusion.http.HttpClients;
 import io.github.jpmorganchase.fusion.http.HttpResponse;
 import io.github.jpmorganchase.fusion.http.JdkClient;
 import io.github.jpmorganchase.fusion.model.*;
 import io.github.jpmorganchase.fusion.oauth.credential.BearerTokenCredentials;
 import io.github.jpmorganchase.fusion.oauth.credential.Credentials;
+import io.github.jpmorganchase.fusion.oauth.credential.OAuthCredentials;
 import io.github.jpmorganchase.fusion.oauth.credential.OAuthPasswordBasedCredentials;
 import io.github.jpmorganchase.fusion.oauth.credential.OAuthSecretBasedCredentials;
 import io.github.jpmorganchase.fusion.oauth.exception.OAuthException;
@@ -29,26 +43,47 @@ import io.github.jpmorganchase.fusion.parsing.APIResponseParser;
 import io.github.jpmorganchase.fusion.parsing.DefaultGsonConfig;
 import io.github.jpmorganchase.fusion.parsing.GsonAPIResponseParser;
 import io.github.jpmorganchase.fusion.parsing.ParsingException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 
 /**
  * Class representing the Fusion API, providing methods that correspond to available API endpoints
  */
 @Slf4j
 @SuppressWarnings({"LombokSetterMayBeUsed", "LombokGetterMayBeUsed"})
-public class Fusion {
+public class Fusion implements AutoCloseable {
 
     private static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -61,6 +96,11 @@ public class Fusion {
     private final String rootURL;
     private final APIResponseParser responseParser;
     private final Builders builders;
+    private final TransferScheduler transferScheduler;
+    private final Retrier retrier;
+    private final Semaphore openStreamPermits;
+    private final ResponseCache responseCache;
+    private final ParsedResponses parsedResponses;
 
     @Builder
     public Fusion(
@@ -69,13 +109,63 @@ public class Fusion {
             String defaultPath,
             String rootURL,
             APIResponseParser responseParser,
-            Builders builders) {
+            Builders builders,
+            TransferScheduler transferScheduler,
+            Retrier retrier,
+            Semaphore openStreamPermits,
+            ResponseCache responseCache,
+            ParsedResponses parsedResponses) {
         this.api = api;
         this.defaultCatalog = defaultCatalog;
         this.defaultPath = defaultPath;
         this.rootURL = rootURL;
         this.responseParser = initApiResponseParser(responseParser);
         this.builders = initApiResourceBuilders(builders);
+        this.transferScheduler = transferScheduler;
+        this.retrier = retrier;
+        this.openStreamPermits = openStreamPermits;
+        this.responseCache = responseCache;
+        this.parsedResponses = parsedResponses;
+    }
+
+    /**
+     * Returns the number of retries made for the parts of uploads and downloads made through this instance, and
+     * their outcomes.
+     *
+     * @return retry metrics, or empty if the instance was built with its own {@link APIManager}
+     */
+    public Optional<RetryMetrics> getRetryMetrics() {
+        return Optional.ofNullable(retrier).map(Retrier::getMetrics);
+    }
+
+    /**
+     * Returns the number of metadata requests served from the response cache of this instance, and the number that
+     * had to be sent.
+     *
+     * @return cache metrics, or empty if responses are not cached or the instance was built with its own
+     * {@link APIManager}
+     */
+    public Optional<CacheMetrics> getCacheMetrics() {
+        return Optional.ofNullable(responseCache).map(ResponseCache::getMetrics);
+    }
+
+    /**
+     * Releases the threads used to transfer distributions.  Transfers already in progress are allowed to complete,
+     * but no further uploads or downloads can be started with this instance.  When the cache policy names a snapshot
+     * file, the cached metadata responses are saved to it.
+     */
+    @Override
+    public void close() {
+        if (Objects.nonNull(transferScheduler)) {
+            transferScheduler.close();
+        }
+        if (Objects.nonNull(responseCache)) {
+            try {
+                responseCache.saveSnapshot();
+            } catch (IOException e) {
+                log.warn("Unable to save the response cache snapshot", e);
+            }
+        }
     }
 
     /**
@@ -215,48 +305,140 @@ public class Fusion {
      * @return aggregated JSON response containing all pages of data
      */
     private String callAPIWithPagination(String url) {
-        log.debug("Starting paginated request to URL: {}", url);
+        return aggregatedResponse(fetchPages(url));
+    }
 
-        Map<String, String> headers = new HashMap<>();
-        headers.put("x-jpmc-paginate", "true");
-        if (defaultPageSize > 0) {
-            log.debug("Using page size: {}", defaultPageSize);
-            headers.put("x-jpmc-page-size", String.valueOf(defaultPageSize));
+    /**
+     * Makes paginated API calls and parses the aggregated results.  When every page is served again from the
+     * response cache, the resources parsed from them the last time are returned rather than parsed again.
+     *
+     * @param url the API endpoint URL
+     * @param parser parses the aggregated JSON response
+     * @return the parsed resources of all pages
+     */
+    private <T> Map<String, T> callAPIWithPagination(String url, Function<String, Map<String, T>> parser) {
+        List<HttpResponse<String>> pages = fetchPages(url);
+        if (Objects.isNull(parsedResponses)) {
+            return parser.apply(aggregatedResponse(pages));
         }
+        return parsedResponses.parse(url, pages, () -> parser.apply(aggregatedResponse(pages)));
+    }
 
-        Gson gson = new Gson();
-        JsonArray aggregatedResources = new JsonArray();
+    /**
+     * Streams the resources of a paginated listing, requesting and parsing each page only once the stream reaches it.
+     *
+     * @param url the API endpoint URL
+     * @param pageParser parses the resources of a single page
+     * @return the resources of all pages
+     */
+    private <T> Stream<T> streamAPIWithPagination(String url, Function<String, Map<String, T>> pageParser) {
+        log.debug("Starting streamed paginated request to URL: {}", url);
+        PageIterator<T> resources = new PageIterator<>(
+                nextToken -> {
+                    Map<String, String> headers = paginationHeaders();
+                    if (nextToken != null) {
+                        headers.put("x-jpmc-next-token", nextToken);
+                    }
+                    return this.api.callAPIWithResponse(url, headers);
+                },
+                pageParser);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(resources, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private List<HttpResponse<String>> fetchPages(String url) {
+        log.debug("Starting paginated request to URL: {}", url);
+
+        Map<String, String> headers = paginationHeaders();
+        List<HttpResponse<String>> pages = new ArrayList<>();
         String nextToken = null;
-        int pageCount = 0;
 
         do {
-            pageCount++;
             if (nextToken != null) {
                 headers.put("x-jpmc-next-token", nextToken);
-                log.debug("Fetching page {} with next token", pageCount);
+                log.debug("Fetching page {} with next token", pages.size() + 1);
             } else {
-                log.debug("Fetching page {}", pageCount);
+                log.debug("Fetching page {}", pages.size() + 1);
             }
 
             HttpResponse<String> response = this.api.callAPIWithResponse(url, headers);
-            String pageJson = response.getBody();
-
-            JsonObject pageObject = JsonParser.parseString(pageJson).getAsJsonObject();
-            if (pageObject.has("resources") && pageObject.get("resources").isJsonArray()) {
-                JsonArray pageResources = pageObject.getAsJsonArray("resources");
-                int pageResourceCount = pageResources.size();
-                pageResources.forEach(aggregatedResources::add);
-                log.debug("Retrieved {} resources from page {}", pageResourceCount, pageCount);
-            }
-
+            pages.add(response);
             nextToken = getHeaderValue(response.getHeaders(), "x-jpmc-next-token");
 
-            if (nextToken != null && !nextToken.isEmpty()) {
-                log.debug("Next token received, more pages available");
+        } while (nextToken != null && !nextToken.isEmpty());
+
+        return pages;
+    }
+
+    private String aggregatedResponse(List<HttpResponse<String>> pages) {
+        JsonArray aggregatedResources = new JsonArray();
+        for (int page = 0; page < pages.size(); page++) {
+            addPage(pages.get(page), aggregatedResources, page + 1);
+        }
+        return aggregatedResponse(aggregatedResources, pages.size());
+    }
+
+    /**
+     * Makes paginated API calls without blocking the caller, requesting each page once the previous one has arrived.
+     *
+     * @param url the API endpoint URL
+     * @return a future completed with the aggregated JSON response containing all pages of data
+     */
+    private CompletableFuture<String> callAPIWithPaginationAsync(String url) {
+        log.debug("Starting asynchronous paginated request to URL: {}", url);
+
+        JsonArray aggregatedResources = new JsonArray();
+        return fetchPagesAsync(url, paginationHeaders(), aggregatedResources, 1)
+                .thenApply(pageCount -> aggregatedResponse(aggregatedResources, pageCount));
+    }
+
+    private CompletableFuture<Integer> fetchPagesAsync(
+            String url, Map<String, String> headers, JsonArray aggregatedResources, int pageCount) {
+        log.debug("Fetching page {}", pageCount);
+        return this.api.callAPIWithResponseAsync(url, headers).thenCompose(response -> {
+            String nextToken = addPage(response, aggregatedResources, pageCount);
+            if (nextToken == null || nextToken.isEmpty()) {
+                return CompletableFuture.completedFuture(pageCount);
             }
+            Map<String, String> nextHeaders = new HashMap<>(headers);
+            nextHeaders.put("x-jpmc-next-token", nextToken);
+            return fetchPagesAsync(url, nextHeaders, aggregatedResources, pageCount + 1);
+        });
+    }
 
-        } while (nextToken != null && !nextToken.isEmpty());
+    private Map<String, String> paginationHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("x-jpmc-paginate", "true");
+        if (defaultPageSize > 0) {
+            log.debug("Using page size: {}", defaultPageSize);
+            headers.put("x-jpmc-page-size", String.valueOf(defaultPageSize));
+        }
+        return headers;
+    }
+
+    /**
+     * Adds the resources of a page to those aggregated so far.
+     *
+     * @return the token for the next page, or null if this was the last page
+     */
+    private String addPage(HttpResponse<String> response, JsonArray aggregatedResources, int pageCount) {
+        JsonObject pageObject = JsonParser.parseString(response.getBody()).getAsJsonObject();
+        if (pageObject.has("resources") && pageObject.get("resources").isJsonArray()) {
+            JsonArray pageResources = pageObject.getAsJsonArray("resources");
+            int pageResourceCount = pageResources.size();
+            pageResources.forEach(aggregatedResources::add);
+            log.debug("Retrieved {} resources from page {}", pageResourceCount, pageCount);
+        }
+
+        String nextToken = getHeaderValue(response.getHeaders(), "x-jpmc-next-token");
+
+        if (nextToken != null && !nextToken.isEmpty()) {
+            log.debug("Next token received, more pages available");
+        }
+        return nextToken;
+    }
 
+    private String aggregatedResponse(JsonArray aggregatedResources, int pageCount) {
         log.debug(
                 "Pagination complete. Total pages fetched: {}, Total resources: {}",
                 pageCount,
@@ -264,7 +446,7 @@ public class Fusion {
 
         JsonObject result = new JsonObject();
         result.add("resources", aggregatedResources);
-        return gson.toJson(result);
+        return new Gson().toJson(result);
     }
 
     /**
@@ -300,8 +482,7 @@ public class Fusion {
      */
     public Map<String, Catalog> listCatalogs() {
         String url = rootURL.concat("catalogs");
-        String json = callAPIWithPagination(url);
-        return responseParser.parseCatalogResponse(json);
+        return callAPIWithPagination(url, responseParser::parseCatalogResponse);
     }
 
     /**
@@ -332,8 +513,7 @@ public class Fusion {
     public Map<String, DataProduct> listProducts(String catalogName, String contains, boolean idContains) {
         // TODO: unimplemented logic implied by the method parameters
         String url = String.format("%1scatalogs/%2s/products", this.rootURL, catalogName);
-        String json = callAPIWithPagination(url);
-        return responseParser.parseDataProductResponse(json);
+        return callAPIWithPagination(url, responseParser::parseDataProductResponse);
     }
 
     /**
@@ -374,8 +554,10 @@ public class Fusion {
      */
     public Map<String, Dataset> listDatasets(String catalogName, String contains, boolean idContains) {
         String url = String.format("%1scatalogs/%2s/datasets", this.rootURL, catalogName);
-        String json = callAPIWithPagination(url);
-        return filterDatasets(responseParser.parseDatasetResponse(json, catalogName), contains, idContains);
+        return filterDatasets(
+                callAPIWithPagination(url, json -> responseParser.parseDatasetResponse(json, catalogName)),
+                contains,
+                idContains);
     }
 
     /**
@@ -440,6 +622,36 @@ public class Fusion {
         return listDatasets(this.getDefaultCatalog(), null, false);
     }
 
+    /**
+     * Get the datasets in the specified catalog as a lazy stream.
+     * <p>
+     * Unlike {@link #listDatasets(String)}, the pages of the listing are requested and parsed one at a time as the
+     * stream is consumed, so only a single page is held in memory however many datasets the catalog holds.
+     *
+     * @param catalogName identifier of the catalog to be queried
+     * @return the datasets, in the order they are listed
+     * @throws APICallException if a call to the Fusion API fails as the stream is consumed
+     * @throws ParsingException if a page of the response could not be parsed successfully
+     * @throws OAuthException if a token could not be retrieved for authentication
+     */
+    public Stream<Dataset> streamDatasets(String catalogName) {
+        String url = String.format("%1scatalogs/%2s/datasets", this.rootURL, catalogName);
+        return streamAPIWithPagination(url, json -> responseParser.parseDatasetResponse(json, catalogName));
+    }
+
+    /**
+     * Get the datasets in the default catalog as a lazy stream.
+     *
+     * @return the datasets, in the order they are listed
+     * @throws APICallException if a call to the Fusion API fails as the stream is consumed
+     * @throws ParsingException if a page of the response could not be parsed successfully
+     * @throws OAuthException if a token could not be retrieved for authentication
+     * @see #streamDatasets(String)
+     */
+    public Stream<Dataset> streamDatasets() {
+        return streamDatasets(this.getDefaultCatalog());
+    }
+
     /**
      * Get the available resources for a dataset, in the specified catalog
      * Currently this will always return a dataset.
@@ -497,8 +709,7 @@ public class Fusion {
      */
     public Map<String, DatasetSeries> listDatasetMembers(String catalogName, String dataset) {
         String url = String.format("%1scatalogs/%2s/datasets/%3s/datasetseries", this.rootURL, catalogName, dataset);
-        String json = callAPIWithPagination(url);
-        return responseParser.parseDatasetSeriesResponse(json);
+        return callAPIWithPagination(url, responseParser::parseDatasetSeriesResponse);
     }
 
     /**
@@ -557,8 +768,7 @@ public class Fusion {
      */
     public Map<String, Attribute> listAttributes(String catalogName, String dataset) {
         String url = String.format("%1scatalogs/%2s/datasets/%3s/attributes", this.rootURL, catalogName, dataset);
-        String json = callAPIWithPagination(url);
-        return responseParser.parseAttributeResponse(json, catalogName, dataset);
+        return callAPIWithPagination(url, json -> responseParser.parseAttributeResponse(json, catalogName, dataset));
     }
 
     /**
@@ -602,8 +812,7 @@ public class Fusion {
         String url = String.format(
                 "%1scatalogs/%2s/datasets/%3s/datasetseries/%4s/distributions",
                 this.rootURL, catalogName, dataset, seriesMember);
-        String json = callAPIWithPagination(url);
-        return responseParser.parseDistributionResponse(json);
+        return callAPIWithPagination(url, responseParser::parseDistributionResponse);
     }
 
     /**
@@ -620,6 +829,109 @@ public class Fusion {
         return this.listDistributions(this.getDefaultCatalog(), dataset, seriesMember);
     }
 
+    /**
+     * Get a list of the catalogs available to the API account, without blocking the caller.
+     *
+     * @return a future completed with the catalogs, or exceptionally if the call to the Fusion API fails or its
+     *     response could not be parsed
+     */
+    public CompletableFuture<Map<String, Catalog>> listCatalogsAsync() {
+        String url = rootURL.concat("catalogs");
+        return callAPIWithPaginationAsync(url).thenApply(responseParser::parseCatalogResponse);
+    }
+
+    /**
+     * Get a list of the datasets in the specified catalog, without blocking the caller.
+     *
+     * @param catalogName identifier of the catalog to be queried
+     * @return a future completed with the datasets, or exceptionally if the call to the Fusion API fails or its
+     *     response could not be parsed
+     */
+    public CompletableFuture<Map<String, Dataset>> listDatasetsAsync(String catalogName) {
+        String url = String.format("%1scatalogs/%2s/datasets", this.rootURL, catalogName);
+        return callAPIWithPaginationAsync(url)
+                .thenApply(json -> responseParser.parseDatasetResponse(json, catalogName));
+    }
+
+    /**
+     * List the series members for a dataset in a specified catalog, without blocking the caller.
+     *
+     * @param catalogName identifier of the catalog to be queried
+     * @param dataset     a String representing the dataset identifier to query.
+     * @return a future completed with the series members, or exceptionally if the call to the Fusion API fails or
+     *     its response could not be parsed
+     */
+    public CompletableFuture<Map<String, DatasetSeries>> listDatasetMembersAsync(String catalogName, String dataset) {
+        String url = String.format("%1scatalogs/%2s/datasets/%3s/datasetseries", this.rootURL, catalogName, dataset);
+        return callAPIWithPaginationAsync(url).thenApply(responseParser::parseDatasetSeriesResponse);
+    }
+
+    /**
+     * List the attributes for a specified dataset in a defined catalog, without blocking the caller.
+     *
+     * @param catalogName a String representing the identifier of the catalog to query.
+     * @param dataset     a String representing the dataset identifier to query.
+     * @return a future completed with the attributes, or exceptionally if the call to the Fusion API fails or its
+     *     response could not be parsed
+     */
+    public CompletableFuture<Map<String, Attribute>> listAttributesAsync(String catalogName, String dataset) {
+        String url = String.format("%1scatalogs/%2s/datasets/%3s/attributes", this.rootURL, catalogName, dataset);
+        return callAPIWithPaginationAsync(url)
+                .thenApply(json -> responseParser.parseAttributeResponse(json, catalogName, dataset));
+    }
+
+    /**
+     * List the distributions available for a series member, without blocking the caller.
+     *
+     * @param catalogName  identifier of the catalog to be queried
+     * @param dataset      a String representing the dataset identifier.
+     * @param seriesMember a String representing the series member identifier.
+     * @return a future completed with the distributions, or exceptionally if the call to the Fusion API fails or its
+     *     response could not be parsed
+     */
+    public CompletableFuture<Map<String, Distribution>> listDistributionsAsync(
+            String catalogName, String dataset, String seriesMember) {
+        String url = String.format(
+                "%1scatalogs/%2s/datasets/%3s/datasetseries/%4s/distributions",
+                this.rootURL, catalogName, dataset, seriesMember);
+        return callAPIWithPaginationAsync(url).thenApply(responseParser::parseDistributionResponse);
+    }
+
+    /**
+     * Download a single distribution to the local filesystem, without blocking the caller.  The download runs on
+     * the threads of this instance, with its parts fetched in parallel as for
+     * {@link #download(String, String, String, String, String)}.
+     *
+     * @param catalogName  identifier of the catalog to be queried
+     * @param dataset      a String representing the dataset identifier to download.
+     * @param seriesMember a String representing the series member identifier.
+     * @param distribution a String representing the distribution identifier, this is the file extension.
+     * @param path         the absolute file path where the file should be written.
+     * @return a future completed once the distribution has been downloaded, or exceptionally if the download failed
+     */
+    public CompletableFuture<Void> downloadAsync(
+            String catalogName, String dataset, String seriesMember, String distribution, String path) {
+        return CompletableFuture.runAsync(
+                () -> download(catalogName, dataset, seriesMember, distribution, path), coordinatorExecutor());
+    }
+
+    /**
+     * Blocking calls started by the asynchronous API run on the request lane of this instance's threads, or on the
+     * common pool when the instance was built with its own {@link APIManager}.
+     */
+    private Executor asyncExecutor() {
+        return Objects.nonNull(transferScheduler) ? transferScheduler.requests() : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Work started by the asynchronous API that waits on transfers, such as a publisher reading a file through to its
+     * end, runs on the coordinator lane of this instance's threads, which never shares threads or in-flight permits
+     * with the transfers it waits on.
+     */
+    private Executor coordinatorExecutor() {
+        return Objects.nonNull(transferScheduler) ? transferScheduler.coordinators() : ForkJoinPool.commonPool();
+    }
+
     /**
      * Download a single distribution to the local filesystem
      *
@@ -684,6 +996,11 @@ public class Fusion {
 
     /**
      * Download a single distribution to the local filesystem
+     * <p>
+     * The files of the distribution are downloaded concurrently, as described for
+     * {@link #downloadFiles(String, String, String, String, String, Map, List, DownloadListener)}.  If any file cannot
+     * be downloaded, the first failure is thrown once all files have finished, with the failures of any other files
+     * added to it as suppressed exceptions.
      *
      * @param catalogName  identifier of the catalog to be queried
      * @param dataset      a String representing the dataset identifier to download.
@@ -705,10 +1022,98 @@ public class Fusion {
             Map<String, String> headers,
             List<String> fileNames) {
 
+        DownloadResult result = downloadFiles(
+                catalogName, dataset, seriesMember, distribution, path, headers, fileNames, DownloadListener.NONE);
+        throwFirstFailure(Collections.singletonList(result));
+    }
+
+    /**
+     * Download the files of a single distribution to the local filesystem, reporting the outcome of each file rather
+     * than failing on the first file that cannot be downloaded.
+     * <p>
+     * Files are downloaded concurrently, up to {@link FusionConfiguration#getDownloadThreadPoolSize()} files at a time,
+     * and the parts of all files share the download lane of the instance, so the number of part requests in flight is
+     * bounded across the whole distribution rather than per file.  The dataset metadata is looked up while the files
+     * are listed, rather than after.  The call returns once every file has either been downloaded or failed.
+     *
+     * @param catalogName  identifier of the catalog to be queried
+     * @param dataset      a String representing the dataset identifier to download.
+     * @param seriesMember a String representing the series member identifier.
+     * @param distribution a String representing the distribution identifier, this is the file extension.
+     * @param path         the absolute file path where the files should be written.
+     * @param headers      http headers to be provided in the request.  For headers with multiple instances, the value should be a csv list
+     * @param fileNames    a list of file names to download, or null to download all files of the distribution.
+     * @param listener     notified as each file starts, completes or fails; may be null.
+     * @return the path of each downloaded file and the reason each failed file could not be downloaded
+     * @throws APICallException if the files of the distribution could not be listed
+     * @throws FusionException if no files are found or the target directory cannot be created
+     * @throws OAuthException if a token could not be retrieved for authentication
+     */
+    public DownloadResult downloadFiles(
+            String catalogName,
+            String dataset,
+            String seriesMember,
+            String distribution,
+            String path,
+            Map<String, String> headers,
+            List<String> fileNames,
+            DownloadListener listener) {
+
+        PrefetchedCall<Boolean> skipChecksumValidationIfMissing = prefetchSkipChecksumValidation(catalogName, dataset);
+
         Map<String, DistributionFile> distributionFiles =
                 getDistributionFilesForDownload(catalogName, dataset, seriesMember, distribution, fileNames);
 
-        boolean skipChecksumValidationIfMissing = shouldSkipChecksumValidationForDataset(catalogName, dataset);
+        try {
+            Files.createDirectories(Paths.get(path));
+        } catch (Exception e) {
+            throw new FusionException("Unable to save to " + path, e);
+        }
+
+        return transferFiles(
+                        catalogName,
+                        dataset,
+                        seriesMember,
+                        distribution,
+                        path,
+                        headers,
+                        distributionFiles,
+                        skipChecksumValidationIfMissing,
+                        listener)
+                .join();
+    }
+
+    /**
+     * Download a distribution of several series members of a dataset to the local filesystem, reporting the outcome
+     * of each file rather than failing on the first file that cannot be downloaded.
+     * <p>
+     * The files of each series member are written to {@code path} as
+     * {@link #download(String, String, String, String, String)} would write them.  The dataset metadata is looked up
+     * once for the whole batch, concurrently with listing the files of the series members, and as each listing returns
+     * its files are scheduled with those of every other series member, so at most
+     * {@link FusionConfiguration#getDownloadThreadPoolSize()} files are downloaded at a time and their parts share
+     * the download lane of the instance.
+     *
+     * @param catalogName   identifier of the catalog to be queried
+     * @param dataset       a String representing the dataset identifier to download.
+     * @param seriesMembers a List of Strings representing the series member identifiers.
+     * @param distribution  a String representing the distribution identifier, this is the file extension.
+     * @param path          the absolute file path where the files should be written.
+     * @param headers       http headers to be provided in the request.  For headers with multiple instances, the value should be a csv list
+     * @param listener      notified as each file starts, completes or fails; may be null.
+     * @return the result of each series member, in the order given.  When the files of a series member could not be
+     * listed, its result holds that failure keyed by the series member identifier.
+     * @throws FusionException if the target directory cannot be created
+     * @throws OAuthException if a token could not be retrieved for authentication
+     */
+    public Map<String, DownloadResult> downloadSeries(
+            String catalogName,
+            String dataset,
+            List<String> seriesMembers,
+            String distribution,
+            String path,
+            Map<String, String> headers,
+            DownloadListener listener) {
 
         try {
             Files.createDirectories(Paths.get(path));
@@ -716,29 +1121,172 @@ public class Fusion {
             throw new FusionException("Unable to save to " + path, e);
         }
 
-        for (Map.Entry<String, DistributionFile> entry : distributionFiles.entrySet()) {
-            DistributionFile file = entry.getValue();
+        PrefetchedCall<Boolean> skipChecksumValidationIfMissing = prefetchSkipChecksumValidation(catalogName, dataset);
+
+        Map<String, PrefetchedCall<Map<String, DistributionFile>>> listings = new LinkedHashMap<>();
+        Map<String, CompletableFuture<DownloadResult>> batch = new LinkedHashMap<>();
+        for (String seriesMember : new LinkedHashSet<>(seriesMembers)) {
+            PrefetchedCall<Map<String, DistributionFile>> listing = PrefetchedCall.start(
+                    () -> getDistributionFilesForDownload(catalogName, dataset, seriesMember, distribution, null),
+                    asyncExecutor());
+            listings.put(seriesMember, listing);
+            batch.put(
+                    seriesMember,
+                    listing.future()
+                            .thenCompose(distributionFiles -> transferFiles(
+                                    catalogName,
+                                    dataset,
+                                    seriesMember,
+                                    distribution,
+                                    path,
+                                    headers,
+                                    distributionFiles,
+                                    skipChecksumValidationIfMissing,
+                                    listener))
+                            .exceptionally(error -> new DownloadResult(
+                                    Collections.emptyMap(), Collections.singletonMap(seriesMember, unwrap(error)))));
+        }
+        // Make any listing not yet started by the request lane here, rather than waiting behind queued requests
+        listings.values().forEach(PrefetchedCall::run);
+        CompletableFuture.allOf(batch.values().toArray(new CompletableFuture[0]))
+                .join();
+
+        Map<String, DownloadResult> results = new LinkedHashMap<>();
+        batch.forEach((seriesMember, result) -> results.put(seriesMember, result.join()));
+        return results;
+    }
+
+    /**
+     * Schedules each file on the files lane and completes, never exceptionally, once every file has either been
+     * downloaded or failed.
+     */
+    private CompletableFuture<DownloadResult> transferFiles(
+            String catalogName,
+            String dataset,
+            String seriesMember,
+            String distribution,
+            String path,
+            Map<String, String> headers,
+            Map<String, DistributionFile> distributionFiles,
+            PrefetchedCall<Boolean> skipChecksumValidationIfMissing,
+            DownloadListener listener) {
+
+        String url = String.format(
+                "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files/operationType/download",
+                this.rootURL, catalogName, dataset, seriesMember, distribution);
+        DownloadListener progress = Objects.nonNull(listener) ? listener : DownloadListener.NONE;
+        Executor files = Objects.nonNull(transferScheduler) ? transferScheduler.files() : Runnable::run;
+
+        Map<String, String> downloaded = new ConcurrentHashMap<>();
+        Map<String, Throwable> failed = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> transfers = new ArrayList<>();
+        for (DistributionFile file : distributionFiles.values()) {
             String identifier = file.getIdentifier();
+            String fullPath = downloadPathOf(file, catalogName, dataset, seriesMember, distribution, path);
+            // Each file is given its own headers as the security headers are added to them during the download
+            Map<String, String> fileHeaders = Objects.nonNull(headers) ? new HashMap<>(headers) : null;
+
+            transfers.add(CompletableFuture.runAsync(
+                            () -> {
+                                notifyListener(() -> progress.onStarted(identifier, fullPath));
+                                this.api.callAPIFileDownload(
+                                        url,
+                                        fullPath,
+                                        catalogName,
+                                        dataset,
+                                        fileHeaders,
+                                        identifier,
+                                        skipChecksumValidationIfMissing.get());
+                            },
+                            files)
+                    .handle((ignored, error) -> {
+                        if (Objects.isNull(error)) {
+                            downloaded.put(identifier, fullPath);
+                            notifyListener(() -> progress.onCompleted(identifier, fullPath, sizeOf(fullPath)));
+                        } else {
+                            Throwable cause = unwrap(error);
+                            failed.put(identifier, cause);
+                            notifyListener(() -> progress.onFailed(identifier, cause));
+                        }
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(transfers.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<String, String> downloadedInOrder = new LinkedHashMap<>();
+                    Map<String, Throwable> failedInOrder = new LinkedHashMap<>();
+                    for (String identifier : distributionFiles.keySet()) {
+                        if (downloaded.containsKey(identifier)) {
+                            downloadedInOrder.put(identifier, downloaded.get(identifier));
+                        } else if (failed.containsKey(identifier)) {
+                            failedInOrder.put(identifier, failed.get(identifier));
+                        }
+                    }
+                    return new DownloadResult(downloadedInOrder, failedInOrder);
+                });
+    }
 
-            // Use fileExtension from the DistributionFile object, fallback to the distribution parameter if null
-            String extension = file.getFileExtension() != null ? file.getFileExtension() : "." + distribution;
-            if (!extension.startsWith(".")) {
-                extension = "." + extension;
-            }
+    private String downloadPathOf(
+            DistributionFile file,
+            String catalogName,
+            String dataset,
+            String seriesMember,
+            String distribution,
+            String path) {
+        String identifier = file.getIdentifier();
 
-            String safeFileName = (identifier.equals(distribution)
-                            ? String.format("%s_%s_%s", catalogName, dataset, seriesMember)
-                            : identifier)
-                    .replaceAll("[^a-zA-Z0-9_.\\-]", "_");
+        // Use fileExtension from the DistributionFile object, fallback to the distribution parameter if null
+        String extension = file.getFileExtension() != null ? file.getFileExtension() : "." + distribution;
+        if (!extension.startsWith(".")) {
+            extension = "." + extension;
+        }
 
-            String fullPath = path + "/" + safeFileName + extension;
+        String safeFileName = (identifier.equals(distribution)
+                        ? String.format("%s_%s_%s", catalogName, dataset, seriesMember)
+                        : identifier)
+                .replaceAll("[^a-zA-Z0-9_.\\-]", "_");
 
-            String url = String.format(
-                    "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files/operationType/download",
-                    this.rootURL, catalogName, dataset, seriesMember, distribution);
+        return path + "/" + safeFileName + extension;
+    }
+
+    private static long sizeOf(String path) {
+        try {
+            return Files.size(Paths.get(path));
+        } catch (Exception e) {
+            return -1L;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && Objects.nonNull(error.getCause()) ? error.getCause() : error;
+    }
 
-            this.api.callAPIFileDownload(
-                    url, fullPath, catalogName, dataset, headers, identifier, skipChecksumValidationIfMissing);
+    private static void notifyListener(Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            log.warn("Download listener failed to handle notification", e);
+        }
+    }
+
+    /**
+     * Throws the first failure of the results, with any other failures added to it as suppressed exceptions.
+     */
+    private static void throwFirstFailure(Collection<DownloadResult> results) {
+        RuntimeException first = null;
+        for (DownloadResult result : results) {
+            for (Throwable failure : result.getFailed().values()) {
+                if (Objects.isNull(first)) {
+                    first = failure instanceof RuntimeException
+                            ? (RuntimeException) failure
+                            : new FusionException("Failed to download distribution file", failure);
+                } else {
+                    first.addSuppressed(failure);
+                }
+            }
+        }
+        if (Objects.nonNull(first)) {
+            throw first;
         }
     }
 
@@ -816,7 +1364,11 @@ public class Fusion {
 
     /**
      * Download multiple distribution to the local filesystem. By default, this will write to downloads folder.
-     * Not implemented.
+     * <p>
+     * The series members are downloaded as a batch, as described for
+     * {@link #downloadSeries(String, String, List, String, String, Map, DownloadListener)}.  If any file cannot be
+     * downloaded, the first failure is thrown once the whole batch has finished, with the failures of any other files
+     * added to it as suppressed exceptions.
      *
      * @param catalogName   identifier of the catalog to be queried
      * @param dataset       a String representing the dataset identifier to download.
@@ -827,13 +1379,25 @@ public class Fusion {
      * @throws OAuthException if a token could not be retrieved for authentication
      */
     public void download(String catalogName, String dataset, List<String> seriesMembers, String distribution) {
-        throw new FusionException("Functionality not yet implemented");
+        Map<String, DownloadResult> results = downloadSeries(
+                catalogName,
+                dataset,
+                seriesMembers,
+                distribution,
+                getDefaultPath(),
+                new HashMap<>(),
+                DownloadListener.NONE);
+        throwFirstFailure(results.values());
     }
 
     /**
      * Download a single distribution and return the data as an InputStream
      * Note that users of this method are required to close the returned InputStream. Failure to do so will
      * result in resource leaks, including the Http connection used to communicate with Fusion
+     * <p>
+     * Each stream connects to Fusion on its first read, so only the files that are read hold a connection, and a
+     * failure to download a file is thrown from that read.  The number of streams open at once can be limited with
+     * {@link FusionConfiguration#getMaxOpenStreams()}.
      *
      * @param catalogName  identifier of the catalog to be queried
      * @param dataset      a String representing the dataset identifier to download.
@@ -880,11 +1444,11 @@ public class Fusion {
             Map<String, String> headers,
             List<String> fileNames) {
 
+        PrefetchedCall<Boolean> skipChecksumValidationIfMissing = prefetchSkipChecksumValidation(catalogName, dataset);
+
         Map<String, DistributionFile> distributionFiles =
                 getDistributionFilesForDownload(catalogName, dataset, seriesMember, distribution, fileNames);
 
-        boolean skipChecksumValidationIfMissing = shouldSkipChecksumValidationForDataset(catalogName, dataset);
-
         Map<String, InputStream> result = new HashMap<>();
 
         for (Map.Entry<String, DistributionFile> entry : distributionFiles.entrySet()) {
@@ -899,9 +1463,94 @@ public class Fusion {
                     "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files/operationType/download",
                     this.rootURL, catalogName, dataset, seriesMember, distribution);
 
-            InputStream stream = this.api.callAPIFileDownload(
-                    url, catalogName, dataset, headers, identifier, skipChecksumValidationIfMissing);
-            result.put(identifier, stream);
+            result.put(
+                    identifier,
+                    LazyInputStream.builder()
+                            .source(() -> this.api.callAPIFileDownload(
+                                    url,
+                                    catalogName,
+                                    dataset,
+                                    headers,
+                                    identifier,
+                                    skipChecksumValidationIfMissing.get()))
+                            .permits(openStreamPermits)
+                            .build());
+        }
+
+        return result;
+    }
+
+    /**
+     * Download a single distribution as a {@link Publisher} of {@link ByteBuffer} chunks per file.
+     * <p>
+     * Nothing is downloaded for a file until its subscriber requests a chunk, and then only as fast as chunks are
+     * requested; parts of a multipart file are fetched as reading reaches them, up to the configured read-ahead.
+     * This allows many files to be consumed concurrently with bounded memory.  Each publisher supports a single
+     * subscriber, and closes its connection on completion, error or cancellation.
+     *
+     * @param catalogName  identifier of the catalog to be queried
+     * @param dataset      a String representing the dataset identifier to download.
+     * @param seriesMember a String representing the series member identifier.
+     * @param distribution a String representing the distribution identifier, this is the file extension.
+     * @return publishers of the content of each file, keyed by file identifier
+     * @throws APICallException if the call to the Fusion API to list the files fails
+     * @throws OAuthException if a token could not be retrieved for authentication
+     */
+    public Map<String, Publisher<ByteBuffer>> downloadPublisher(
+            String catalogName, String dataset, String seriesMember, String distribution) {
+        return downloadPublisher(catalogName, dataset, seriesMember, distribution, new HashMap<>(), null);
+    }
+
+    /**
+     * Download a single distribution as a {@link Publisher} of {@link ByteBuffer} chunks per file, as for
+     * {@link #downloadPublisher(String, String, String, String)}.
+     *
+     * @param catalogName  identifier of the catalog to be queried
+     * @param dataset      a String representing the dataset identifier to download.
+     * @param seriesMember a String representing the series member identifier.
+     * @param distribution a String representing the distribution identifier, this is the file extension.
+     * @param headers      http headers to be provided in the request.
+     * @param fileNames    a list of file names to download, or null for all files.
+     * @return publishers of the content of each file, keyed by file identifier
+     * @throws APICallException if the call to the Fusion API to list the files fails
+     * @throws OAuthException if a token could not be retrieved for authentication
+     */
+    public Map<String, Publisher<ByteBuffer>> downloadPublisher(
+            String catalogName,
+            String dataset,
+            String seriesMember,
+            String distribution,
+            Map<String, String> headers,
+            List<String> fileNames) {
+
+        PrefetchedCall<Boolean> skipChecksumValidationIfMissing = prefetchSkipChecksumValidation(catalogName, dataset);
+
+        Map<String, DistributionFile> distributionFiles =
+                getDistributionFilesForDownload(catalogName, dataset, seriesMember, distribution, fileNames);
+
+        String url = String.format(
+                "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files/operationType/download",
+                this.rootURL, catalogName, dataset, seriesMember, distribution);
+
+        Map<String, Publisher<ByteBuffer>> result = new LinkedHashMap<>();
+        for (DistributionFile file : distributionFiles.values()) {
+            String identifier = file.getIdentifier();
+            if (identifier == null || identifier.trim().isEmpty()) {
+                continue;
+            }
+
+            result.put(
+                    identifier,
+                    ByteBufferPublisher.builder()
+                            .source(() -> this.api.callAPIFileDownload(
+                                    url,
+                                    catalogName,
+                                    dataset,
+                                    headers,
+                                    identifier,
+                                    skipChecksumValidationIfMissing.get()))
+                            .executor(coordinatorExecutor())
+                            .build());
         }
 
         return result;
@@ -959,6 +1608,15 @@ public class Fusion {
         return distributionFiles;
     }
 
+    /**
+     * Starts looking up whether checksum validation may be skipped for the dataset, so that the lookup overlaps with
+     * listing the files to download rather than adding a round trip before the first file starts.
+     */
+    private PrefetchedCall<Boolean> prefetchSkipChecksumValidation(String catalogName, String dataset) {
+        return PrefetchedCall.start(
+                () -> shouldSkipChecksumValidationForDataset(catalogName, dataset), asyncExecutor());
+    }
+
     private boolean shouldSkipChecksumValidationForDataset(String catalogName, String dataset) {
         try {
             Dataset datasetMetadata = getDataset(catalogName, dataset);
@@ -1272,6 +1930,15 @@ public class Fusion {
 
         protected APIResponseParser responseParser;
 
+        protected TransferScheduler transferScheduler;
+        protected Retrier retrier;
+        protected Semaphore openStreamPermits;
+        protected ResponseCache responseCache;
+        protected ParsedResponses parsedResponses;
+        protected ExecutorService executor;
+        protected Proxy proxy = Proxy.NO_PROXY;
+        protected boolean javaNetHttpClient;
+
         public FusionBuilder configuration(FusionConfiguration configuration) {
             this.configuration = configuration;
             return this;
@@ -1306,6 +1973,54 @@ public class Fusion {
 
         public FusionBuilder proxy(String url, int port) {
             client = JdkClient.builder().url(url).port(port).build();
+            proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(url, port));
+            return this;
+        }
+
+        /**
+         * Makes requests with a client built on {@code java.net.http.HttpClient} when running on Java 11 or later.
+         * The client prefers HTTP/2, so the parts of parallel uploads and downloads, and concurrent catalog calls, are
+         * multiplexed over a few connections rather than each opening one of its own.  On earlier versions of Java the
+         * default client is used.
+         *
+         * @return this builder
+         */
+        public FusionBuilder javaNetHttpClient() {
+            this.javaNetHttpClient = true;
+            return this;
+        }
+
+        /**
+         * Runs transfers on the provided {@link ExecutorService} rather than on threads owned by the
+         * {@link Fusion} instance.  The executor is not shut down when the instance is closed, and may be bounded, as
+         * work that waits on transfers always runs on threads owned by the instance.  It cannot be combined
+         * with an {@link APIManager} provided to the builder, which runs its own transfers.
+         *
+         * @param executor the executor on which uploads and downloads are run
+         * @return this builder
+         */
+        public FusionBuilder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        private FusionBuilder transferScheduler(TransferScheduler transferScheduler) {
+            return this;
+        }
+
+        private FusionBuilder retrier(Retrier retrier) {
+            return this;
+        }
+
+        private FusionBuilder openStreamPermits(Semaphore openStreamPermits) {
+            return this;
+        }
+
+        private FusionBuilder responseCache(ResponseCache responseCache) {
+            return this;
+        }
+
+        private FusionBuilder parsedResponses(ParsedResponses parsedResponses) {
             return this;
         }
 
@@ -1331,10 +2046,25 @@ public class Fusion {
             this.defaultCatalog = configuration.getDefaultCatalog();
             this.defaultPath = configuration.getDownloadPath();
 
+            if (configuration.getMaxOpenStreams() > 0) {
+                openStreamPermits = new Semaphore(configuration.getMaxOpenStreams());
+            }
+
+            if (javaNetHttpClient) {
+                Optional<Client> javaNetClient = HttpClients.javaNetHttpClient(proxy);
+                if (javaNetClient.isPresent()) {
+                    client = javaNetClient.get();
+                } else {
+                    log.warn("java.net.http client is unavailable before Java 11, using the default client");
+                }
+            }
+
             if (Objects.isNull(client)) {
                 client = JdkClient.builder().noProxy().build();
             }
 
+            String cacheIdentity = cacheIdentity();
+
             if (Objects.isNull(fusionTokenProvider)) {
                 fusionTokenProvider = DefaultFusionTokenProvider.builder()
                         .configuration(configuration)
@@ -1343,15 +2073,61 @@ public class Fusion {
                         .build();
             }
 
+            if (Objects.nonNull(api) && Objects.nonNull(executor)) {
+                throw new FusionInitialisationException(
+                        "An executor cannot be used with a provided APIManager, as the APIManager runs its own transfers");
+            }
+
             if (Objects.isNull(api)) {
+                transferScheduler = TransferScheduler.builder()
+                        .configuration(configuration)
+                        .executor(executor)
+                        .build();
+                retrier = new Retrier(configuration.getRetryPolicy());
+                if (configuration.getCachePolicy().isEnabled()) {
+                    responseCache = new ResponseCache(configuration.getCachePolicy(), cacheIdentity);
+                    responseCache.restoreSnapshot();
+                    parsedResponses =
+                            new ParsedResponses(configuration.getCachePolicy().getMaxEntries());
+                }
                 api = FusionAPIManager.builder()
                         .httpClient(client)
                         .tokenProvider(fusionTokenProvider)
                         .configuration(configuration)
+                        .transferScheduler(transferScheduler)
+                        .retrier(retrier)
+                        .responseCache(responseCache)
                         .build();
             }
 
             return super.build();
         }
+
+        /**
+         * Identifies whose metadata the response cache holds, so that a snapshot saved with one set of credentials is
+         * never restored with another.  Unknown when tokens come from a provided token provider.
+         */
+        private String cacheIdentity() {
+            if (credentials instanceof OAuthPasswordBasedCredentials) {
+                OAuthPasswordBasedCredentials password = (OAuthPasswordBasedCredentials) credentials;
+                return String.join("\n", rootURL, "password", password.getClientId(), password.getUsername());
+            }
+            if (credentials instanceof OAuthCredentials) {
+                return String.join("\n", rootURL, "client", ((OAuthCredentials) credentials).getClientId());
+            }
+            if (credentials instanceof BearerTokenCredentials) {
+                return String.join("\n", rootURL, "bearer", ((BearerTokenCredentials) credentials).getBearerToken());
+            }
+            if (Objects.isNull(credentials) && Objects.isNull(fusionTokenProvider)) {
+                return String.join(
+                        "\n",
+                        rootURL,
+                        "file",
+                        Paths.get(configuration.getCredentialsPath())
+                                .toAbsolutePath()
+                                .toString());
+            }
+            return null;
+        }
     }
 }
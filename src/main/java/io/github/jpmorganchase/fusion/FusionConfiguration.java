@@ -1,5 +1,7 @@
 package io.github.jpmorganchase.fusion;
 
+import io.github.jpmorganchase.fusion.api.cache.CachePolicy;
+import io.github.jpmorganchase.fusion.api.retry.RetryPolicy;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -52,14 +54,14 @@ public class FusionConfiguration {
     int uploadPartSize = 8;
 
     /**
-     * Size of Thread-Pool to be used for uploading chunks of a multipart file
+     * Maximum number of parts uploaded concurrently, across all uploads made through a Fusion instance.
      * Defaults to number of available processors.
      */
     @Builder.Default
     int uploadThreadPoolSize = Runtime.getRuntime().availableProcessors();
 
     /**
-     * Size of Thread-Pool to be used for uploading chunks of a multipart file
+     * Maximum number of parts downloaded concurrently, across all downloads made through a Fusion instance.
      * Defaults to number of available processors.
      */
     @Builder.Default
@@ -71,4 +73,116 @@ public class FusionConfiguration {
      */
     @Builder.Default
     String digestAlgorithm = "SHA-256";
+
+    /**
+     * When enabled, the metadata probe made before each download is issued as a GET rather than a HEAD, and
+     * for single-part distributions its response body is used as the download, saving a round-trip per file.
+     * For multipart distributions the probe body is discarded, so this suits datasets made up of small files.
+     * Defaults to false.
+     */
+    @Builder.Default
+    boolean reuseProbeResponseForSinglePartDownloads = false;
+
+    /**
+     * When enabled, multipart downloads to file are written through a memory mapping of the pre-sized file
+     * rather than with positional writes.
+     * Defaults to false.
+     */
+    @Builder.Default
+    boolean memoryMappedDownloads = false;
+
+    /**
+     * When memory mapped downloads are enabled, force each mapped region to the storage device once its part
+     * has been written, so the file is durable when the download completes.
+     * Defaults to false.
+     */
+    @Builder.Default
+    boolean forceMemoryMappedDownloads = false;
+
+    /**
+     * When enabled and running on JDK 21 or later, each part uploaded or downloaded, and each asynchronous API call,
+     * runs on its own virtual thread, and the number of requests in flight is bounded by maxInFlightRequests rather
+     * than by the thread pool sizes.  Has no effect on earlier JDKs.
+     * Defaults to false.
+     */
+    @Builder.Default
+    boolean virtualThreads = false;
+
+    /**
+     * Maximum number of requests in flight at once, across part uploads, part downloads and asynchronous API calls,
+     * when transfers run on virtual threads.  Otherwise bounds only the asynchronous API calls in flight when the HTTP
+     * client blocks.
+     * Defaults to 64.
+     */
+    @Builder.Default
+    int maxInFlightRequests = 64;
+
+    /**
+     * Number of parts requested ahead of the part being read when a multipart distribution is downloaded to a
+     * stream.  When greater than one, parts requested ahead are downloaded into memory, subject to
+     * downloadReadAheadMemoryLimit.
+     * Defaults to 1.
+     */
+    @Builder.Default
+    int downloadReadAhead = 1;
+
+    /**
+     * Upper bound in MB on the memory used to hold parts downloaded ahead of the reader of a stream; the read-ahead
+     * depth is reduced to fit.
+     * Defaults to 256.
+     */
+    @Builder.Default
+    int downloadReadAheadMemoryLimit = 256;
+
+    /**
+     * Maximum number of streams returned by downloadStream that may have their connection open at once, across all
+     * calls made through a Fusion instance.  A stream opens its connection on first read; once the limit is reached,
+     * that read waits until another stream is closed.  0 places no limit.
+     * Defaults to 0.
+     */
+    @Builder.Default
+    int maxOpenStreams = 0;
+
+    /**
+     * When enabled, multipart uploads of files record each confirmed part in a journal under uploadJournalPath.
+     * If the upload is interrupted, uploading the same unchanged file again resumes it, uploading only the
+     * remaining parts.  Failed uploads are then left open rather than aborted so that they can be resumed.
+     * Defaults to false.
+     */
+    @Builder.Default
+    boolean resumableUploads = false;
+
+    /**
+     * Directory in which upload journals are kept when resumable uploads are enabled.
+     * Defaults to "upload-journals".
+     */
+    @Builder.Default
+    String uploadJournalPath = "upload-journals";
+
+    /**
+     * When enabled, multipart downloads to file record each written part in a checkpoint file kept alongside the
+     * download.  If the download fails, downloading the same distribution to the same file again fetches only the
+     * missing parts.  The checkpoint is discarded if the distribution has changed in the meantime.
+     * Defaults to false.
+     */
+    @Builder.Default
+    boolean resumableDownloads = false;
+
+    /**
+     * Policy under which failed requests for individual parts of uploads and downloads are retried, so that a
+     * transient failure costs a single part rather than the whole transfer.  Defaults to three attempts per part,
+     * with exponential backoff from 250ms to 10s and jitter, retrying status codes 408, 429, 500, 502, 503 and 504
+     * and I/O errors.  {@link RetryPolicy#none()} disables retries.
+     */
+    @Builder.Default
+    RetryPolicy retryPolicy = RetryPolicy.builder().build();
+
+    /**
+     * Policy under which responses to metadata requests, such as listing catalogs, datasets, attributes and
+     * distributions, are cached in memory by a Fusion instance.  Creating, updating or deleting a resource through the
+     * instance discards the cached responses it may have changed.  Defaults to {@link CachePolicy#none()}, caching
+     * nothing.
+     */
+    @Builder.Default
+    CachePolicy cachePolicy = CachePolicy.none();
 }
@@ -9,6 +9,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface APIManager extends APIDownloadOperations, APIUploadOperations {
 
@@ -31,6 +32,37 @@ public interface APIManager extends APIDownloadOperations, APIUploadOperations {
      */
     HttpResponse<String> callAPIWithResponse(String apiPath, Map<String, String> headers) throws APICallException;
 
+    /**
+     * Sends a GET request to the specified API endpoint without blocking the caller.
+     * <p>
+     * The default runs {@link #callAPI(String)} on the common pool; implementations should override it to send the
+     * request without holding a thread while the response is awaited.
+     *
+     * @param apiPath the API endpoint path to which the GET request will be sent
+     * @return a future completed with the response body, or exceptionally with an {@link APICallException} if the
+     *     response status indicates an error or the request fails
+     */
+    default CompletableFuture<String> callAPIAsync(String apiPath) {
+        return CompletableFuture.supplyAsync(() -> callAPI(apiPath));
+    }
+
+    /**
+     * Sends a GET request to the specified API endpoint with custom headers without blocking the caller.
+     *
+     * <p>
+     * The default runs {@link #callAPIWithResponse(String, Map)} on the common pool; implementations should override
+     * it to send the request without holding a thread while the response is awaited.
+     *
+     * @param apiPath the API endpoint path to which the GET request will be sent
+     * @param headers additional HTTP headers to include in the request
+     * @return a future completed with the full {@code HttpResponse}, or exceptionally with an
+     *     {@link APICallException} if the response status indicates an error or the request fails
+     */
+    default CompletableFuture<HttpResponse<String>> callAPIWithResponseAsync(
+            String apiPath, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> callAPIWithResponse(apiPath, headers));
+    }
+
     String callAPIToPost(String apiPath) throws APICallException;
 
     /**
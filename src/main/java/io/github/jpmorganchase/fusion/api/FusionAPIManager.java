@@ -4,12 +4,16 @@ import static io.github.jpmorganchase.fusion.api.tools.ResponseChecker.checkResp
 
 import io.github.jpmorganchase.fusion.FusionConfiguration;
 import io.github.jpmorganchase.fusion.FusionInitialisationException;
+import io.github.jpmorganchase.fusion.api.cache.ResponseCache;
+import io.github.jpmorganchase.fusion.api.concurrent.TransferScheduler;
 import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.api.exception.FileDownloadException;
 import io.github.jpmorganchase.fusion.api.operations.APIDownloadOperations;
 import io.github.jpmorganchase.fusion.api.operations.APIUploadOperations;
 import io.github.jpmorganchase.fusion.api.operations.FusionAPIDownloadOperations;
 import io.github.jpmorganchase.fusion.api.operations.FusionAPIUploadOperations;
+import io.github.jpmorganchase.fusion.api.retry.Retrier;
+import io.github.jpmorganchase.fusion.http.AsyncClient;
 import io.github.jpmorganchase.fusion.http.Client;
 import io.github.jpmorganchase.fusion.http.HttpResponse;
 import io.github.jpmorganchase.fusion.http.JdkClient;
@@ -18,9 +22,13 @@ import io.github.jpmorganchase.fusion.oauth.provider.FusionTokenProvider;
 import io.github.jpmorganchase.fusion.serializing.APIRequestSerializer;
 import io.github.jpmorganchase.fusion.serializing.GsonAPIRequestSerializer;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.Builder;
 
 /**
@@ -30,15 +38,24 @@ import lombok.Builder;
 public class FusionAPIManager implements APIManager {
 
     private final Client httpClient;
+    private final AsyncClient asyncClient;
     private final FusionTokenProvider tokenProvider;
     private final APIDownloadOperations downloader;
     private APIUploadOperations uploader;
 
+    /**
+     * Cache of responses to metadata requests, or null if responses are not cached.
+     */
+    private final ResponseCache responseCache;
+
     @Builder.Default
     private APIRequestSerializer serializer = new GsonAPIRequestSerializer();
 
     public void updateBearerToken(String token) {
         tokenProvider.updateCredentials(new BearerTokenCredentials(token));
+        if (Objects.nonNull(responseCache)) {
+            responseCache.invalidateAll();
+        }
     }
 
     /**
@@ -55,12 +72,7 @@ public class FusionAPIManager implements APIManager {
      */
     @Override
     public String callAPI(String apiPath) throws APICallException {
-        Map<String, String> requestHeaders = new HashMap<>();
-        requestHeaders.put("Authorization", "Bearer " + tokenProvider.getSessionBearerToken());
-
-        HttpResponse<String> response = httpClient.get(APIManager.encodeUrl(apiPath), requestHeaders);
-        checkResponseStatus(response);
-        return response.getBody();
+        return callAPIWithResponse(apiPath, null).getBody();
     }
 
     /**
@@ -71,6 +83,9 @@ public class FusionAPIManager implements APIManager {
      * request to the specified {@code apiPath} using the {@code httpClient}. It checks the HTTP
      * response status for errors and returns the full response including headers.
      *
+     * <p>When responses are cached, a response that has not expired is returned without a request being sent, and
+     * an expired response with validators is requested conditionally and returned again if it is unchanged.
+     *
      * @param apiPath the API endpoint path to which the GET request will be sent
      * @param customHeaders additional HTTP headers to include in the request
      * @return the full {@code HttpResponse} including status, headers, and body
@@ -79,6 +94,93 @@ public class FusionAPIManager implements APIManager {
     @Override
     public HttpResponse<String> callAPIWithResponse(String apiPath, Map<String, String> customHeaders)
             throws APICallException {
+        Optional<HttpResponse<String>> cached = cachedResponse(apiPath, customHeaders);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Map<String, String> requestHeaders = requestHeaders(customHeaders);
+
+        Map<String, String> conditions = conditionalHeaders(apiPath, customHeaders);
+        if (!conditions.isEmpty()) {
+            HttpResponse<String> response =
+                    httpClient.get(APIManager.encodeUrl(apiPath), withConditions(requestHeaders, conditions));
+            Optional<HttpResponse<String>> unchanged = unchangedResponse(apiPath, customHeaders, response);
+            if (unchanged.isPresent()) {
+                return unchanged.get();
+            }
+            if (response.getStatusCode() != HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return checkedResponse(apiPath, customHeaders, response);
+            }
+        }
+
+        HttpResponse<String> response = httpClient.get(APIManager.encodeUrl(apiPath), requestHeaders);
+        return checkedResponse(apiPath, customHeaders, response);
+    }
+
+    /**
+     * Sends a GET request to the specified API endpoint through the {@code asyncClient}, without blocking the
+     * caller while the response is awaited.  The bearer token is obtained from the {@code tokenProvider} before the
+     * request is sent.
+     *
+     * @param apiPath the API endpoint path to which the GET request will be sent
+     * @return a future completed with the response body if the request is successful
+     */
+    @Override
+    public CompletableFuture<String> callAPIAsync(String apiPath) {
+        return callAPIWithResponseAsync(apiPath, null).thenApply(HttpResponse::getBody);
+    }
+
+    /**
+     * Sends a GET request to the specified API endpoint with custom headers through the {@code asyncClient},
+     * without blocking the caller while the response is awaited.  Cached responses are used as for
+     * {@link #callAPIWithResponse(String, Map)}.
+     *
+     * @param apiPath the API endpoint path to which the GET request will be sent
+     * @param customHeaders additional HTTP headers to include in the request
+     * @return a future completed with the full {@code HttpResponse} if the request is successful
+     */
+    @Override
+    public CompletableFuture<HttpResponse<String>> callAPIWithResponseAsync(
+            String apiPath, Map<String, String> customHeaders) {
+        Optional<HttpResponse<String>> cached = cachedResponse(apiPath, customHeaders);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        Map<String, String> requestHeaders;
+        try {
+            requestHeaders = requestHeaders(customHeaders);
+        } catch (RuntimeException e) {
+            CompletableFuture<HttpResponse<String>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        Map<String, String> conditions = conditionalHeaders(apiPath, customHeaders);
+        if (conditions.isEmpty()) {
+            return asyncClient
+                    .getAsync(APIManager.encodeUrl(apiPath), requestHeaders)
+                    .thenApply(response -> checkedResponse(apiPath, customHeaders, response));
+        }
+
+        return asyncClient
+                .getAsync(APIManager.encodeUrl(apiPath), withConditions(requestHeaders, conditions))
+                .thenCompose(response -> {
+                    Optional<HttpResponse<String>> unchanged = unchangedResponse(apiPath, customHeaders, response);
+                    if (unchanged.isPresent()) {
+                        return CompletableFuture.completedFuture(unchanged.get());
+                    }
+                    if (response.getStatusCode() != HttpURLConnection.HTTP_NOT_MODIFIED) {
+                        return CompletableFuture.completedFuture(checkedResponse(apiPath, customHeaders, response));
+                    }
+                    return asyncClient
+                            .getAsync(APIManager.encodeUrl(apiPath), requestHeaders)
+                            .thenApply(retried -> checkedResponse(apiPath, customHeaders, retried));
+                });
+    }
+
+    private Map<String, String> requestHeaders(Map<String, String> customHeaders) {
         Map<String, String> requestHeaders = new HashMap<>();
         requestHeaders.put("Authorization", "Bearer " + tokenProvider.getSessionBearerToken());
 
@@ -89,18 +191,48 @@ public class FusionAPIManager implements APIManager {
                 }
             });
         }
+        return requestHeaders;
+    }
 
-        HttpResponse<String> response = httpClient.get(APIManager.encodeUrl(apiPath), requestHeaders);
+    private static Map<String, String> withConditions(
+            Map<String, String> requestHeaders, Map<String, String> conditions) {
+        Map<String, String> conditional = new HashMap<>(requestHeaders);
+        conditional.putAll(conditions);
+        return conditional;
+    }
+
+    private HttpResponse<String> checkedResponse(
+            String apiPath, Map<String, String> customHeaders, HttpResponse<String> response) {
         checkResponseStatus(response);
+        cacheResponse(apiPath, customHeaders, response);
         return response;
     }
 
+    /**
+     * @return the cached response if the server answered that it is not modified, or empty if it must be requested
+     * again, as the server answered otherwise or the cached response has since been evicted
+     */
+    private Optional<HttpResponse<String>> unchangedResponse(
+            String apiPath, Map<String, String> customHeaders, HttpResponse<String> response) {
+        if (response.getStatusCode() != HttpURLConnection.HTTP_NOT_MODIFIED) {
+            return Optional.empty();
+        }
+        return responseCache.notModified(apiPath, customHeaders);
+    }
+
+    private Map<String, String> conditionalHeaders(String apiPath, Map<String, String> customHeaders) {
+        return Objects.nonNull(responseCache)
+                ? responseCache.conditionalHeaders(apiPath, customHeaders)
+                : Collections.emptyMap();
+    }
+
     @Override
     public String callAPIToPost(String apiPath) throws APICallException {
         Map<String, String> requestHeaders = new HashMap<>();
         requestHeaders.put("Authorization", "Bearer " + tokenProvider.getSessionBearerToken());
 
         HttpResponse<String> response = httpClient.post(APIManager.encodeUrl(apiPath), requestHeaders, null);
+        invalidateCachedResponses(apiPath);
         checkResponseStatus(response);
         return response.getBody();
     }
@@ -126,6 +258,7 @@ public class FusionAPIManager implements APIManager {
 
         HttpResponse<String> response =
                 httpClient.post(APIManager.encodeUrl(apiPath), requestHeaders, serializer.serialize(resource));
+        invalidateCachedResponses(apiPath);
         checkResponseStatus(response);
         return response.getBody();
     }
@@ -146,6 +279,7 @@ public class FusionAPIManager implements APIManager {
 
         HttpResponse<String> response =
                 httpClient.put(APIManager.encodeUrl(apiPath), serializer.serialize(resource), requestHeaders);
+        invalidateCachedResponses(apiPath);
         checkResponseStatus(response);
         return response.getBody();
     }
@@ -162,6 +296,7 @@ public class FusionAPIManager implements APIManager {
         requestHeaders.put("Authorization", "Bearer " + tokenProvider.getSessionBearerToken());
 
         HttpResponse<String> response = httpClient.delete(APIManager.encodeUrl(apiPath), requestHeaders, null);
+        invalidateCachedResponses(apiPath);
         checkResponseStatus(response);
         return response.getBody();
     }
@@ -245,7 +380,11 @@ public class FusionAPIManager implements APIManager {
             String createdDate,
             Map<String, String> headers)
             throws APICallException {
-        uploader.callAPIFileUpload(apiPath, fileName, catalogName, dataset, fromDate, toDate, createdDate, headers);
+        try {
+            uploader.callAPIFileUpload(apiPath, fileName, catalogName, dataset, fromDate, toDate, createdDate, headers);
+        } finally {
+            invalidateCachedResponses(apiPath);
+        }
     }
 
     @Override
@@ -259,7 +398,31 @@ public class FusionAPIManager implements APIManager {
             String createdDate,
             Map<String, String> headers)
             throws APICallException {
-        uploader.callAPIFileUpload(apiPath, data, catalogName, dataset, fromDate, toDate, createdDate, headers);
+        try {
+            uploader.callAPIFileUpload(apiPath, data, catalogName, dataset, fromDate, toDate, createdDate, headers);
+        } finally {
+            invalidateCachedResponses(apiPath);
+        }
+    }
+
+    private Optional<HttpResponse<String>> cachedResponse(String apiPath, Map<String, String> headers) {
+        return Objects.nonNull(responseCache) ? responseCache.get(apiPath, headers) : Optional.empty();
+    }
+
+    private void cacheResponse(String apiPath, Map<String, String> headers, HttpResponse<String> response) {
+        if (Objects.nonNull(responseCache)) {
+            responseCache.put(apiPath, headers, response);
+        }
+    }
+
+    /**
+     * Discards cached responses which may have been made stale by a change to the resource at the API path.  This
+     * is done whatever the outcome of the change, as a failed request may still have been applied.
+     */
+    private void invalidateCachedResponses(String apiPath) {
+        if (Objects.nonNull(responseCache)) {
+            responseCache.invalidate(apiPath);
+        }
     }
 
     public static FusionAPIManagerBuilder builder() {
@@ -269,9 +432,13 @@ public class FusionAPIManager implements APIManager {
     public static class FusionAPIManagerBuilder {
 
         protected Client httpClient;
+        protected AsyncClient asyncClient;
         protected FusionTokenProvider tokenProvider;
         protected APIDownloadOperations downloader;
         protected APIUploadOperations uploader;
+        protected TransferScheduler transferScheduler;
+        protected Retrier retrier;
+        protected ResponseCache responseCache;
 
         protected FusionConfiguration configuration =
                 FusionConfiguration.builder().build();
@@ -280,6 +447,16 @@ public class FusionAPIManager implements APIManager {
             this.configuration = configuration;
             return this;
         }
+
+        public FusionAPIManagerBuilder transferScheduler(TransferScheduler transferScheduler) {
+            this.transferScheduler = transferScheduler;
+            return this;
+        }
+
+        public FusionAPIManagerBuilder retrier(Retrier retrier) {
+            this.retrier = retrier;
+            return this;
+        }
     }
 
     public static class CustomFusionAPIManagerBuilder extends FusionAPIManagerBuilder {
@@ -294,11 +471,26 @@ public class FusionAPIManager implements APIManager {
                 this.httpClient = JdkClient.builder().noProxy().build();
             }
 
+            if (Objects.isNull(transferScheduler)) {
+                this.transferScheduler =
+                        TransferScheduler.builder().configuration(configuration).build();
+            }
+
+            if (Objects.isNull(responseCache) && configuration.getCachePolicy().isEnabled()) {
+                this.responseCache = new ResponseCache(configuration.getCachePolicy());
+            }
+
+            if (Objects.isNull(asyncClient)) {
+                this.asyncClient = AsyncClient.of(httpClient, transferScheduler.requests());
+            }
+
             if (Objects.isNull(downloader)) {
                 this.downloader = FusionAPIDownloadOperations.builder()
                         .configuration(configuration)
                         .httpClient(httpClient)
                         .fusionTokenProvider(tokenProvider)
+                        .transferScheduler(transferScheduler)
+                        .retrier(retrier)
                         .build();
             }
 
@@ -307,6 +499,8 @@ public class FusionAPIManager implements APIManager {
                         .configuration(configuration)
                         .httpClient(httpClient)
                         .fusionTokenProvider(tokenProvider)
+                        .transferScheduler(transferScheduler)
+                        .retrier(retrier)
                         .build();
             }
             return super.build();
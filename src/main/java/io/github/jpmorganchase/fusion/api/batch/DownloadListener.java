@@ -0,0 +1,38 @@
+package io.github.jpmorganchase.fusion.api.batch;
+
+/**
+ * Notified of the progress of each file of a download.  Files are downloaded concurrently, so methods may be called
+ * from several threads at once; implementations must be thread-safe and should return quickly.
+ */
+public interface DownloadListener {
+
+    /**
+     * Listener that ignores all notifications.
+     */
+    DownloadListener NONE = new DownloadListener() {};
+
+    /**
+     * Called when a file starts downloading.
+     *
+     * @param fileName identifier of the distribution file
+     * @param path the path to which the file is being written
+     */
+    default void onStarted(String fileName, String path) {}
+
+    /**
+     * Called when a file has been downloaded.
+     *
+     * @param fileName identifier of the distribution file
+     * @param path the path to which the file was written
+     * @param bytes the size of the downloaded file
+     */
+    default void onCompleted(String fileName, String path, long bytes) {}
+
+    /**
+     * Called when a file could not be downloaded.  Other files continue to download.
+     *
+     * @param fileName identifier of the distribution file
+     * @param cause the reason the download failed
+     */
+    default void onFailed(String fileName, Throwable cause) {}
+}
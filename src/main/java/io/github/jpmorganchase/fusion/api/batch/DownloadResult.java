@@ -0,0 +1,38 @@
+package io.github.jpmorganchase.fusion.api.batch;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of downloading a set of distribution files, reporting each file that was downloaded and each that failed,
+ * keyed by file identifier in the order the files were listed.
+ */
+@Getter
+@ToString
+public class DownloadResult {
+
+    /**
+     * The path to which each downloaded file was written.
+     */
+    private final Map<String, String> downloaded;
+
+    /**
+     * The reason each failed file could not be downloaded.
+     */
+    private final Map<String, Throwable> failed;
+
+    public DownloadResult(Map<String, String> downloaded, Map<String, Throwable> failed) {
+        this.downloaded = Collections.unmodifiableMap(new LinkedHashMap<>(downloaded));
+        this.failed = Collections.unmodifiableMap(new LinkedHashMap<>(failed));
+    }
+
+    /**
+     * @return true if every file was downloaded
+     */
+    public boolean isSuccessful() {
+        return failed.isEmpty();
+    }
+}
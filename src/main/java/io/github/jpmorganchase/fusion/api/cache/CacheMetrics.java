@@ -0,0 +1,77 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the requests served from the response cache, those that had to be sent, and the responses removed from it.
+ */
+public class CacheMetrics {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void missed() {
+        misses.incrementAndGet();
+    }
+
+    void evicted() {
+        evictions.incrementAndGet();
+    }
+
+    void invalidated(int entries) {
+        invalidations.addAndGet(entries);
+    }
+
+    void revalidated() {
+        revalidations.incrementAndGet();
+    }
+
+    /**
+     * @return the number of requests served from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of requests that were not in the cache, or whose response had expired
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of responses evicted to keep the cache within its maximum size
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the number of responses discarded because the resource they describe was changed
+     */
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    /**
+     * @return the number of expired responses the server confirmed were unchanged, which were served again without
+     * being transferred
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheMetrics(hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions()
+                + ", invalidations=" + getInvalidations() + ", revalidations=" + getRevalidations() + ")";
+    }
+}
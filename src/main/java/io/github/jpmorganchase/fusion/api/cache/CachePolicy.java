@@ -0,0 +1,75 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Describes how responses to metadata requests are cached in memory.
+ * <p>
+ * Each response is kept until its time to live expires, which may differ by the type of resource requested.  Once
+ * the cache holds {@code maxEntries} responses, the least recently used is evicted to make room for another.
+ * When a {@code snapshotPath} is given, the responses are also kept on disk between processes.
+ */
+@Getter
+@Builder
+@ToString
+public class CachePolicy {
+
+    /**
+     * Maximum number of responses held.  A value of 0 disables caching.
+     */
+    @Builder.Default
+    int maxEntries = 1000;
+
+    /**
+     * Time in milliseconds for which a response is served from the cache, unless its resource type has its own.
+     */
+    @Builder.Default
+    long defaultTtlMillis = 300_000;
+
+    /**
+     * Time in milliseconds for which responses for each type of resource are served from the cache, overriding
+     * the default.  A value of 0 prevents the type being cached.
+     */
+    @Builder.Default
+    Map<CachedResource, Long> ttlMillis = Collections.emptyMap();
+
+    /**
+     * File in which the cached responses are saved when the Fusion instance is closed, and from which a new instance
+     * starts.  Responses that have expired are revalidated on first use.  None are saved when null.
+     */
+    String snapshotPath;
+
+    /**
+     * @return a policy that caches nothing
+     */
+    public static CachePolicy none() {
+        return CachePolicy.builder().maxEntries(0).build();
+    }
+
+    /**
+     * @return true if responses are cached under this policy
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * @return true if the cached responses are kept on disk between processes
+     */
+    public boolean hasSnapshot() {
+        return isEnabled() && snapshotPath != null;
+    }
+
+    /**
+     * @param resource the type of resource
+     * @return the time in milliseconds for which responses for the type of resource are served from the cache
+     */
+    public long ttlMillisFor(CachedResource resource) {
+        Long ttl = ttlMillis.get(resource);
+        return ttl != null ? ttl : defaultTtlMillis;
+    }
+}
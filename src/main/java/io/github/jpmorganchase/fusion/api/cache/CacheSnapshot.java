@@ -0,0 +1,149 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk copy of the responses held by a {@link ResponseCache}, from which a cache in a later process can start.
+ * <p>
+ * The snapshot is a gzipped file of JSON lines: the first gives the version of the format and a hash of the identity
+ * the responses were cached for, and each of the others one response with the request it answered, its validators
+ * and when it expires, from the least to the most recently used.  A snapshot is replaced as a whole, by writing a new
+ * file and moving it into place, so a reader never sees one partially written; a snapshot of another version, cached
+ * for another identity, or that cannot be read, is ignored.
+ */
+@Slf4j
+class CacheSnapshot {
+
+    static final int VERSION = 2;
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private CacheSnapshot() {}
+
+    /**
+     * @param path the file holding the snapshot
+     * @param identity the identity the responses must have been cached for
+     * @return the responses in the snapshot, or an empty list if there is no usable snapshot
+     */
+    static List<Record> read(Path path, String identity) {
+        List<Record> records = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            Header header = GSON.fromJson(reader.readLine(), Header.class);
+            if (Objects.isNull(header) || header.version != VERSION) {
+                log.info("Ignoring response cache snapshot {} written in another format", path);
+                return Collections.emptyList();
+            }
+            if (!hashOf(identity).equals(header.identity)) {
+                log.info("Ignoring response cache snapshot {} cached for another identity", path);
+                return Collections.emptyList();
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                records.add(GSON.fromJson(line, Record.class));
+            }
+            return records;
+        } catch (NoSuchFileException e) {
+            return Collections.emptyList();
+        } catch (IOException | JsonParseException e) {
+            log.warn("Ignoring unreadable response cache snapshot {}", path, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Replaces the snapshot with the given responses.
+     *
+     * @param path the file holding the snapshot
+     * @param identity the identity the responses were cached for
+     * @param records the responses, from the least to the most recently used
+     * @throws IOException if the snapshot cannot be written
+     */
+    static void write(Path path, String identity, List<Record> records) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path written = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(written)), StandardCharsets.UTF_8))) {
+                writeLine(writer, GSON.toJson(new Header(VERSION, hashOf(identity))));
+                for (Record record : records) {
+                    writeLine(writer, GSON.toJson(record));
+                }
+            }
+            try {
+                Files.move(written, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(written, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(written);
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+    }
+
+    /**
+     * Hashes the identity, so that the credentials it may be derived from are not written to the snapshot.
+     */
+    private static String hashOf(String identity) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest(identity.getBytes(StandardCharsets.UTF_8))) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Header {
+        int version;
+        String identity;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Record {
+        String apiPath;
+        Map<String, String> requestHeaders;
+        int statusCode;
+        Map<String, List<String>> headers;
+        String body;
+        String etag;
+        String lastModified;
+        long expiresAt;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+/**
+ * The types of catalog resource whose responses may be cached, each of which may be given its own time to live in a
+ * {@link CachePolicy}.
+ */
+public enum CachedResource {
+    CATALOGS("catalogs"),
+    PRODUCTS("products"),
+    DATASETS("datasets"),
+    ATTRIBUTES("attributes"),
+    SERIES("datasetseries"),
+    DISTRIBUTIONS("distributions"),
+    FILES("files"),
+    OTHER(null);
+
+    private final String collection;
+
+    CachedResource(String collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Identifies the resource addressed by an API path from the last collection named in it, so that both a
+     * collection and its members are of the collection's type.
+     *
+     * @param apiPath the URL of the API endpoint
+     * @return the type of resource addressed by the path, or {@link #OTHER} if it is not recognised
+     */
+    public static CachedResource of(String apiPath) {
+        CachedResource resource = OTHER;
+        int query = apiPath.indexOf('?');
+        String path = query >= 0 ? apiPath.substring(0, query) : apiPath;
+        for (String segment : path.split("/")) {
+            for (CachedResource candidate : values()) {
+                if (segment.equals(candidate.collection)) {
+                    resource = candidate;
+                }
+            }
+        }
+        return resource;
+    }
+}
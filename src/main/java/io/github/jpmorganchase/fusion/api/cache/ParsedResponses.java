@@ -0,0 +1,80 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+import io.github.jpmorganchase.fusion.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.Value;
+
+/**
+ * Holds the resources parsed from listings whose pages came from a {@link ResponseCache}, so that a listing served
+ * again from the cache, whether unexpired or confirmed unchanged by the server, is not parsed again.
+ * <p>
+ * A parsed listing is reused only while every one of its pages is the same response instance it was parsed from,
+ * which is the case exactly when none of them has been requested again in full.  At most {@code maxEntries} listings
+ * are held, evicting the least recently used.  Safe for use from multiple threads.
+ */
+public class ParsedResponses {
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Parsed> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ParsedResponses(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the resources parsed from the pages of a listing, parsing them only if they have changed since they
+     * were last parsed.
+     *
+     * @param apiPath the URL of the listing
+     * @param pages the responses for each page of the listing
+     * @param parser parses the pages when they have changed
+     * @param <V> the type of resource listed
+     * @return a copy of the parsed resources, which the caller may modify
+     */
+    public <V> Map<String, V> parse(String apiPath, List<HttpResponse<String>> pages, Supplier<Map<String, V>> parser) {
+        Parsed parsed;
+        synchronized (this) {
+            parsed = entries.get(apiPath);
+        }
+        if (Objects.nonNull(parsed) && parsed.isParsedFrom(pages)) {
+            @SuppressWarnings("unchecked")
+            Map<String, V> resources = (Map<String, V>) parsed.getResources();
+            return new LinkedHashMap<>(resources);
+        }
+
+        Map<String, V> resources = parser.get();
+        if (Objects.isNull(resources)) {
+            return null;
+        }
+        synchronized (this) {
+            entries.put(apiPath, new Parsed(new ArrayList<>(pages), new LinkedHashMap<>(resources)));
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+        return new LinkedHashMap<>(resources);
+    }
+
+    @Value
+    private static class Parsed {
+        List<HttpResponse<String>> pages;
+        Map<String, ?> resources;
+
+        boolean isParsedFrom(List<HttpResponse<String>> responses) {
+            if (responses.size() != pages.size()) {
+                return false;
+            }
+            for (int i = 0; i < pages.size(); i++) {
+                if (responses.get(i) != pages.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
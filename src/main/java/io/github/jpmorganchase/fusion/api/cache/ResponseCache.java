@@ -0,0 +1,344 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+import io.github.jpmorganchase.fusion.http.HttpResponse;
+import io.github.jpmorganchase.fusion.time.SystemTimeProvider;
+import io.github.jpmorganchase.fusion.time.TimeProvider;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the responses to metadata requests made through a single API manager, so that repeated requests for
+ * resources that rarely change are served without a round trip.
+ * <p>
+ * Responses are keyed by the API path and the headers sent with the request, other than the authorization header;
+ * as a cache serves a single set of credentials, they are discarded with {@link #invalidateAll()} when the credentials
+ * change.  Expiry and eviction follow the {@link CachePolicy}.  Safe for use from multiple threads.
+ * <p>
+ * An expired response that carried an {@code ETag} or {@code Last-Modified} header is kept until evicted, so that the
+ * request can be sent conditionally with the headers from {@link #conditionalHeaders(String, Map)}; if the server
+ * answers 304 Not Modified, {@link #notModified(String, Map)} renews the response and returns the same instance, so
+ * that anything derived from it can be reused as well.
+ * <p>
+ * When the policy names a snapshot file, the responses held can be saved to it with {@link #saveSnapshot()} and a
+ * cache in a later process started from them with {@link #restoreSnapshot()}.  A snapshot records the identity the
+ * responses were cached for, such as the client and user they were requested by, and is only restored by a cache for
+ * the same identity; a cache without an identity neither saves nor restores snapshots.
+ */
+@Slf4j
+public class ResponseCache {
+
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+
+    private final CachePolicy policy;
+    private final String identity;
+    private final TimeProvider timeProvider;
+
+    @Getter
+    private final CacheMetrics metrics = new CacheMetrics();
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ResponseCache(CachePolicy policy) {
+        this(policy, (String) null);
+    }
+
+    public ResponseCache(CachePolicy policy, TimeProvider timeProvider) {
+        this(policy, null, timeProvider);
+    }
+
+    /**
+     * @param policy the policy under which responses are cached
+     * @param identity identifies whose responses are cached, such as the API root and the client and user requesting
+     * them, or null if not known
+     */
+    public ResponseCache(CachePolicy policy, String identity) {
+        this(policy, identity, new SystemTimeProvider());
+    }
+
+    public ResponseCache(CachePolicy policy, String identity, TimeProvider timeProvider) {
+        this.policy = policy;
+        this.identity = identity;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * @param apiPath the URL of the API endpoint
+     * @param headers the headers of the request, which may be null
+     * @return the cached response to the request, if there is one that has not expired
+     */
+    public synchronized Optional<HttpResponse<String>> get(String apiPath, Map<String, String> headers) {
+        Key key = keyOf(apiPath, headers);
+        Entry entry = entries.get(key);
+        if (Objects.isNull(entry) || entry.getExpiresAt() <= timeProvider.currentTimeMillis()) {
+            if (Objects.nonNull(entry) && !entry.isRevalidatable()) {
+                entries.remove(key);
+            }
+            metrics.missed();
+            return Optional.empty();
+        }
+        metrics.hit();
+        return Optional.of(entry.getResponse());
+    }
+
+    /**
+     * Caches the response to a request, unless its resource type is not cached, evicting the least recently used
+     * response if the cache is full.
+     *
+     * @param apiPath the URL of the API endpoint
+     * @param headers the headers of the request, which may be null
+     * @param response the successful response to the request
+     */
+    public synchronized void put(String apiPath, Map<String, String> headers, HttpResponse<String> response) {
+        long ttl = policy.ttlMillisFor(CachedResource.of(apiPath));
+        if (ttl <= 0 || !policy.isEnabled()) {
+            return;
+        }
+        entries.put(
+                keyOf(apiPath, headers),
+                new Entry(
+                        response,
+                        timeProvider.currentTimeMillis() + ttl,
+                        headerValue(response, ETAG),
+                        headerValue(response, LAST_MODIFIED)));
+
+        Iterator<Key> eldest = entries.keySet().iterator();
+        while (entries.size() > policy.getMaxEntries() && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            metrics.evicted();
+        }
+    }
+
+    /**
+     * @param apiPath the URL of the API endpoint
+     * @param headers the headers of the request, which may be null
+     * @return the headers which make the request conditional on the resource having changed since the response held
+     * for it, or an empty map if there is no such response
+     */
+    public synchronized Map<String, String> conditionalHeaders(String apiPath, Map<String, String> headers) {
+        Entry entry = entries.get(keyOf(apiPath, headers));
+        Map<String, String> conditional = new LinkedHashMap<>();
+        if (Objects.nonNull(entry)) {
+            if (Objects.nonNull(entry.getEtag())) {
+                conditional.put("If-None-Match", entry.getEtag());
+            }
+            if (Objects.nonNull(entry.getLastModified())) {
+                conditional.put("If-Modified-Since", entry.getLastModified());
+            }
+        }
+        return conditional;
+    }
+
+    /**
+     * Renews the response held for a request after the server has confirmed it is unchanged.
+     *
+     * @param apiPath the URL of the API endpoint
+     * @param headers the headers of the request, which may be null
+     * @return the response held for the request, or empty if it has since been removed
+     */
+    public synchronized Optional<HttpResponse<String>> notModified(String apiPath, Map<String, String> headers) {
+        Key key = keyOf(apiPath, headers);
+        Entry entry = entries.get(key);
+        if (Objects.isNull(entry)) {
+            return Optional.empty();
+        }
+        long ttl = policy.ttlMillisFor(CachedResource.of(apiPath));
+        entries.put(
+                key,
+                new Entry(
+                        entry.getResponse(),
+                        timeProvider.currentTimeMillis() + ttl,
+                        entry.getEtag(),
+                        entry.getLastModified()));
+        metrics.revalidated();
+        return Optional.of(entry.getResponse());
+    }
+
+    /**
+     * Discards the responses that may no longer be accurate once the resource at the API path has been created,
+     * updated or deleted: those for the collection containing it and everything within that collection, and those
+     * for each resource it is nested in.
+     *
+     * @param apiPath the URL of the API endpoint that was changed
+     */
+    public synchronized void invalidate(String apiPath) {
+        String path = withoutQuery(apiPath);
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        int parent = path.lastIndexOf('/');
+        String collection = parent > 0 ? path.substring(0, parent) : path;
+
+        int removed = 0;
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            String cached = withoutQuery(keys.next().getApiPath());
+            if (cached.startsWith(collection) || (path.startsWith(cached) && !cached.isEmpty())) {
+                keys.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("Invalidated {} cached responses for {}", removed, apiPath);
+            metrics.invalidated(removed);
+        }
+    }
+
+    /**
+     * Discards all cached responses.
+     */
+    public synchronized void invalidateAll() {
+        metrics.invalidated(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * Adds the responses saved in the snapshot named by the policy, other than those that have expired and cannot
+     * be revalidated.  Responses already held are kept in preference to those in the snapshot.  A snapshot saved for
+     * another identity is ignored.
+     *
+     * @return the number of responses added
+     */
+    public int restoreSnapshot() {
+        if (!hasSnapshot()) {
+            return 0;
+        }
+        Path path = Paths.get(policy.getSnapshotPath());
+        List<CacheSnapshot.Record> records = CacheSnapshot.read(path, identity);
+
+        int restored = 0;
+        synchronized (this) {
+            long now = timeProvider.currentTimeMillis();
+            for (CacheSnapshot.Record record : records) {
+                Entry entry = new Entry(
+                        HttpResponse.<String>builder()
+                                .statusCode(record.statusCode)
+                                .headers(record.headers)
+                                .body(record.body)
+                                .build(),
+                        record.expiresAt,
+                        record.etag,
+                        record.lastModified);
+                Key key = keyOf(record.apiPath, record.requestHeaders);
+                if ((entry.getExpiresAt() > now || entry.isRevalidatable()) && !entries.containsKey(key)) {
+                    entries.put(key, entry);
+                    restored++;
+                }
+            }
+            Iterator<Key> eldest = entries.keySet().iterator();
+            while (entries.size() > policy.getMaxEntries() && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        log.debug("Restored {} cached responses from {}", restored, path);
+        return restored;
+    }
+
+    /**
+     * Saves the responses held to the snapshot named by the policy, replacing it.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void saveSnapshot() throws IOException {
+        if (!hasSnapshot()) {
+            return;
+        }
+        List<CacheSnapshot.Record> records = new ArrayList<>();
+        synchronized (this) {
+            entries.forEach((key, entry) -> records.add(new CacheSnapshot.Record(
+                    key.getApiPath(),
+                    key.getHeaders(),
+                    entry.getResponse().getStatusCode(),
+                    entry.getResponse().getHeaders(),
+                    entry.getResponse().getBody(),
+                    entry.getEtag(),
+                    entry.getLastModified(),
+                    entry.getExpiresAt())));
+        }
+        Path path = Paths.get(policy.getSnapshotPath());
+        CacheSnapshot.write(path, identity, records);
+        log.debug("Saved {} cached responses to {}", records.size(), path);
+    }
+
+    /**
+     * @return the number of responses held, including any that have expired but not yet been removed
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean hasSnapshot() {
+        if (policy.hasSnapshot() && Objects.isNull(identity)) {
+            log.debug(
+                    "Not using response cache snapshot {}, as the identity of the cache is not known",
+                    policy.getSnapshotPath());
+            return false;
+        }
+        return policy.hasSnapshot();
+    }
+
+    private static Key keyOf(String apiPath, Map<String, String> headers) {
+        Map<String, String> significant = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (Objects.nonNull(headers)) {
+            headers.forEach((name, value) -> {
+                if (!AUTHORIZATION.equalsIgnoreCase(name)) {
+                    significant.put(name, value);
+                }
+            });
+        }
+        return new Key(apiPath, Collections.unmodifiableMap(new LinkedHashMap<>(significant)));
+    }
+
+    private static String headerValue(HttpResponse<String> response, String name) {
+        if (Objects.isNull(response.getHeaders())) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())
+                    && Objects.nonNull(header.getValue())
+                    && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    private static String withoutQuery(String apiPath) {
+        int query = apiPath.indexOf('?');
+        return query >= 0 ? apiPath.substring(0, query) : apiPath;
+    }
+
+    @Value
+    private static class Key {
+        String apiPath;
+        Map<String, String> headers;
+    }
+
+    @Value
+    private static class Entry {
+        HttpResponse<String> response;
+        long expiresAt;
+        String etag;
+        String lastModified;
+
+        boolean isRevalidatable() {
+            return Objects.nonNull(etag) || Objects.nonNull(lastModified);
+        }
+    }
+}
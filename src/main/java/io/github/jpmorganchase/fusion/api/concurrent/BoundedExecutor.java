@@ -0,0 +1,130 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor that runs at most {@code limit} tasks at a time on a delegate executor, queueing the remainder.
+ * Submission never blocks, and tasks are dispatched in the order they were submitted.
+ */
+final class BoundedExecutor extends AbstractExecutorService {
+
+    private final Executor delegate;
+    private final int limit;
+    private final Runnable onTermination;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+
+    BoundedExecutor(Executor delegate, int limit, Runnable onTermination) {
+        this.delegate = delegate;
+        this.limit = limit;
+        this.onTermination = onTermination;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Objects.requireNonNull(task);
+        if (shutdown) {
+            throw new RejectedExecutionException("Transfer scheduler has been closed");
+        }
+        queue.add(task);
+        dispatch();
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getActiveCount() {
+        return running.get();
+    }
+
+    private void dispatch() {
+        while (!queue.isEmpty()) {
+            int current = running.get();
+            if (current >= limit) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            Runnable task = queue.poll();
+            if (Objects.isNull(task)) {
+                running.decrementAndGet();
+                continue;
+            }
+
+            try {
+                delegate.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                run(task);
+            }
+        }
+        checkTerminated();
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            running.decrementAndGet();
+            dispatch();
+        }
+    }
+
+    private void checkTerminated() {
+        if (shutdown && running.get() == 0 && queue.isEmpty() && terminated.getCount() > 0) {
+            synchronized (terminated) {
+                if (terminated.getCount() > 0) {
+                    terminated.countDown();
+                    onTermination.run();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        checkTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<>();
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            pending.add(task);
+        }
+        checkTerminated();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+}
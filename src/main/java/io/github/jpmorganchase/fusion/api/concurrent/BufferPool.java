@@ -0,0 +1,61 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-size byte arrays recycled between uses, allocated lazily up to a maximum count.  Once all of them are in
+ * use, {@link #acquire()} blocks until one is released, bounding the memory held by work in flight.
+ */
+public class BufferPool {
+
+    private final int bufferSize;
+    private final int capacity;
+    private final BlockingQueue<byte[]> free;
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    public BufferPool(int bufferSize, int capacity) {
+        this.bufferSize = bufferSize;
+        this.capacity = Math.max(1, capacity);
+        this.free = new ArrayBlockingQueue<>(this.capacity);
+    }
+
+    /**
+     * @return a buffer of {@code bufferSize} bytes, whose content is undefined
+     * @throws InterruptedException if interrupted while waiting for a buffer to be released
+     */
+    public byte[] acquire() throws InterruptedException {
+        byte[] buffer = free.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        int current;
+        while ((current = allocated.get()) < capacity) {
+            if (allocated.compareAndSet(current, current + 1)) {
+                return new byte[bufferSize];
+            }
+        }
+        return free.take();
+    }
+
+    /**
+     * Returns a buffer obtained from {@link #acquire()} for reuse.
+     *
+     * @param buffer the buffer to return
+     */
+    public void release(byte[] buffer) {
+        if (!free.offer(buffer)) {
+            throw new IllegalStateException("Buffer released to a pool it was not acquired from");
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    int getAllocated() {
+        return allocated.get();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A call started on an executor ahead of the point at which its result is needed, so that it overlaps with other
+ * work of the caller.
+ * <p>
+ * The call is made exactly once.  A thread that needs the result before the executor has started the call makes it
+ * itself, so a caller never waits on a task still queued behind it; this keeps callers that themselves run on a
+ * bounded lane of the {@link TransferScheduler} from deadlocking on their own prefetches.
+ *
+ * @param <T> the type of the result
+ */
+public final class PrefetchedCall<T> {
+
+    private final Supplier<T> call;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private PrefetchedCall(Supplier<T> call) {
+        this.call = call;
+    }
+
+    /**
+     * Starts the call on the executor.
+     *
+     * @param call the call to make
+     * @param executor the executor to make the call on
+     * @param <T> the type of the result
+     * @return the prefetched call
+     */
+    public static <T> PrefetchedCall<T> start(Supplier<T> call, Executor executor) {
+        PrefetchedCall<T> prefetch = new PrefetchedCall<>(call);
+        try {
+            executor.execute(prefetch::run);
+        } catch (RejectedExecutionException e) {
+            // The call is made by the first thread that needs its result instead
+        }
+        return prefetch;
+    }
+
+    /**
+     * @return a future completed with the result of the call by whichever thread makes it
+     */
+    public CompletableFuture<T> future() {
+        return result;
+    }
+
+    /**
+     * Makes the call on the current thread, unless it has already been started.
+     */
+    public void run() {
+        if (!claimed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            result.complete(call.get());
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Returns the result of the call, making it on the current thread if it has not yet been started, or waiting
+     * for it to complete if it has.
+     *
+     * @return the result of the call
+     * @throws RuntimeException the exception thrown by the call
+     */
+    public T get() {
+        run();
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
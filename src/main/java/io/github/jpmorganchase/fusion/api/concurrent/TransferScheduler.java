@@ -0,0 +1,235 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import io.github.jpmorganchase.fusion.FusionConfiguration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the part transfers of uploads, downloads and stream prefetches for a single
+ * {@link io.github.jpmorganchase.fusion.Fusion} instance on one set of threads.
+ * <p>
+ * Downloads and uploads each have their own lane, bounded by {@link FusionConfiguration#getDownloadThreadPoolSize()}
+ * and {@link FusionConfiguration#getUploadThreadPoolSize()} respectively, so the limits apply across all transfers
+ * rather than per file.  Lanes queue work rather than blocking the caller.
+ * <p>
+ * When several files are downloaded at once, each file is coordinated on a files lane, also bounded by
+ * {@link FusionConfiguration#getDownloadThreadPoolSize()}, while its parts run on the download lane.  Work that waits
+ * on other lanes, such as these coordinators, runs on {@link #coordinators()}.  Both always run on threads owned by
+ * the scheduler, even when an executor is provided, so waiting work never holds the threads the work it waits on
+ * needs, however the provided executor is bounded.
+ * <p>
+ * A third lane runs the asynchronous API calls of an HTTP client that can only block, bounded by
+ * {@link FusionConfiguration#getMaxInFlightRequests()}, so fanning out many calls does not take a thread per call.
+ * <p>
+ * By default the scheduler owns a pool of daemon threads which is shut down on {@link #close()} once queued work has
+ * drained.  Alternatively an {@link ExecutorService} may be provided, in which case it is used to run the part and
+ * request lanes but is never shut down by the scheduler.
+ * <p>
+ * When virtual threads are requested and the running JDK supports them (21+), each part runs on its own virtual
+ * thread and the lanes are not bounded by thread count; instead a semaphore shared by the download, upload and request
+ * lanes bounds the number of requests in flight, whether for parts or asynchronous metadata calls, to
+ * {@link FusionConfiguration#getMaxInFlightRequests()}.  On older JDKs the scheduler falls back to the platform thread
+ * pool.
+ */
+@Slf4j
+public class TransferScheduler implements AutoCloseable {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final ExecutorService coordinatorPool;
+    private final BoundedExecutor downloads;
+    private final BoundedExecutor uploads;
+    private final BoundedExecutor requests;
+    private final BoundedExecutor files;
+    private final BoundedExecutor coordinators;
+
+    @Builder
+    public TransferScheduler(
+            ExecutorService executor,
+            int downloadConcurrency,
+            int uploadConcurrency,
+            boolean virtualThreads,
+            int maxInFlightRequests) {
+        Optional<ExecutorService> virtual =
+                Objects.isNull(executor) && virtualThreads ? newVirtualExecutor() : Optional.empty();
+        this.ownsExecutor = Objects.isNull(executor);
+        this.executor = ownsExecutor ? virtual.orElseGet(TransferScheduler::newDaemonPool) : executor;
+
+        if (virtualThreads && (!ownsExecutor || virtual.isPresent())) {
+            Semaphore inFlight = new Semaphore(boundOf(maxInFlightRequests));
+            Executor throttled = task -> this.executor.execute(() -> runWithPermit(inFlight, task));
+            this.downloads = new BoundedExecutor(throttled, Integer.MAX_VALUE, this::onLaneTerminated);
+            this.uploads = new BoundedExecutor(throttled, Integer.MAX_VALUE, this::onLaneTerminated);
+            this.requests = new BoundedExecutor(throttled, Integer.MAX_VALUE, this::onLaneTerminated);
+        } else {
+            this.downloads = new BoundedExecutor(this.executor, boundOf(downloadConcurrency), this::onLaneTerminated);
+            this.uploads = new BoundedExecutor(this.executor, boundOf(uploadConcurrency), this::onLaneTerminated);
+            this.requests = new BoundedExecutor(this.executor, boundOf(maxInFlightRequests), this::onLaneTerminated);
+        }
+
+        // Coordinators block on other lanes, so never share threads with a provided executor that may be bounded
+        this.coordinatorPool = ownsExecutor
+                ? this.executor
+                : (virtualThreads ? VirtualThreads.newExecutor() : Optional.<ExecutorService>empty())
+                        .orElseGet(TransferScheduler::newDaemonPool);
+        this.files = new BoundedExecutor(coordinatorPool, boundOf(downloadConcurrency), this::onLaneTerminated);
+        this.coordinators = new BoundedExecutor(coordinatorPool, Integer.MAX_VALUE, this::onLaneTerminated);
+    }
+
+    /**
+     * Returns the scheduler used by parts transferred without one of their own, with the default limits.  It is
+     * shared by all such transfers in the JVM and must not be closed; its idle threads exit on their own.
+     *
+     * @return the shared scheduler
+     */
+    public static TransferScheduler shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * @return the lane on which download part requests, including stream prefetches, are executed
+     */
+    public ExecutorService downloads() {
+        return downloads;
+    }
+
+    /**
+     * @return the lane on which upload part requests are executed
+     */
+    public ExecutorService uploads() {
+        return uploads;
+    }
+
+    /**
+     * @return the lane on which asynchronous API calls are made when the HTTP client blocks
+     */
+    public ExecutorService requests() {
+        return requests;
+    }
+
+    /**
+     * @return the lane on which each file of a multi-file download is coordinated
+     */
+    public ExecutorService files() {
+        return files;
+    }
+
+    /**
+     * @return the lane on which work that waits for other lanes to complete is executed, such as a download started
+     * asynchronously; it is not bounded, as its tasks spend their time waiting
+     */
+    public ExecutorService coordinators() {
+        return coordinators;
+    }
+
+    public boolean isClosed() {
+        return downloads.isShutdown();
+    }
+
+    /**
+     * Stops the scheduler accepting new work.  Work already submitted runs to completion, after which an owned thread
+     * pool is shut down.
+     */
+    @Override
+    public void close() {
+        log.debug("Closing transfer scheduler");
+        downloads.shutdown();
+        uploads.shutdown();
+        requests.shutdown();
+        files.shutdown();
+        coordinators.shutdown();
+    }
+
+    private void onLaneTerminated() {
+        if (downloads.isTerminated()
+                && uploads.isTerminated()
+                && requests.isTerminated()
+                && files.isTerminated()
+                && coordinators.isTerminated()) {
+            if (ownsExecutor) {
+                executor.shutdown();
+            } else {
+                coordinatorPool.shutdown();
+            }
+        }
+    }
+
+    private static void runWithPermit(Semaphore inFlight, Runnable task) {
+        inFlight.acquireUninterruptibly();
+        try {
+            task.run();
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static int boundOf(int concurrency) {
+        return concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static Optional<ExecutorService> newVirtualExecutor() {
+        Optional<ExecutorService> virtual = VirtualThreads.newExecutor();
+        if (virtual.isPresent()) {
+            log.debug("Running transfers on virtual threads");
+        } else {
+            log.warn("Virtual threads are not supported by this JDK, running transfers on platform threads");
+        }
+        return virtual;
+    }
+
+    private static ExecutorService newDaemonPool() {
+        return new ThreadPoolExecutor(
+                0,
+                Integer.MAX_VALUE,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new DaemonThreadFactory());
+    }
+
+    public static class TransferSchedulerBuilder {
+
+        /**
+         * Applies the concurrency limits of the provided {@link FusionConfiguration}.
+         *
+         * @param configuration the configuration to take limits from
+         * @return this builder
+         */
+        public TransferSchedulerBuilder configuration(FusionConfiguration configuration) {
+            this.downloadConcurrency = configuration.getDownloadThreadPoolSize();
+            this.uploadConcurrency = configuration.getUploadThreadPoolSize();
+            this.virtualThreads = configuration.isVirtualThreads();
+            this.maxInFlightRequests = configuration.getMaxInFlightRequests();
+            return this;
+        }
+    }
+
+    private static class Shared {
+        private static final TransferScheduler INSTANCE =
+                TransferScheduler.builder().build();
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "fusion-transfer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Looks up the virtual-thread-per-task executor at runtime, so the SDK can use virtual threads on JDK 21+ while
+ * still being built for, and run on, Java 8.
+ */
+@Slf4j
+final class VirtualThreads {
+
+    private static final String FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private static final Method FACTORY = lookup();
+
+    private VirtualThreads() {}
+
+    static boolean isAvailable() {
+        return Objects.nonNull(FACTORY);
+    }
+
+    /**
+     * @return a new executor starting a virtual thread per task, or empty if the running JDK does not support them
+     */
+    static Optional<ExecutorService> newExecutor() {
+        if (!isAvailable()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((ExecutorService) FACTORY.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            log.warn("Failed to create virtual thread executor", e);
+            return Optional.empty();
+        }
+    }
+
+    private static Method lookup() {
+        try {
+            return Executors.class.getMethod(FACTORY_METHOD);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -10,7 +10,9 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.*;
 
 @Getter
@@ -58,6 +60,16 @@ public class MultipartTransferContext {
         }
     }
 
+    public Set<Integer> uploadedPartNumbers() {
+        Set<Integer> partNumbers = new HashSet<>();
+        synchronized (this.parts) {
+            for (UploadedPartContext part : parts) {
+                partNumbers.add(part.getPartNo());
+            }
+        }
+        return partNumbers;
+    }
+
     public List<ByteBuffer> digests() {
 
         List<ByteBuffer> digests = new ArrayList<>();
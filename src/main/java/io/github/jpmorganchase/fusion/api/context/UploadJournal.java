@@ -0,0 +1,257 @@
+package io.github.jpmorganchase.fusion.api.context;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.github.jpmorganchase.fusion.api.exception.FileUploadException;
+import io.github.jpmorganchase.fusion.api.response.UploadedPart;
+import io.github.jpmorganchase.fusion.model.Operation;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk record of a multipart upload of a file, from which an interrupted upload can be resumed.
+ * <p>
+ * The journal is a file of JSON lines: the first describes the operation and the file being uploaded, and one line is
+ * appended for each part once the API has confirmed it.  A journal only resumes an upload of the same file, unchanged
+ * since the journal was started, to the same API path with the same part size.  A partially written final line, left
+ * by a process that died mid-write, is ignored, and is cut from the journal before further parts are appended.
+ */
+@Slf4j
+public class UploadJournal {
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String JOURNAL_WRITE_ERROR = "Unable to write upload journal %s";
+
+    private final Gson gson = new GsonBuilder().create();
+    private final Path path;
+    private final Header header;
+    private BufferedWriter writer;
+
+    private UploadJournal(Path path, Header header) {
+        this.path = path;
+        this.header = header;
+    }
+
+    /**
+     * Returns the journal for an upload of the given file to the given API path, which may or may not yet exist.
+     *
+     * @param directory the directory in which journals are kept
+     * @param apiPath the API path the file is uploaded to
+     * @param file the file being uploaded
+     * @param partSize the size in bytes of each part
+     * @return the journal for the upload
+     */
+    public static UploadJournal of(Path directory, String apiPath, File file, int partSize) {
+        Header header = new Header(null, apiPath, file.getAbsolutePath(), file.length(), file.lastModified(), partSize);
+        return new UploadJournal(directory.resolve(nameOf(apiPath, file) + JOURNAL_SUFFIX), header);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Reads the journal, if one exists for this upload.
+     *
+     * @return a context holding the operation and the parts already confirmed, or empty if there is nothing to resume
+     */
+    public Optional<MultipartTransferContext> resume() {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Header recorded = gson.fromJson(reader.readLine(), Header.class);
+            if (Objects.isNull(recorded) || !header.describesSameUploadAs(recorded)) {
+                log.info("Ignoring upload journal {} as it does not match the upload", path);
+                return Optional.empty();
+            }
+
+            MultipartTransferContext mtx = MultipartTransferContext.started(new Operation(recorded.operationId));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Part part = parsePart(line);
+                if (Objects.isNull(part)) {
+                    break;
+                }
+                mtx.partUploaded(UploadedPartContext.builder()
+                        .partNo(part.partNo)
+                        .digest(Base64.getDecoder().decode(part.digest))
+                        .part(part.part)
+                        .build());
+            }
+            log.info(
+                    "Resuming upload of {} with operation {}, {} parts already uploaded",
+                    header.file,
+                    recorded.operationId,
+                    mtx.getParts().size());
+            return Optional.of(mtx);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | JsonParseException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable upload journal {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts a new journal for the given operation, replacing any existing journal for this upload.
+     *
+     * @param operation the operation the upload was initiated with
+     */
+    public synchronized void started(Operation operation) {
+        try {
+            Files.createDirectories(path.getParent());
+            writer = Files.newBufferedWriter(
+                    path,
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            header.operationId = operation.getOperationId();
+            writeLine(gson.toJson(header));
+        } catch (IOException e) {
+            throw new FileUploadException(String.format(JOURNAL_WRITE_ERROR, path), e);
+        }
+    }
+
+    /**
+     * Records a part the API has confirmed.
+     *
+     * @param part the uploaded part
+     */
+    public synchronized void partUploaded(UploadedPartContext part) {
+        try {
+            if (Objects.isNull(writer)) {
+                truncateToLastCompleteLine();
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            }
+            writeLine(gson.toJson(
+                    new Part(part.getPartNo(), Base64.getEncoder().encodeToString(part.getDigest()), part.getPart())));
+        } catch (IOException e) {
+            throw new FileUploadException(String.format(JOURNAL_WRITE_ERROR, path), e);
+        }
+    }
+
+    /**
+     * Removes the journal, once the upload has completed or can no longer be resumed.
+     */
+    public synchronized void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Unable to delete upload journal {}", path, e);
+        }
+    }
+
+    /**
+     * Closes the journal, leaving it in place so the upload can be resumed.
+     */
+    public synchronized void close() {
+        if (Objects.nonNull(writer)) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Unable to close upload journal {}", path, e);
+            }
+            writer = null;
+        }
+    }
+
+    private Part parsePart(String line) {
+        try {
+            return gson.fromJson(line, Part.class);
+        } catch (JsonParseException e) {
+            log.debug("Ignoring incomplete entry in upload journal {}", path);
+            return null;
+        }
+    }
+
+    /**
+     * Cuts any partially written final line from the journal, so that a line appended next starts on a line of its
+     * own rather than running on from the incomplete entry.
+     */
+    private void truncateToLastCompleteLine() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer single = ByteBuffer.allocate(1);
+            long end = channel.size();
+            while (end > 0) {
+                single.clear();
+                channel.read(single, end - 1);
+                if (single.get(0) == '\n') {
+                    break;
+                }
+                end--;
+            }
+            if (end < channel.size()) {
+                log.info("Discarding incomplete entry at the end of upload journal {}", path);
+                channel.truncate(end);
+            }
+        }
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+        writer.flush();
+    }
+
+    private static String nameOf(String apiPath, File file) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(apiPath.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder();
+            for (byte b : digest.digest()) {
+                name.append(String.format("%02x", b));
+            }
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Header {
+        String operationId;
+        String apiPath;
+        String file;
+        long size;
+        long lastModified;
+        int partSize;
+
+        boolean describesSameUploadAs(Header other) {
+            return Objects.nonNull(other.operationId)
+                    && Objects.equals(apiPath, other.apiPath)
+                    && Objects.equals(file, other.file)
+                    && size == other.size
+                    && lastModified == other.lastModified
+                    && partSize == other.partSize;
+        }
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Part {
+        int partNo;
+        String digest;
+        UploadedPart part;
+    }
+}
@@ -2,12 +2,18 @@ package io.github.jpmorganchase.fusion.api.operations;
 
 import io.github.jpmorganchase.fusion.FusionConfiguration;
 import io.github.jpmorganchase.fusion.FusionException;
+import io.github.jpmorganchase.fusion.api.concurrent.TransferScheduler;
 import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.api.exception.FileDownloadException;
 import io.github.jpmorganchase.fusion.api.request.*;
 import io.github.jpmorganchase.fusion.api.response.GetPartResponse;
 import io.github.jpmorganchase.fusion.api.response.Head;
+import io.github.jpmorganchase.fusion.api.retry.Retrier;
 import io.github.jpmorganchase.fusion.api.stream.DeferredMultiPartInputStream;
+import io.github.jpmorganchase.fusion.api.writer.DownloadCheckpoint;
+import io.github.jpmorganchase.fusion.api.writer.FileChannelPartWriter;
+import io.github.jpmorganchase.fusion.api.writer.MappedPartWriter;
+import io.github.jpmorganchase.fusion.api.writer.PartWriter;
 import io.github.jpmorganchase.fusion.http.Client;
 import io.github.jpmorganchase.fusion.oauth.exception.OAuthException;
 import io.github.jpmorganchase.fusion.oauth.provider.FusionTokenProvider;
@@ -30,17 +36,34 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
     private static final String DOWNLOAD_FAILED_EXCEPTION_MSG =
             "Problem encountered attempting to download distribution";
 
-    private static final String FILE_RW_MODE = "rw";
-
     private PartFetcher partFetcher;
 
     /**
-     * Size of Thread-Pool to be used for uploading chunks of a multipart file
-     * See {@link FusionConfiguration} for defaults.
+     * Scheduler on which part downloads and stream prefetches are executed, shared across all downloads.
+     */
+    private TransferScheduler transferScheduler;
+
+    /**
+     * Whether multipart downloads to file are written through a memory mapping, and whether the mapping is forced
+     * to the storage device.  See {@link FusionConfiguration} for defaults.
+     */
+    boolean memoryMappedDownloads;
+
+    boolean forceMemoryMappedDownloads;
+
+    /**
+     * Number of parts requested ahead of the reader of a multipart stream, and the memory in MB that parts
+     * buffered ahead of the reader may occupy.  See {@link FusionConfiguration} for defaults.
      */
-    int downloadThreadPoolSize;
+    int downloadReadAhead;
 
-    private final Object lock = new Object();
+    int downloadReadAheadMemoryLimit;
+
+    /**
+     * Whether multipart downloads to file keep a checkpoint of the parts written, so that a failed download can be
+     * resumed.  See {@link FusionConfiguration} for defaults.
+     */
+    boolean resumableDownloads;
 
     /**
      * Calls the API to retrieve file data and saves to disk in the default location
@@ -154,9 +177,12 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
 
     protected void downloadToFile(DownloadRequest dr) {
 
-        Head head = callAPIToGetHead(dr);
+        GetPartResponse probe = callAPIToGetHead(dr);
+        Head head = probe.getHead();
         if (head.isMultipart()) {
             performMultiPartDownloadToFile(dr, head);
+        } else if (Objects.nonNull(probe.getContent())) {
+            writeSinglePartToFile(dr, probe.getContent());
         } else {
             performSinglePartDownloadToFile(dr, head);
         }
@@ -164,60 +190,81 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
 
     protected void performMultiPartDownloadToFile(DownloadRequest dr, Head head) {
 
-        ExecutorService executor = getExecutor();
-
-        try (RandomAccessFile raf = new RandomAccessFile(dr.getFilePath(), FILE_RW_MODE)) {
+        DownloadCheckpoint checkpoint = resumableDownloads ? DownloadCheckpoint.of(dr.getFilePath(), head) : null;
+        try {
+            BitSet completed = Objects.nonNull(checkpoint) ? checkpoint.resume() : new BitSet();
+
+            try (PartWriter writer = openPartWriter(dr, head)) {
+
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+                for (int p = 1; p <= head.getPartCount(); p++) {
+                    if (completed.get(p)) {
+                        continue;
+                    }
+                    final int part = p;
+                    futures.add(CompletableFuture.runAsync(
+                            () -> {
+                                partFetcher.fetch(
+                                        PartRequest.builder()
+                                                .partNo(part)
+                                                .downloadRequest(dr)
+                                                .build(),
+                                        getPartResponse -> {
+                                            writePartToFile(getPartResponse, writer);
+                                            return null;
+                                        });
+                                if (Objects.nonNull(checkpoint)) {
+                                    checkpoint.partCompleted(part);
+                                }
+                            },
+                            transferScheduler.downloads()));
+                }
 
-            raf.setLength(head.getContentLength());
-            List<CompletableFuture<Void>> futures = new ArrayList<>();
+                CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+                allFutures.join();
 
-            for (int p = 1; p <= head.getPartCount(); p++) {
-                final int part = p;
-                futures.add(CompletableFuture.runAsync(
-                        () -> {
-                            GetPartResponse getPartResponse = partFetcher.fetch(PartRequest.builder()
-                                    .partNo(part)
-                                    .downloadRequest(dr)
-                                    .build());
-                            writePartToFile(getPartResponse, raf);
-                        },
-                        executor));
+            } catch (IOException | CompletionException | CancellationException ex) {
+                throw handleExceptionThrownWhenAttemptingToGetParts(ex);
             }
 
-            CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-            allFutures.join();
-
-        } catch (IOException | CompletionException | CancellationException ex) {
-            throw handleExceptionThrownWhenAttemptingToGetParts(ex);
+            if (Objects.nonNull(checkpoint)) {
+                checkpoint.delete();
+            }
         } finally {
-            executor.shutdown();
+            if (Objects.nonNull(checkpoint)) {
+                checkpoint.close();
+            }
         }
         log.info("Distribution downloaded to file {}", dr.getFilePath());
     }
 
-    private void writePartToFile(GetPartResponse gpr, RandomAccessFile raf) {
-
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (InputStream input = gpr.getContent()) {
-
-            byte[] buffer = new byte[8192];
-            int bytesRead;
-            while ((bytesRead = input.read(buffer)) != -1) {
-                baos.write(buffer, 0, bytesRead);
-            }
+    private PartWriter openPartWriter(DownloadRequest dr, Head head) throws IOException {
+        if (memoryMappedDownloads) {
+            return MappedPartWriter.open(dr.getFilePath(), head.getContentLength(), forceMemoryMappedDownloads);
+        }
+        return FileChannelPartWriter.open(dr.getFilePath(), head.getContentLength());
+    }
 
-            synchronized (lock) {
-                raf.seek(gpr.getHead().getContentRange().getStart());
-                raf.write(baos.toByteArray());
-            }
+    /**
+     * Writes the part at its offset in the file.  Writing the same part again overwrites it in place, so a part whose
+     * content fails part-way through can be fetched and written afresh.
+     */
+    private void writePartToFile(GetPartResponse gpr, PartWriter writer) {
 
-        } catch (IOException ex) {
+        try (InputStream input = gpr.getContent()) {
+            writer.write(input, gpr.getHead().getContentRange().getStart());
+        } catch (IOException | IllegalArgumentException ex) {
             throw new FileDownloadException(WRITE_TO_FILE_EXCEPTION_MSG, ex);
         }
     }
 
     public void performSinglePartDownloadToFile(DownloadRequest dr, Head head) throws APICallException {
-        try (InputStream input = performSinglePartDownloadToStream(dr, head)) {
+        writeSinglePartToFile(dr, performSinglePartDownloadToStream(dr, head));
+    }
+
+    private void writeSinglePartToFile(DownloadRequest dr, InputStream content) {
+        try (InputStream input = content) {
             try (FileOutputStream fileOutput = new FileOutputStream(dr.getFilePath())) {
                 byte[] buf = new byte[8192];
                 int len;
@@ -232,18 +279,20 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
     }
 
     protected InputStream downloadToStream(DownloadRequest dr) {
-        Head head = callAPIToGetHead(dr);
+        GetPartResponse probe = callAPIToGetHead(dr);
+        Head head = probe.getHead();
         if (head.isMultipart()) {
             return performMultiPartDownloadToStream(dr, head);
+        } else if (Objects.nonNull(probe.getContent())) {
+            return probe.getContent();
         } else {
             return performSinglePartDownloadToStream(dr, head);
         }
     }
 
-    private Head callAPIToGetHead(DownloadRequest dr) {
-        return partFetcher
-                .fetch(PartRequest.builder().partNo(0).downloadRequest(dr).build())
-                .getHead();
+    private GetPartResponse callAPIToGetHead(DownloadRequest dr) {
+        return partFetcher.fetch(
+                PartRequest.builder().partNo(0).downloadRequest(dr).build());
     }
 
     protected InputStream performMultiPartDownloadToStream(DownloadRequest dr, Head head) {
@@ -259,8 +308,14 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
                         .build());
             }
 
+            int readAhead = readAheadFor(head);
             return DeferredMultiPartInputStream.builder()
-                    .parts(CallableParts.builder().parts(parts).build())
+                    .parts(CallableParts.builder()
+                            .parts(parts)
+                            .executor(transferScheduler.downloads())
+                            .buffered(readAhead > 1)
+                            .build())
+                    .readAhead(readAhead)
                     .build();
 
         } catch (IOException e) {
@@ -268,6 +323,19 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
         }
     }
 
+    /**
+     * The read-ahead depth for a stream, reduced so that the part being read plus those buffered ahead of it fit
+     * within the memory limit.
+     */
+    private int readAheadFor(Head head) {
+        if (downloadReadAhead <= 1 || head.getPartCount() <= 0) {
+            return 1;
+        }
+        long partSize = Math.max(1L, (head.getContentLength() + head.getPartCount() - 1) / head.getPartCount());
+        long partsThatFit = downloadReadAheadMemoryLimit * (1024L * 1024L) / partSize - 1;
+        return (int) Math.max(1L, Math.min(downloadReadAhead, partsThatFit));
+    }
+
     public InputStream performSinglePartDownloadToStream(DownloadRequest dr, Head head) throws APICallException {
         return partFetcher
                 .fetch(PartRequest.builder()
@@ -287,10 +355,6 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
         return new FileDownloadException(DOWNLOAD_FAILED_EXCEPTION_MSG, cause);
     }
 
-    private ExecutorService getExecutor() {
-        return Executors.newFixedThreadPool(downloadThreadPoolSize);
-    }
-
     public static FusionAPIDownloadOperationsBuilder builder() {
         return new CustomFusionAPIDownloadOperationsBuilder();
     }
@@ -300,13 +364,20 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
         protected FusionConfiguration configuration =
                 FusionConfiguration.builder().build();
 
-        int downloadThreadPoolSize;
+        TransferScheduler transferScheduler;
+        boolean memoryMappedDownloads;
+        boolean forceMemoryMappedDownloads;
+        int downloadReadAhead;
+        int downloadReadAheadMemoryLimit;
+        boolean resumableDownloads;
         Client httpClient;
 
         FusionTokenProvider fusionTokenProvider;
 
         PartFetcher partFetcher;
 
+        Retrier retrier;
+
         public FusionAPIDownloadOperationsBuilder configuration(FusionConfiguration configuration) {
             this.configuration = configuration;
             return this;
@@ -322,9 +393,50 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
             return this;
         }
 
+        /**
+         * Retries failed part requests under the provided {@link Retrier}, rather than one created from the
+         * configured {@link io.github.jpmorganchase.fusion.api.retry.RetryPolicy}.
+         *
+         * @param retrier the retrier shared across transfers
+         * @return this builder
+         */
+        public FusionAPIDownloadOperationsBuilder retrier(Retrier retrier) {
+            this.retrier = retrier;
+            return this;
+        }
+
+        public FusionAPIDownloadOperationsBuilder transferScheduler(TransferScheduler transferScheduler) {
+            this.transferScheduler = transferScheduler;
+            return this;
+        }
+
         @SuppressWarnings("PIT")
-        private FusionAPIDownloadOperationsBuilder downloadThreadPoolSize(int downloadThreadPoolSize) {
-            this.downloadThreadPoolSize = downloadThreadPoolSize;
+        private FusionAPIDownloadOperationsBuilder memoryMappedDownloads(boolean memoryMappedDownloads) {
+            this.memoryMappedDownloads = memoryMappedDownloads;
+            return this;
+        }
+
+        @SuppressWarnings("PIT")
+        private FusionAPIDownloadOperationsBuilder forceMemoryMappedDownloads(boolean forceMemoryMappedDownloads) {
+            this.forceMemoryMappedDownloads = forceMemoryMappedDownloads;
+            return this;
+        }
+
+        @SuppressWarnings("PIT")
+        private FusionAPIDownloadOperationsBuilder downloadReadAhead(int downloadReadAhead) {
+            this.downloadReadAhead = downloadReadAhead;
+            return this;
+        }
+
+        @SuppressWarnings("PIT")
+        private FusionAPIDownloadOperationsBuilder downloadReadAheadMemoryLimit(int downloadReadAheadMemoryLimit) {
+            this.downloadReadAheadMemoryLimit = downloadReadAheadMemoryLimit;
+            return this;
+        }
+
+        @SuppressWarnings("PIT")
+        private FusionAPIDownloadOperationsBuilder resumableDownloads(boolean resumableDownloads) {
+            this.resumableDownloads = resumableDownloads;
             return this;
         }
 
@@ -337,12 +449,26 @@ public class FusionAPIDownloadOperations implements APIDownloadOperations {
     private static class CustomFusionAPIDownloadOperationsBuilder extends FusionAPIDownloadOperationsBuilder {
         @Override
         public FusionAPIDownloadOperations build() {
-            this.downloadThreadPoolSize = configuration.getDownloadThreadPoolSize();
+            if (Objects.isNull(transferScheduler)) {
+                this.transferScheduler =
+                        TransferScheduler.builder().configuration(configuration).build();
+            }
+            this.memoryMappedDownloads = configuration.isMemoryMappedDownloads();
+            this.forceMemoryMappedDownloads = configuration.isForceMemoryMappedDownloads();
+            this.downloadReadAhead = configuration.getDownloadReadAhead();
+            this.downloadReadAheadMemoryLimit = configuration.getDownloadReadAheadMemoryLimit();
+            this.resumableDownloads = configuration.isResumableDownloads();
+
+            if (Objects.isNull(retrier)) {
+                this.retrier = new Retrier(configuration.getRetryPolicy());
+            }
 
             if (Objects.isNull(partFetcher))
                 this.partFetcher = PartFetcher.builder()
                         .client(httpClient)
                         .credentials(fusionTokenProvider)
+                        .configuration(configuration)
+                        .retrier(retrier)
                         .build();
 
             return super.build();
@@ -1,20 +1,26 @@
 package io.github.jpmorganchase.fusion.api.operations;
 
 import static io.github.jpmorganchase.fusion.api.tools.ResponseChecker.checkResponseStatus;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 
 import com.google.gson.GsonBuilder;
 import io.github.jpmorganchase.fusion.FusionConfiguration;
 import io.github.jpmorganchase.fusion.FusionException;
+import io.github.jpmorganchase.fusion.api.concurrent.BufferPool;
+import io.github.jpmorganchase.fusion.api.concurrent.TransferScheduler;
 import io.github.jpmorganchase.fusion.api.context.MultipartTransferContext;
+import io.github.jpmorganchase.fusion.api.context.UploadJournal;
 import io.github.jpmorganchase.fusion.api.context.UploadedPartContext;
 import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.api.exception.ApiInputValidationException;
 import io.github.jpmorganchase.fusion.api.exception.FileUploadException;
 import io.github.jpmorganchase.fusion.api.request.UploadRequest;
 import io.github.jpmorganchase.fusion.api.response.UploadedParts;
+import io.github.jpmorganchase.fusion.api.retry.Retrier;
 import io.github.jpmorganchase.fusion.digest.AlgoSpecificDigestProducer;
 import io.github.jpmorganchase.fusion.digest.DigestDescriptor;
 import io.github.jpmorganchase.fusion.digest.DigestProducer;
+import io.github.jpmorganchase.fusion.digest.RunningDigest;
 import io.github.jpmorganchase.fusion.http.Client;
 import io.github.jpmorganchase.fusion.http.HttpResponse;
 import io.github.jpmorganchase.fusion.oauth.exception.OAuthException;
@@ -27,6 +33,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.concurrent.*;
 import lombok.Builder;
@@ -44,6 +55,8 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
     private static final String UPLOAD_FAILED_EXCEPTION_MSG =
             "Exception encountered while attempting to upload part, please try again";
 
+    private static final String FILE_READ_ERROR = "Unable to read data from file %s";
+
     private static final String INITIATE_MULTIPART_UPLOAD_PATH = "/operationType/upload";
 
     private static final String PART_UPLOAD_PATH = "%s/operations/upload?operationId=%s&partNumber=%d";
@@ -74,11 +87,34 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
     int uploadPartSize;
 
     /**
-     * Size of Thread-Pool to be used for uploading chunks of a multipart file
+     * Maximum number of parts held in memory awaiting transfer, across all uploads.
      * See {@link FusionConfiguration} for default values.
      */
     int uploadThreadPoolSize;
 
+    /**
+     * Whether multipart uploads of files are journaled so that they can be resumed, and the directory in which the
+     * journals are kept.  See {@link FusionConfiguration} for default values.
+     */
+    boolean resumableUploads;
+
+    String uploadJournalPath;
+
+    /**
+     * Part-sized buffers recycled across uploads, bounding the parts held in memory to uploadThreadPoolSize.
+     */
+    private final BufferPool partBuffers;
+
+    /**
+     * Scheduler on which part uploads are executed, shared across all uploads.
+     */
+    private final TransferScheduler transferScheduler;
+
+    /**
+     * Retries failed part uploads, shared across all uploads.
+     */
+    private final Retrier retrier;
+
     /**
      * Call the API upload endpoint to load a distribution
      *
@@ -166,6 +202,10 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
     }
 
     protected void performSinglePartUpload(UploadRequest ur) {
+        if (Objects.nonNull(ur.getFile())) {
+            performSinglePartFileUpload(ur);
+            return;
+        }
 
         DigestDescriptor upload = digestProducer.execute(ur.getData());
 
@@ -182,7 +222,37 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
         checkResponseStatus(response);
     }
 
+    /**
+     * Uploads a file in a single part, digesting it in one pass through a file channel and then streaming it from
+     * disk with a fixed Content-Length, so its content is never held on the heap.
+     */
+    protected void performSinglePartFileUpload(UploadRequest ur) {
+        Path file = ur.getFile().toPath();
+        DigestDescriptor upload = digestProducer.execute(file);
+
+        Map<String, String> requestHeaders = ur.getHeaders();
+        requestHeaders.put("accept", "*/*");
+        requestHeaders.put("Content-Type", "application/octet-stream");
+        requestHeaders.put("Content-Length", String.valueOf(upload.getSize()));
+        setSecurityHeaders(ur, requestHeaders);
+        setDistributionHeaders(ur, upload, requestHeaders);
+
+        HttpResponse<String> response;
+        try (InputStream ignored = ur.getData();
+                InputStream body = Files.newInputStream(file)) {
+            response = httpClient.put(ur.getApiPath(), requestHeaders, body);
+        } catch (IOException e) {
+            throw new ApiInputValidationException(String.format(FILE_READ_ERROR, file), e);
+        }
+
+        checkResponseStatus(response);
+    }
+
     protected void performMultiPartUpload(UploadRequest ur) {
+        if (resumableUploads && Objects.nonNull(ur.getFile())) {
+            performResumableMultiPartUpload(ur);
+            return;
+        }
 
         MultipartTransferContext mtx = callAPIToInitiateMultiPartUpload(ur);
         try {
@@ -198,6 +268,48 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
         }
     }
 
+    /**
+     * Performs a multipart upload of a file, recording each confirmed part in an {@link UploadJournal}.  If a journal
+     * exists for an earlier, interrupted upload of the same file, that upload's operation is resumed and only the
+     * parts it had not confirmed are uploaded.
+     * <p>
+     * A failed upload is not aborted, so that it can be resumed; its journal is removed once it completes, or if the
+     * API no longer recognises the resumed operation.
+     */
+    protected void performResumableMultiPartUpload(UploadRequest ur) {
+
+        UploadJournal journal = UploadJournal.of(
+                Paths.get(uploadJournalPath), ur.getApiPath(), ur.getFile(), partBuffers.getBufferSize());
+        Optional<MultipartTransferContext> resumed = journal.resume();
+
+        try {
+            MultipartTransferContext mtx;
+            if (resumed.isPresent()) {
+                mtx = resumed.get();
+            } else {
+                mtx = callAPIToInitiateMultiPartUpload(ur);
+                if (!mtx.canProceedToTransfer()) {
+                    return;
+                }
+                journal.started(mtx.getOperation());
+            }
+
+            mtx = callAPIToUploadFileParts(mtx, ur, journal);
+            if (mtx.canProceedToComplete()) {
+                callAPIToCompleteMultiPartUpload(mtx, ur);
+            }
+            journal.delete();
+        } catch (APICallException e) {
+            if (resumed.isPresent() && e.getResponseCode() == HTTP_NOT_FOUND) {
+                logger.warn("Operation for upload journal {} no longer exists, removing journal", journal.getPath());
+                journal.delete();
+            }
+            throw e;
+        } finally {
+            journal.close();
+        }
+    }
+
     protected MultipartTransferContext callAPIToInitiateMultiPartUpload(UploadRequest ur) {
         String startUploadPath = ur.getApiPath() + INITIATE_MULTIPART_UPLOAD_PATH;
 
@@ -213,27 +325,31 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
     }
 
     protected MultipartTransferContext callAPIToUploadParts(MultipartTransferContext mtx, UploadRequest ur) {
+        if (Objects.nonNull(ur.getFile())) {
+            return callAPIToUploadFileParts(mtx, ur);
+        }
 
-        int chunkSize = uploadPartSize * (1024 * 1024);
-
-        byte[] buffer = new byte[chunkSize];
+        int chunkSize = partBuffers.getBufferSize();
         int partCnt = 1;
         int totalBytes = 0;
 
-        ExecutorService executor = Executors.newFixedThreadPool(uploadThreadPoolSize);
-        Semaphore semaphore = new Semaphore(uploadThreadPoolSize);
-
         try {
             List<CompletableFuture<Void>> futures = new ArrayList<>();
 
-            int bytesRead;
-            while ((bytesRead = ur.getData().read(buffer)) != -1) {
-                semaphore.acquire();
+            while (true) {
+                byte[] buffer = partBuffers.acquire();
+                RunningDigest digest = digestProducer.start();
 
-                while (bytesRead < buffer.length) {
-                    int tempBytesRead = ur.getData().read(buffer, bytesRead, (chunkSize - bytesRead));
-                    if (-1 == tempBytesRead) break;
-                    bytesRead += tempBytesRead;
+                int bytesRead;
+                try {
+                    bytesRead = fill(ur.getData(), buffer, digest);
+                } catch (IOException | RuntimeException e) {
+                    partBuffers.release(buffer);
+                    throw e;
+                }
+                if (bytesRead == 0) {
+                    partBuffers.release(buffer);
+                    break;
                 }
 
                 logger.debug(
@@ -241,21 +357,24 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
 
                 final int currentPartCnt = partCnt;
                 final int currentBytesRead = bytesRead;
-                byte[] taskBuffer = Arrays.copyOf(buffer, bytesRead);
 
                 futures.add(CompletableFuture.runAsync(
                         () -> {
                             try {
-                                mtx.partUploaded(
-                                        callAPIToUploadPart(mtx, ur, taskBuffer, currentBytesRead, currentPartCnt));
+                                mtx.partUploaded(callAPIToUploadPart(
+                                        mtx, ur, buffer, currentBytesRead, currentPartCnt, digest.complete()));
                             } finally {
-                                semaphore.release();
+                                partBuffers.release(buffer);
                             }
                         },
-                        executor));
+                        transferScheduler.uploads()));
 
                 partCnt++;
                 totalBytes += bytesRead;
+
+                if (bytesRead < chunkSize) {
+                    break;
+                }
             }
 
             for (CompletableFuture<Void> future : futures) {
@@ -264,22 +383,138 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
 
         } catch (IOException | InterruptedException | ExecutionException e) {
             throw handleExceptionThrownWhenAttemptingToUploadParts(e);
-        } finally {
-            executor.shutdown();
         }
 
         return mtx.transferred(chunkSize, totalBytes, partCnt);
     }
 
+    /**
+     * Uploads the parts of a file in parallel.  Rather than the file being read sequentially by the calling thread,
+     * each task reads its own part from the file's channel at the part's offset, digests it and uploads it.
+     * <p>
+     * As for uploads from a stream, each part's buffer is taken by the calling thread before the task is queued, so
+     * tasks on the upload lane never wait for a buffer held by a task queued behind them.
+     */
+    protected MultipartTransferContext callAPIToUploadFileParts(MultipartTransferContext mtx, UploadRequest ur) {
+        return callAPIToUploadFileParts(mtx, ur, null);
+    }
+
+    /**
+     * As {@link #callAPIToUploadFileParts(MultipartTransferContext, UploadRequest)}, skipping parts the context already
+     * holds and recording each part uploaded in the provided journal, if any.
+     */
+    protected MultipartTransferContext callAPIToUploadFileParts(
+            MultipartTransferContext mtx, UploadRequest ur, UploadJournal journal) {
+
+        int chunkSize = partBuffers.getBufferSize();
+
+        try (InputStream ignored = ur.getData();
+                FileChannel channel = FileChannel.open(ur.getFile().toPath(), StandardOpenOption.READ)) {
+
+            long totalBytes = channel.size();
+            int partCount = (int) ((totalBytes + chunkSize - 1) / chunkSize);
+
+            Set<Integer> alreadyUploaded = mtx.uploadedPartNumbers();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int partNo = 1; partNo <= partCount; partNo++) {
+                if (alreadyUploaded.contains(partNo)) {
+                    logger.debug("Skipping part number {}, already uploaded", partNo);
+                    continue;
+                }
+                final int currentPartNo = partNo;
+                final long position = (long) (partNo - 1) * chunkSize;
+                final int length = (int) Math.min(chunkSize, totalBytes - position);
+
+                logger.debug("Creating upload task for part number {}, bytes in this part {}", partNo, length);
+
+                byte[] buffer = partBuffers.acquire();
+                try {
+                    futures.add(CompletableFuture.runAsync(
+                            () -> {
+                                try {
+                                    UploadedPartContext part = callAPIToUploadFilePart(
+                                            mtx, ur, channel, buffer, position, length, currentPartNo);
+                                    if (Objects.nonNull(journal)) {
+                                        journal.partUploaded(part);
+                                    }
+                                    mtx.partUploaded(part);
+                                } finally {
+                                    partBuffers.release(buffer);
+                                }
+                            },
+                            transferScheduler.uploads()));
+                } catch (RuntimeException e) {
+                    partBuffers.release(buffer);
+                    throw e;
+                }
+            }
+
+            for (CompletableFuture<Void> future : futures) {
+                future.get();
+            }
+
+            return mtx.transferred(chunkSize, totalBytes, partCount);
+
+        } catch (IOException | InterruptedException | ExecutionException e) {
+            throw handleExceptionThrownWhenAttemptingToUploadParts(e);
+        }
+    }
+
+    private UploadedPartContext callAPIToUploadFilePart(
+            MultipartTransferContext mtx,
+            UploadRequest ur,
+            FileChannel channel,
+            byte[] buffer,
+            long position,
+            int length,
+            int partNo) {
+
+        try {
+            RunningDigest digest = digestProducer.start();
+            ByteBuffer slice = ByteBuffer.wrap(buffer, 0, length);
+            while (slice.hasRemaining()) {
+                int bytesRead = channel.read(slice, position + slice.position());
+                if (-1 == bytesRead) {
+                    throw new IOException(String.format(FILE_READ_ERROR, ur.getFile()));
+                }
+            }
+            digest.update(buffer, 0, length);
+            return callAPIToUploadPart(mtx, ur, buffer, length, partNo, digest.complete());
+        } catch (IOException e) {
+            throw new FileUploadException(UPLOAD_FAILED_EXCEPTION_MSG, e);
+        }
+    }
+
+    /**
+     * Reads from the provided stream until the buffer is full or the stream is exhausted, adding each chunk read
+     * to the digest as it arrives.
+     *
+     * @return the number of bytes read into the buffer, zero if the stream was already exhausted
+     */
+    private static int fill(InputStream data, byte[] buffer, RunningDigest digest) throws IOException {
+        int filled = 0;
+        while (filled < buffer.length) {
+            int bytesRead = data.read(buffer, filled, buffer.length - filled);
+            if (-1 == bytesRead) {
+                break;
+            }
+            digest.update(buffer, filled, bytesRead);
+            filled += bytesRead;
+        }
+        return filled;
+    }
+
     protected UploadedPartContext callAPIToUploadPart(
-            MultipartTransferContext mtx, UploadRequest ur, byte[] part, int read, int partNo) {
+            MultipartTransferContext mtx,
+            UploadRequest ur,
+            byte[] part,
+            int read,
+            int partNo,
+            DigestDescriptor digestOfPart) {
 
         String partTransferPath = String.format(
                 PART_UPLOAD_PATH, ur.getApiPath(), mtx.getOperation().getOperationId(), partNo);
 
-        DigestDescriptor digestOfPart = digestProducer.execute(
-                new ByteArrayInputStream(ByteBuffer.wrap(part, 0, read).array()));
-
         Map<String, String> requestHeaders = ur.getHeaders();
         setSecurityHeaders(ur, requestHeaders);
         requestHeaders.put("accept", "*/*");
@@ -287,9 +522,11 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
         requestHeaders.put("Digest", "SHA-256=" + digestOfPart.getChecksum());
 
         HttpResponse<String> partResponse =
-                httpClient.put(partTransferPath, requestHeaders, new ByteArrayInputStream(digestOfPart.getContent()));
-
-        checkResponseStatus(partResponse);
+                retrier.call(String.format("Upload of part %d to %s", partNo, ur.getApiPath()), () -> {
+                    HttpResponse<String> response = httpClient.put(partTransferPath, requestHeaders, part, 0, read);
+                    checkResponseStatus(response);
+                    return response;
+                });
 
         return UploadedPartContext.builder()
                 .digest(digestOfPart.getRawChecksum())
@@ -373,7 +610,12 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
         protected FusionTokenProvider fusionTokenProvider;
         protected DigestProducer digestProducer;
         protected APIResponseParser responseParser;
+        protected TransferScheduler transferScheduler;
+        protected BufferPool partBuffers;
+        protected Retrier retrier;
         int singlePartUploadSizeLimit;
+        boolean resumableUploads;
+        String uploadJournalPath;
         int uploadPartSize;
         int uploadThreadPoolSize;
 
@@ -399,6 +641,18 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
             this.uploadThreadPoolSize = uploadThreadPoolSize;
             return this;
         }
+
+        @SuppressWarnings("PIT")
+        private FusionAPIUploadOperationsBuilder resumableUploads(boolean resumableUploads) {
+            this.resumableUploads = resumableUploads;
+            return this;
+        }
+
+        @SuppressWarnings("PIT")
+        private FusionAPIUploadOperationsBuilder uploadJournalPath(String uploadJournalPath) {
+            this.uploadJournalPath = uploadJournalPath;
+            return this;
+        }
     }
 
     private static class CustomFusionAPIUploadOperationsBuilder extends FusionAPIUploadOperationsBuilder {
@@ -407,6 +661,21 @@ public class FusionAPIUploadOperations implements APIUploadOperations {
             this.singlePartUploadSizeLimit = configuration.getSinglePartUploadSizeLimit();
             this.uploadPartSize = configuration.getUploadPartSize();
             this.uploadThreadPoolSize = configuration.getUploadThreadPoolSize();
+            this.resumableUploads = configuration.isResumableUploads();
+            this.uploadJournalPath = configuration.getUploadJournalPath();
+
+            if (Objects.isNull(transferScheduler)) {
+                this.transferScheduler =
+                        TransferScheduler.builder().configuration(configuration).build();
+            }
+
+            if (Objects.isNull(retrier)) {
+                this.retrier = new Retrier(configuration.getRetryPolicy());
+            }
+
+            if (Objects.isNull(partBuffers)) {
+                this.partBuffers = new BufferPool(uploadPartSize * (1024 * 1024), uploadThreadPoolSize);
+            }
 
             if (Objects.isNull(digestProducer)) {
                 this.digestProducer = AlgoSpecificDigestProducer.builder()
@@ -0,0 +1,94 @@
+package io.github.jpmorganchase.fusion.api.paging;
+
+import io.github.jpmorganchase.fusion.http.HttpResponse;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterates over the resources of a paginated listing, requesting each page only once the resources of the page
+ * before it have been consumed.
+ * <p>
+ * Each page is parsed on its own as it arrives, so only one page, and the resources parsed from it, is held at a
+ * time however long the listing.  A page is followed by another while its response carries an
+ * {@code x-jpmc-next-token} header.  Not safe for use from multiple threads.
+ *
+ * @param <T> the type of resource listed
+ */
+@Slf4j
+public class PageIterator<T> implements Iterator<T> {
+
+    private static final String NEXT_TOKEN = "x-jpmc-next-token";
+
+    private final Function<String, HttpResponse<String>> pageFetcher;
+    private final Function<String, Map<String, T>> pageParser;
+
+    private Iterator<T> page = Collections.emptyIterator();
+    private String nextToken;
+    private boolean lastPageFetched;
+    private int pageCount;
+
+    /**
+     * @param pageFetcher requests a page, given the token of the page or null for the first
+     * @param pageParser parses the resources of a page from its body
+     */
+    public PageIterator(
+            Function<String, HttpResponse<String>> pageFetcher, Function<String, Map<String, T>> pageParser) {
+        this.pageFetcher = pageFetcher;
+        this.pageParser = pageParser;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !lastPageFetched) {
+            fetchNextPage();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * @return the number of pages requested so far
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    private void fetchNextPage() {
+        pageCount++;
+        log.debug("Fetching page {}", pageCount);
+        HttpResponse<String> response = pageFetcher.apply(nextToken);
+
+        nextToken = headerValue(response.getHeaders());
+        lastPageFetched = Objects.isNull(nextToken) || nextToken.isEmpty();
+
+        Map<String, T> resources = pageParser.apply(response.getBody());
+        page = Objects.nonNull(resources) ? resources.values().iterator() : Collections.emptyIterator();
+    }
+
+    private static String headerValue(Map<String, List<String>> headers) {
+        if (Objects.isNull(headers)) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (NEXT_TOKEN.equalsIgnoreCase(header.getKey())
+                    && Objects.nonNull(header.getValue())
+                    && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.jpmorganchase.fusion.api.request;
 
+import io.github.jpmorganchase.fusion.api.response.GetPartResponse;
 import java.io.InputStream;
 import java.util.concurrent.Callable;
 import lombok.Builder;
@@ -17,12 +18,17 @@ public class CallablePart implements Callable<InputStream> {
 
     @Override
     public InputStream call() {
+        return fetch().getContent();
+    }
+
+    /**
+     * @return the response to the request for the part, including its head
+     */
+    public GetPartResponse fetch() {
         log.info("Preparing to make a call to download part {} for download request {}", partNo, downloadRequest);
-        return partFetcher
-                .fetch(PartRequest.builder()
-                        .partNo(partNo)
-                        .downloadRequest(downloadRequest)
-                        .build())
-                .getContent();
+        return partFetcher.fetch(PartRequest.builder()
+                .partNo(partNo)
+                .downloadRequest(downloadRequest)
+                .build());
     }
 }
@@ -1,12 +1,16 @@
 package io.github.jpmorganchase.fusion.api.request;
 
+import io.github.jpmorganchase.fusion.api.concurrent.TransferScheduler;
+import io.github.jpmorganchase.fusion.api.response.GetPartResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
@@ -15,30 +19,91 @@ import lombok.extern.slf4j.Slf4j;
 @Builder
 public class CallableParts {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
     LinkedList<CallablePart> parts;
     ExecutorService executor;
 
-    public CallableParts(LinkedList<CallablePart> parts, ExecutorService executor) {
+    /**
+     * Whether each part is read fully into memory by the executor, so that parts requested ahead of the reader are
+     * downloaded rather than left waiting on an open connection.
+     */
+    boolean buffered;
+
+    public CallableParts(LinkedList<CallablePart> parts, ExecutorService executor, boolean buffered) {
         this.parts = new LinkedList<>(parts);
         this.executor = executor;
+        this.buffered = buffered;
     }
 
     public Future<InputStream> next() {
         final CallablePart callablePart = parts.poll();
 
         if (Objects.nonNull(callablePart)) {
+            if (buffered) {
+                return executor.submit(() -> buffer(callablePart.fetch()));
+            }
             return executor.submit(callablePart);
         }
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * Reads a part into a single array, sized from the part's Content-Length when it is known, which is then read
+     * back in place rather than copied.
+     */
+    private static InputStream buffer(GetPartResponse part) throws IOException {
+        try (InputStream in = part.getContent()) {
+            PartBuffer buffer = new PartBuffer(initialSizeOf(part));
+            buffer.readFrom(in);
+            return buffer.toInputStream();
+        }
+    }
+
+    private static int initialSizeOf(GetPartResponse part) {
+        long contentLength = Objects.nonNull(part.getHead()) ? part.getHead().getContentLength() : 0;
+        return contentLength > 0 && contentLength <= MAX_ARRAY_SIZE ? (int) contentLength : BUFFER_SIZE;
+    }
+
+    /**
+     * Byte array that grows as a part is read into it, only once it has been filled and more content follows.
+     */
+    private static final class PartBuffer extends ByteArrayOutputStream {
+
+        PartBuffer(int size) {
+            super(size);
+        }
+
+        void readFrom(InputStream in) throws IOException {
+            while (true) {
+                if (count == buf.length) {
+                    int next = in.read();
+                    if (next == -1) {
+                        return;
+                    }
+                    buf = Arrays.copyOf(buf, (int) Math.min(MAX_ARRAY_SIZE, Math.max(BUFFER_SIZE, 2L * buf.length)));
+                    buf[count++] = (byte) next;
+                }
+                int bytesRead = in.read(buf, count, buf.length - count);
+                if (bytesRead == -1) {
+                    return;
+                }
+                count += bytesRead;
+            }
+        }
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+
     public static class CallablePartsBuilder {
         public CallableParts build() throws IOException {
             if (this.executor == null) {
-                this.executor = Executors.newSingleThreadExecutor();
-                ;
+                this.executor = TransferScheduler.shared().downloads();
             }
-            return new CallableParts(this.parts, this.executor);
+            return new CallableParts(this.parts, this.executor, this.buffered);
         }
     }
 }
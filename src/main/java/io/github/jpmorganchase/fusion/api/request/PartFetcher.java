@@ -6,16 +6,19 @@ import io.github.jpmorganchase.fusion.FusionConfiguration;
 import io.github.jpmorganchase.fusion.api.exception.FileDownloadException;
 import io.github.jpmorganchase.fusion.api.response.GetPartResponse;
 import io.github.jpmorganchase.fusion.api.response.Head;
+import io.github.jpmorganchase.fusion.api.retry.Retrier;
 import io.github.jpmorganchase.fusion.api.stream.IntegrityCheckingInputStream;
 import io.github.jpmorganchase.fusion.digest.PartChecker;
 import io.github.jpmorganchase.fusion.http.Client;
 import io.github.jpmorganchase.fusion.http.HttpResponse;
 import io.github.jpmorganchase.fusion.oauth.provider.FusionTokenProvider;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -33,18 +36,59 @@ public class PartFetcher {
     FusionTokenProvider credentials;
     FusionConfiguration configuration;
 
+    /**
+     * Retries failed requests for a part, if provided.
+     */
+    Retrier retrier;
+
     /**
      * Makes a call to get the part corresponding to the part number in the {@link PartRequest}.
      * If optional {@link Head} is not specified, the {@link Head} from the response will be
      * returned.  For single part downloads, {@link Head} should always be specified in the {@link} PartRequest to
      * ensure the correct checksum is used to verify the download.
      * <p>
-     * To simply return the head object of a download, part number should be provided as 0.
+     * To simply return the head object of a download, part number should be provided as 0.  The head is
+     * retrieved with an HTTP HEAD, so no content is returned, unless
+     * {@link FusionConfiguration#isReuseProbeResponseForSinglePartDownloads()} is enabled.  In that case a GET is
+     * made and, for single part downloads, the verified content is returned alongside the head.
+     *
+     * <p>
+     * If a {@link Retrier} is provided, a request that fails with a retryable error is retried under its policy.
+     * Only the request for the part is retried; a failure while reading the returned content is not.  To retry both,
+     * use {@link #fetch(PartRequest, Function)}.
      *
      * @param pr - {@link PartRequest}
      * @return {@link GetPartResponse}
      */
     public GetPartResponse fetch(PartRequest pr) {
+        if (Objects.isNull(retrier)) {
+            return fetchOnce(pr);
+        }
+        return retrier.call(describe(pr), () -> fetchOnce(pr));
+    }
+
+    /**
+     * As {@link #fetch(PartRequest)}, handing the response to the given reader.  If a {@link Retrier} is provided,
+     * a failure while the reader consumes the content is retried along with the request, so the reader must be safe
+     * to repeat.
+     *
+     * @param pr - {@link PartRequest}
+     * @param reader consumes the response
+     * @param <T> the result of the reader
+     * @return the result of the reader for the first successful attempt
+     */
+    public <T> T fetch(PartRequest pr, Function<GetPartResponse, T> reader) {
+        if (Objects.isNull(retrier)) {
+            return reader.apply(fetchOnce(pr));
+        }
+        return retrier.call(describe(pr), () -> reader.apply(fetchOnce(pr)));
+    }
+
+    private GetPartResponse fetchOnce(PartRequest pr) {
+        if (pr.isHeadRequest()) {
+            return isProbeResponseReusable() ? fetchHeadWithContent(pr) : fetchHead(pr);
+        }
+
         HttpResponse<InputStream> response = callClientForInputStream(pr);
         checkResponseStatus(response);
 
@@ -54,6 +98,43 @@ public class PartFetcher {
         return GetPartResponse.builder().content(inputStream).head(head).build();
     }
 
+    private GetPartResponse fetchHead(PartRequest pr) {
+        HttpResponse<Void> response = client.head(getPath(pr), getSecurityHeaders(pr));
+        checkResponseStatus(response);
+
+        Head head = Head.builder().fromHeaders(response.getHeaders()).build();
+        return GetPartResponse.builder().head(head).build();
+    }
+
+    private GetPartResponse fetchHeadWithContent(PartRequest pr) {
+        HttpResponse<InputStream> response = callClientForInputStream(pr);
+        checkResponseStatus(response);
+
+        Head head = Head.builder().fromHeaders(response.getHeaders()).build();
+        if (head.isMultipart()) {
+            closeQuietly(response.getBody());
+            return GetPartResponse.builder().head(head).build();
+        }
+
+        InputStream inputStream = getIntegrityCheckingInputStream(response, head, pr);
+        return GetPartResponse.builder().content(inputStream).head(head).build();
+    }
+
+    private boolean isProbeResponseReusable() {
+        return Objects.nonNull(configuration) && configuration.isReuseProbeResponseForSinglePartDownloads();
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        if (Objects.isNull(inputStream)) {
+            return;
+        }
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("Failed to close unused probe response body", e);
+        }
+    }
+
     private InputStream getIntegrityCheckingInputStream(HttpResponse<InputStream> response, Head head, PartRequest pr) {
         String checksum = head.getChecksum();
         boolean checksumMissing = Objects.isNull(checksum) || checksum.isEmpty();
@@ -101,6 +182,11 @@ public class PartFetcher {
         return headers;
     }
 
+    private String describe(PartRequest pr) {
+        String target = pr.isHeadRequest() ? "Head request" : "Download of part " + pr.getPartNo();
+        return target + " of " + pr.getDownloadRequest().getApiPath();
+    }
+
     private String getPath(PartRequest pr) {
         String path = appendFileQueryParam(pr.getDownloadRequest().getApiPath(), pr.getDownloadRequest());
 
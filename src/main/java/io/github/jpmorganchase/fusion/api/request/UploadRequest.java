@@ -30,6 +30,13 @@ public class UploadRequest {
     private String createdDate;
     private InputStream data;
 
+    /**
+     * The file being uploaded and its size, when the upload is from a file rather than a stream.
+     */
+    private File file;
+
+    private long size;
+
     private boolean isFromStream;
     private boolean isMultiPartUploadCandidate;
 
@@ -118,6 +125,8 @@ public class UploadRequest {
                     toDate,
                     createdDate,
                     data,
+                    file,
+                    size,
                     isFromStream,
                     isMultiPartUploadCandidate,
                     copyOfHeaders);
@@ -159,10 +168,11 @@ public class UploadRequest {
 
         private void buildFromFile() {
             this.isFromStream = false;
-            File file = new File(fileName);
+            this.file = new File(fileName);
+            this.size = file.length();
             try {
 
-                if (file.length() > (maxSinglePartFileSize * (1024.0 * 1024.0))) {
+                if (size > (maxSinglePartFileSize * (1024.0 * 1024.0))) {
                     this.isMultiPartUploadCandidate = true;
                 }
 
@@ -0,0 +1,71 @@
+package io.github.jpmorganchase.fusion.api.retry;
+
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs requests for individual parts under a {@link RetryPolicy}, recording the retries made in {@link RetryMetrics}.
+ * A single instance is shared by all the transfers made through a Fusion instance.
+ */
+@Slf4j
+@Getter
+public class Retrier {
+
+    private final RetryPolicy policy;
+    private final RetryMetrics metrics = new RetryMetrics();
+
+    public Retrier(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Runs the request, retrying it while it fails with a retryable error and attempts remain.  The request must be
+     * safe to repeat.
+     *
+     * @param description describes the request in log messages
+     * @param request the request to run
+     * @param <T> the result of the request
+     * @return the result of the first successful attempt
+     * @throws RuntimeException the failure of the last attempt made
+     */
+    public <T> T call(String description, Supplier<T> request) {
+        int attempt = 1;
+        while (true) {
+            try {
+                T result = request.get();
+                if (attempt > 1) {
+                    metrics.recovered();
+                    log.info("{} succeeded on attempt {}", description, attempt);
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (!policy.isRetryable(e)) {
+                    throw e;
+                }
+                if (attempt >= policy.getMaxAttempts()) {
+                    if (attempt > 1) {
+                        metrics.exhausted();
+                        log.warn("{} failed after {} attempts", description, attempt);
+                    }
+                    throw e;
+                }
+
+                long delay = policy.backoffMillis(attempt);
+                log.warn("{} failed on attempt {}, retrying in {} ms", description, attempt, delay, e);
+                metrics.retried();
+                pause(delay, e);
+                attempt++;
+            }
+        }
+    }
+
+    private static void pause(long millis, RuntimeException failure) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+}
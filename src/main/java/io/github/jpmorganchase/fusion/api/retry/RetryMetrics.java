@@ -0,0 +1,52 @@
+package io.github.jpmorganchase.fusion.api.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the retries made for the parts of uploads and downloads, and their outcomes.
+ */
+public class RetryMetrics {
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    void retried() {
+        retries.incrementAndGet();
+    }
+
+    void recovered() {
+        recovered.incrementAndGet();
+    }
+
+    void exhausted() {
+        exhausted.incrementAndGet();
+    }
+
+    /**
+     * @return the number of retries made
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return the number of requests that failed at least once and then succeeded on a retry
+     */
+    public long getRecovered() {
+        return recovered.get();
+    }
+
+    /**
+     * @return the number of requests that were still failing with a retryable error once all attempts were made
+     */
+    public long getExhausted() {
+        return exhausted.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryMetrics(retries=" + getRetries() + ", recovered=" + getRecovered() + ", exhausted="
+                + getExhausted() + ")";
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.jpmorganchase.fusion.api.retry;
+
+import io.github.jpmorganchase.fusion.api.exception.APICallException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Describes when and how often a failed request for a single part of an upload or download is retried.
+ * <p>
+ * A request is retried when the API responds with one of the retryable status codes, or when it fails with an
+ * exception of one of the retryable types anywhere in its chain of causes.  The delay before each retry grows
+ * exponentially from the base backoff up to the max backoff, and is reduced by a random fraction of up to
+ * {@code jitter} so that parts failing together are not retried in lockstep.
+ */
+@Getter
+@Builder
+@ToString
+public class RetryPolicy {
+
+    /**
+     * Total number of attempts made for a request, including the first.  A value of 1 disables retries.
+     */
+    @Builder.Default
+    int maxAttempts = 3;
+
+    /**
+     * Delay in milliseconds before the first retry, doubled for each retry after it.
+     */
+    @Builder.Default
+    long baseBackoffMillis = 250;
+
+    /**
+     * Upper bound in milliseconds of the delay before any retry.
+     */
+    @Builder.Default
+    long maxBackoffMillis = 10_000;
+
+    /**
+     * Fraction, between 0 and 1, of each delay that is randomly subtracted from it.
+     */
+    @Builder.Default
+    double jitter = 0.5;
+
+    /**
+     * HTTP status codes for which a request is retried.
+     */
+    @Builder.Default
+    Set<Integer> retryableStatusCodes =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(408, 429, 500, 502, 503, 504)));
+
+    /**
+     * Exception types for which a request is retried, matched against the exception and each of its causes.
+     */
+    @Builder.Default
+    List<Class<? extends Throwable>> retryableExceptions = Collections.singletonList(IOException.class);
+
+    /**
+     * @return a policy that makes a single attempt at each request
+     */
+    public static RetryPolicy none() {
+        return RetryPolicy.builder().maxAttempts(1).build();
+    }
+
+    /**
+     * @param failure the exception a request failed with
+     * @return true if a request failing with the exception may succeed if retried
+     */
+    public boolean isRetryable(Throwable failure) {
+        if (failure instanceof APICallException) {
+            return retryableStatusCodes.contains(((APICallException) failure).getResponseCode());
+        }
+        for (Throwable t = failure; Objects.nonNull(t); t = t.getCause()) {
+            for (Class<? extends Throwable> type : retryableExceptions) {
+                if (type.isInstance(t)) {
+                    return true;
+                }
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param retry the number of the retry about to be made, starting at 1
+     * @return the delay in milliseconds before the retry
+     */
+    public long backoffMillis(int retry) {
+        long delay = baseBackoffMillis;
+        for (int i = 1; i < retry && delay < maxBackoffMillis; i++) {
+            delay *= 2;
+        }
+        delay = Math.min(delay, maxBackoffMillis);
+        double reduction = Math.max(0.0, Math.min(1.0, jitter))
+                * ThreadLocalRandom.current().nextDouble();
+        return Math.max(0L, Math.round(delay * (1.0 - reduction)));
+    }
+}
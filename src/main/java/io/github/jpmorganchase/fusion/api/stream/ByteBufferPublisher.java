@@ -0,0 +1,198 @@
+package io.github.jpmorganchase.fusion.api.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publishes the content of a stream as {@link ByteBuffer} chunks, reading a chunk only when the subscriber has
+ * signalled demand for it.
+ * <p>
+ * The stream is opened when demand is first signalled, and is read on the provided executor.  When the stream is a
+ * multipart download, parts are only requested as reading reaches them, so a subscriber that stops requesting holds
+ * back the download, and memory is bounded by the parts read ahead plus the chunks it has not yet consumed.  The
+ * stream is closed on completion, on error and on cancellation.
+ * <p>
+ * The content can be read only once, so a single subscriber is supported; any further subscriber is signalled an
+ * error.
+ */
+@Slf4j
+public class ByteBufferPublisher implements Publisher<ByteBuffer> {
+
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final Callable<InputStream> source;
+    private final Executor executor;
+    private final int chunkSize;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    @Builder
+    public ByteBufferPublisher(Callable<InputStream> source, Executor executor, int chunkSize) {
+        this.source = source;
+        this.executor = executor;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(NoOpSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("Content can only be published to a single subscriber"));
+            return;
+        }
+        ChunkSubscription subscription = new ChunkSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Serialises all signals to the subscriber through a single drain loop, which runs on the executor while there
+     * is outstanding demand or a pending cancellation or error.  Should the executor reject the loop, it runs on the
+     * signalling thread instead, to deliver the rejection as an error.
+     */
+    private final class ChunkSubscription implements Subscription {
+
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable pendingError;
+        private boolean terminated;
+        private InputStream stream;
+
+        ChunkSubscription(Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                pendingError = new IllegalArgumentException("Requested " + n + " elements, must be positive");
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                pendingError = e;
+                drain();
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (true) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                if (Objects.nonNull(pendingError)) {
+                    terminate();
+                    subscriber.onError(pendingError);
+                    return;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                ByteBuffer chunk;
+                try {
+                    chunk = readChunk();
+                } catch (Exception e) {
+                    terminate();
+                    subscriber.onError(e);
+                    return;
+                }
+
+                if (Objects.isNull(chunk)) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext(chunk);
+                } catch (RuntimeException e) {
+                    log.warn("Subscriber failed to handle chunk, cancelling subscription", e);
+                    terminate();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return the next chunk, filled unless the end of the stream was reached, or null at the end of the stream
+         */
+        private ByteBuffer readChunk() throws Exception {
+            if (Objects.isNull(stream)) {
+                stream = source.call();
+            }
+            byte[] buffer = new byte[chunkSize];
+            int filled = 0;
+            int read;
+            while (filled < chunkSize && (read = stream.read(buffer, filled, chunkSize - filled)) != -1) {
+                filled += read;
+            }
+            return filled == 0 ? null : ByteBuffer.wrap(buffer, 0, filled);
+        }
+
+        private void terminate() {
+            terminated = true;
+            if (Objects.nonNull(stream)) {
+                try {
+                    stream.close();
+                } catch (IOException e) {
+                    log.debug("Ignoring failure to close published stream", e);
+                }
+                stream = null;
+            }
+        }
+    }
+
+    private enum NoOpSubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    }
+}
@@ -3,24 +3,36 @@ package io.github.jpmorganchase.fusion.api.stream;
 import io.github.jpmorganchase.fusion.api.request.CallableParts;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import lombok.Builder;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Presents the parts of a multipart download as a single stream, read in order.  While the current part is being
+ * read, up to {@code readAhead} of the following parts are requested ahead of time; a further part is only requested
+ * once the current part has been consumed, so a slow reader holds back the download rather than buffering without
+ * bound.
+ */
 @Slf4j
 @ToString
 public class DeferredMultiPartInputStream extends InputStream {
 
     CallableParts parts;
-    Future<InputStream> nextPart;
+    Deque<Future<InputStream>> nextParts;
     InputStream currentPart;
+    int readAhead;
 
     @Builder
-    public DeferredMultiPartInputStream(CallableParts parts) throws IOException {
+    public DeferredMultiPartInputStream(CallableParts parts, int readAhead) throws IOException {
         this.parts = parts;
+        this.readAhead = Math.max(1, readAhead);
+        this.nextParts = new ArrayDeque<>(this.readAhead);
         init();
     }
 
@@ -42,15 +54,33 @@ public class DeferredMultiPartInputStream extends InputStream {
         return byteRead;
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+        if (Objects.isNull(currentPart)) {
+            return -1;
+        }
+
+        int bytesRead = currentPart.read(b, off, len);
+        while (-1 == bytesRead) {
+            if (!nextPart()) {
+                return -1;
+            }
+            bytesRead = currentPart.read(b, off, len);
+        }
+
+        return bytesRead;
+    }
+
     private void init() throws IOException {
-        primeNextPart();
+        primeNextParts();
         nextPart();
     }
 
     private boolean nextPart() throws IOException {
         try {
             if (reassignCurrentPart()) {
-                primeNextPart();
+                primeNextParts();
             }
         } catch (InterruptedException | ExecutionException e) {
             throw new IOException("Unable to read from stream", e.getCause());
@@ -59,14 +89,17 @@ public class DeferredMultiPartInputStream extends InputStream {
     }
 
     private boolean reassignCurrentPart() throws IOException, InterruptedException, ExecutionException {
-        close();
-        currentPart = nextPart.get();
+        closeCurrentPart();
+        Future<InputStream> nextPart = nextParts.poll();
+        currentPart = Objects.nonNull(nextPart) ? nextPart.get() : null;
         return isStreamAvailable();
     }
 
-    private void primeNextPart() {
-        log.debug("Priming next part ready for reading");
-        this.nextPart = callForNextPart();
+    private void primeNextParts() {
+        while (nextParts.size() < readAhead) {
+            log.debug("Priming next part ready for reading");
+            nextParts.add(callForNextPart());
+        }
     }
 
     private Future<InputStream> callForNextPart() {
@@ -77,10 +110,35 @@ public class DeferredMultiPartInputStream extends InputStream {
         return Objects.nonNull(currentPart);
     }
 
-    @Override
-    public void close() throws IOException {
+    private void closeCurrentPart() throws IOException {
         if (isStreamAvailable()) {
             currentPart.close();
         }
     }
+
+    @Override
+    public void close() throws IOException {
+        closeCurrentPart();
+        Future<InputStream> pending;
+        while ((pending = nextParts.poll()) != null) {
+            discard(pending);
+        }
+    }
+
+    private void discard(Future<InputStream> pending) {
+        if (!pending.isDone()) {
+            pending.cancel(true);
+            return;
+        }
+        try {
+            InputStream part = pending.get();
+            if (Objects.nonNull(part)) {
+                part.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | IOException | CancellationException e) {
+            log.debug("Ignoring failure of part requested ahead of a closed stream", e);
+        }
+    }
 }
@@ -38,6 +38,23 @@ public class IntegrityCheckingInputStream extends InputStream {
         return byteRead;
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+        if (isEndOfStream()) {
+            return -1;
+        }
+
+        int bytesRead = part.read(b, off, len);
+        if (-1 == bytesRead) {
+            verify();
+            return -1;
+        }
+
+        partChecker.update(b, off, bytesRead);
+        return bytesRead;
+    }
+
     private void verify() throws IOException {
         partChecker.verify(checksum);
         part = null;
@@ -0,0 +1,118 @@
+package io.github.jpmorganchase.fusion.api.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import lombok.Builder;
+
+/**
+ * Stream whose content is opened on first read rather than when the stream is created, so a caller given many
+ * streams only holds connections for those it reads.
+ * <p>
+ * When {@code permits} are provided, opening the stream takes a permit, waiting for one if none is available, and
+ * closing it returns the permit; this bounds the number of streams open at once across all that share the permits.
+ */
+public class LazyInputStream extends InputStream {
+
+    private final Callable<InputStream> source;
+    private final Semaphore permits;
+    private InputStream delegate;
+    private boolean permitHeld;
+    private boolean closed;
+
+    @Builder
+    public LazyInputStream(Callable<InputStream> source, Semaphore permits) {
+        this.source = source;
+        this.permits = permits;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return open().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return open().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return open().skip(n);
+    }
+
+    /**
+     * @return the bytes available from the opened stream, or 0 if it has not yet been opened
+     */
+    @Override
+    public int available() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        return Objects.nonNull(delegate) ? delegate.available() : 0;
+    }
+
+    /**
+     * @return true once the content has been opened by a read
+     */
+    public boolean isOpened() {
+        return Objects.nonNull(delegate);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (Objects.nonNull(delegate)) {
+                delegate.close();
+            }
+        } finally {
+            releasePermit();
+        }
+    }
+
+    private InputStream open() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (Objects.isNull(delegate)) {
+            acquirePermit();
+            try {
+                delegate = source.call();
+            } catch (IOException | RuntimeException e) {
+                releasePermit();
+                throw e;
+            } catch (Exception e) {
+                releasePermit();
+                throw new IOException("Unable to open stream", e);
+            }
+        }
+        return delegate;
+    }
+
+    private void acquirePermit() throws IOException {
+        if (Objects.isNull(permits)) {
+            return;
+        }
+        try {
+            permits.acquire();
+            permitHeld = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for an open stream to be closed");
+        }
+    }
+
+    private void releasePermit() {
+        if (permitHeld) {
+            permitHeld = false;
+            permits.release();
+        }
+    }
+}
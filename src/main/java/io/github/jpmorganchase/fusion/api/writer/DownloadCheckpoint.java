@@ -0,0 +1,233 @@
+package io.github.jpmorganchase.fusion.api.writer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.github.jpmorganchase.fusion.api.exception.FileDownloadException;
+import io.github.jpmorganchase.fusion.api.response.Head;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sidecar file recording which parts of a multipart download to file have been written, from which an interrupted
+ * download can be resumed.
+ * <p>
+ * The checkpoint is kept alongside the downloaded file as a file of JSON lines: the first describes the version of
+ * the distribution being downloaded, and one line is appended for each part once it has been written.  A checkpoint
+ * only resumes a download of the same version, with the same checksum and layout, into a file that is still present
+ * at its full length.  A partially written final line, left by a process that died mid-write, is ignored, and is cut
+ * from the checkpoint before further parts are appended.
+ */
+@Slf4j
+public class DownloadCheckpoint {
+
+    private static final String CHECKPOINT_SUFFIX = ".fusion-checkpoint";
+    private static final String CHECKPOINT_WRITE_ERROR = "Unable to write download checkpoint %s";
+
+    private final Gson gson = new GsonBuilder().create();
+    private final Path path;
+    private final File target;
+    private final Header header;
+    private BufferedWriter writer;
+
+    private DownloadCheckpoint(Path path, File target, Header header) {
+        this.path = path;
+        this.target = target;
+        this.header = header;
+    }
+
+    /**
+     * Returns the checkpoint for a download of the distribution described by the head to the given file, which
+     * may or may not yet exist.
+     *
+     * @param filePath the path of the file being downloaded to
+     * @param head the head of the distribution being downloaded
+     * @return the checkpoint for the download
+     */
+    public static DownloadCheckpoint of(String filePath, Head head) {
+        Header header = new Header(head.getVersion(), head.getChecksum(), head.getContentLength(), head.getPartCount());
+        return new DownloadCheckpoint(Paths.get(filePath + CHECKPOINT_SUFFIX), new File(filePath), header);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Reads the checkpoint, if one exists for this download, and prepares it to record further parts.  A checkpoint
+     * that does not match the download is discarded.
+     *
+     * @return the numbers of the parts already written, empty if the download must start from the beginning
+     */
+    public synchronized BitSet resume() {
+        BitSet completed = read();
+        try {
+            if (completed.isEmpty()) {
+                writer = Files.newBufferedWriter(
+                        path,
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE);
+                writeLine(gson.toJson(header));
+            } else {
+                truncateToLastCompleteLine();
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            throw new FileDownloadException(String.format(CHECKPOINT_WRITE_ERROR, path), e);
+        }
+        return completed;
+    }
+
+    /**
+     * Records a part that has been written to the file.
+     *
+     * @param partNo the number of the part
+     */
+    public synchronized void partCompleted(int partNo) {
+        try {
+            writeLine(gson.toJson(new Part(partNo)));
+        } catch (IOException e) {
+            throw new FileDownloadException(String.format(CHECKPOINT_WRITE_ERROR, path), e);
+        }
+    }
+
+    /**
+     * Removes the checkpoint, once the download has completed.
+     */
+    public synchronized void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Unable to delete download checkpoint {}", path, e);
+        }
+    }
+
+    /**
+     * Closes the checkpoint, leaving it in place so the download can be resumed.
+     */
+    public synchronized void close() {
+        if (Objects.nonNull(writer)) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Unable to close download checkpoint {}", path, e);
+            }
+            writer = null;
+        }
+    }
+
+    private BitSet read() {
+        BitSet completed = new BitSet();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Header recorded = gson.fromJson(reader.readLine(), Header.class);
+            if (Objects.isNull(recorded) || !header.describesSameDownloadAs(recorded)) {
+                log.info("Discarding download checkpoint {} as the distribution has changed", path);
+                return completed;
+            }
+            if (!target.isFile() || target.length() != header.contentLength) {
+                log.info("Discarding download checkpoint {} as the partially downloaded file is missing", path);
+                return completed;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Part part = parsePart(line);
+                if (Objects.isNull(part)) {
+                    break;
+                }
+                if (part.partNo > 0 && part.partNo <= header.partCount) {
+                    completed.set(part.partNo);
+                }
+            }
+            log.info(
+                    "Resuming download to {}, {} of {} parts already written",
+                    target,
+                    completed.cardinality(),
+                    header.partCount);
+        } catch (NoSuchFileException e) {
+            return completed;
+        } catch (IOException | JsonParseException e) {
+            log.warn("Ignoring unreadable download checkpoint {}", path, e);
+            completed.clear();
+        }
+        return completed;
+    }
+
+    private Part parsePart(String line) {
+        try {
+            return gson.fromJson(line, Part.class);
+        } catch (JsonParseException e) {
+            log.debug("Ignoring incomplete entry in download checkpoint {}", path);
+            return null;
+        }
+    }
+
+    /**
+     * Cuts any partially written final line from the checkpoint, so that a line appended next starts on a line of its
+     * own rather than running on from the incomplete entry.
+     */
+    private void truncateToLastCompleteLine() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer single = ByteBuffer.allocate(1);
+            long end = channel.size();
+            while (end > 0) {
+                single.clear();
+                channel.read(single, end - 1);
+                if (single.get(0) == '\n') {
+                    break;
+                }
+                end--;
+            }
+            if (end < channel.size()) {
+                log.info("Discarding incomplete entry at the end of download checkpoint {}", path);
+                channel.truncate(end);
+            }
+        }
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+        writer.flush();
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Header {
+        String version;
+        String checksum;
+        long contentLength;
+        int partCount;
+
+        boolean describesSameDownloadAs(Header other) {
+            return Objects.equals(version, other.version)
+                    && Objects.equals(checksum, other.checksum)
+                    && contentLength == other.contentLength
+                    && partCount == other.partCount;
+        }
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Part {
+        int partNo;
+    }
+}
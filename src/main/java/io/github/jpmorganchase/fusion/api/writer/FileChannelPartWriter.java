@@ -0,0 +1,94 @@
+package io.github.jpmorganchase.fusion.api.writer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@link PartWriter} that streams each part straight into a shared {@link FileChannel} using positional writes,
+ * so parts never contend on a lock and are never buffered in full.
+ * <p>
+ * Parts are copied through direct buffers recycled between all writers, rather than held per thread, as in
+ * virtual-thread mode each part runs on a new thread.  Up to {@code RETAINED_BUFFERS} idle buffers are kept; a part
+ * that finds none idle allocates its own, which is kept afterwards if there is room.
+ */
+public class FileChannelPartWriter implements PartWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String FILE_RW_MODE = "rw";
+
+    private static final int RETAINED_BUFFERS = 64;
+
+    private static final BlockingQueue<ByteBuffer> BUFFERS = new ArrayBlockingQueue<>(RETAINED_BUFFERS);
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+
+    private FileChannelPartWriter(RandomAccessFile file) {
+        this.file = file;
+        this.channel = file.getChannel();
+    }
+
+    /**
+     * Opens the file at the given path, sizing it to the expected length of the download.
+     *
+     * @param filePath the path of the file to be written
+     * @param contentLength the total length of the download
+     * @return a writer for the file
+     * @throws IOException if the file cannot be opened or sized
+     */
+    public static FileChannelPartWriter open(String filePath, long contentLength) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(filePath, FILE_RW_MODE);
+        try {
+            file.setLength(contentLength);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        return new FileChannelPartWriter(file);
+    }
+
+    @Override
+    public void write(InputStream content, long position) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(content);
+        ByteBuffer buffer = acquireBuffer();
+        try {
+            long offset = position;
+            while (source.read(buffer) != -1) {
+                if (!buffer.hasRemaining()) {
+                    offset += flush(buffer, offset);
+                }
+            }
+            flush(buffer, offset);
+        } finally {
+            buffer.clear();
+            BUFFERS.offer(buffer);
+        }
+    }
+
+    private static ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = BUFFERS.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    private int flush(ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        buffer.clear();
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
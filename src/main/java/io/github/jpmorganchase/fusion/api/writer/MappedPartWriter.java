@@ -0,0 +1,98 @@
+package io.github.jpmorganchase.fusion.api.writer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link PartWriter} that maps the pre-sized file into memory in windows and copies each part straight into the
+ * mapping at its offset, avoiding a write system call per buffer.  Optionally forces each window to the storage
+ * device once a part has been written to it.
+ */
+public class MappedPartWriter implements PartWriter {
+
+    private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String FILE_RW_MODE = "rw";
+    private static final String PART_TOO_LONG_MSG = "Part exceeds the expected length of the download";
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long length;
+    private final boolean force;
+
+    private MappedPartWriter(RandomAccessFile file, long length, boolean force) {
+        this.file = file;
+        this.channel = file.getChannel();
+        this.length = length;
+        this.force = force;
+    }
+
+    /**
+     * Opens the file at the given path, sizing it to the expected length of the download.
+     *
+     * @param filePath the path of the file to be written
+     * @param contentLength the total length of the download
+     * @param force whether written windows should be forced to the storage device
+     * @return a writer for the file
+     * @throws IOException if the file cannot be opened or sized
+     */
+    public static MappedPartWriter open(String filePath, long contentLength, boolean force) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(filePath, FILE_RW_MODE);
+        try {
+            file.setLength(contentLength);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        return new MappedPartWriter(file, contentLength, force);
+    }
+
+    @Override
+    public void write(InputStream content, long position) throws IOException {
+        byte[] buffer = BUFFER.get();
+        long offset = position;
+        MappedByteBuffer window = map(offset);
+
+        int bytesRead;
+        while ((bytesRead = content.read(buffer, 0, buffer.length)) != -1) {
+            int copied = 0;
+            while (copied < bytesRead) {
+                if (!window.hasRemaining()) {
+                    if (offset >= length) {
+                        throw new IOException(PART_TOO_LONG_MSG);
+                    }
+                    release(window);
+                    window = map(offset);
+                }
+                int chunk = Math.min(bytesRead - copied, window.remaining());
+                window.put(buffer, copied, chunk);
+                copied += chunk;
+                offset += chunk;
+            }
+        }
+        release(window);
+    }
+
+    private MappedByteBuffer map(long position) throws IOException {
+        if (position > length) {
+            throw new IOException(PART_TOO_LONG_MSG);
+        }
+        return channel.map(FileChannel.MapMode.READ_WRITE, position, Math.min(WINDOW_SIZE, length - position));
+    }
+
+    private void release(MappedByteBuffer window) {
+        if (force) {
+            window.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
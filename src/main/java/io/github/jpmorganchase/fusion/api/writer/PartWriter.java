@@ -0,0 +1,21 @@
+package io.github.jpmorganchase.fusion.api.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Destination for the parts of a multipart download.  Implementations must allow parts to be written
+ * concurrently from multiple threads, each part targeting its own region of the destination.
+ */
+public interface PartWriter extends Closeable {
+
+    /**
+     * Streams the content of a part into the destination, starting at the given position.
+     *
+     * @param content the part content, read until exhausted but not closed
+     * @param position the offset in the destination of the first byte of the part
+     * @throws IOException if the content cannot be read or written
+     */
+    void write(InputStream content, long position) throws IOException;
+}
@@ -5,6 +5,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -24,6 +27,7 @@ import lombok.SneakyThrows;
 public class AlgoSpecificDigestProducer implements DigestProducer {
 
     private static final String SHA_256_ALGO = "SHA-256";
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
 
     private final String digestAlgorithm;
 
@@ -72,6 +76,28 @@ public class AlgoSpecificDigestProducer implements DigestProducer {
                 .build();
     }
 
+    @Override
+    public DigestDescriptor execute(Path file) {
+        RunningDigest digest = start();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new ApiInputValidationException("Failed to read data from input", e);
+        }
+        return digest.complete();
+    }
+
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    @Override
+    public RunningDigest start() {
+        return new RunningDigest(MessageDigest.getInstance(digestAlgorithm));
+    }
+
     private void assertInputStream(InputStream data) {
         if (Objects.isNull(data)) {
             throw new ApiInputValidationException("Failed to read data from input");
@@ -1,7 +1,11 @@
 package io.github.jpmorganchase.fusion.digest;
 
+import io.github.jpmorganchase.fusion.api.exception.ApiInputValidationException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface DigestProducer {
@@ -9,4 +13,40 @@ public interface DigestProducer {
     DigestDescriptor execute(InputStream data);
 
     DigestDescriptor execute(List<ByteBuffer> digests);
+
+    /**
+     * Produces a digest of the file at the provided path, reading it through a channel without holding its content
+     * on the heap.  The returned {@code DigestDescriptor} carries no content.
+     * <p>
+     * The default digests the file with {@link #execute(InputStream)}; implementations should override it to avoid
+     * holding the content.
+     *
+     * @param file the file to digest
+     * @return the checksum and size of the file
+     */
+    default DigestDescriptor execute(Path file) {
+        DigestDescriptor digested;
+        try (InputStream data = Files.newInputStream(file)) {
+            digested = execute(data);
+        } catch (IOException e) {
+            throw new ApiInputValidationException("Failed to read data from input", e);
+        }
+        return DigestDescriptor.builder()
+                .rawChecksum(digested.getRawChecksum())
+                .checksum(digested.getChecksum())
+                .size(digested.getSize())
+                .build();
+    }
+
+    /**
+     * Starts a digest to which data is added incrementally, for example while a buffer is being filled.
+     * <p>
+     * The default collects the data added and digests it with {@link #execute(InputStream)} on completion;
+     * implementations should override it to digest the data as it is added.
+     *
+     * @return a new digest using this producer's algorithm
+     */
+    default RunningDigest start() {
+        return RunningDigest.collecting(this);
+    }
 }
@@ -36,11 +36,22 @@ public class PartChecker {
         digestProvider.update(Integer.valueOf(bytesRead).byteValue());
     }
 
+    public void update(byte[] bytes, int offset, int length) throws IOException {
+        if (Objects.isNull(digestProvider)) {
+            init();
+        }
+        digestProvider.update(bytes, offset, length);
+    }
+
     public void verify(String expectedChecksum) throws IOException {
         if (Objects.isNull(expectedChecksum) || expectedChecksum.isEmpty()) {
             return;
         }
 
+        if (Objects.isNull(digestProvider)) {
+            init();
+        }
+
         String calculatedChecksum = digestProvider.getDigest();
 
         if (!Objects.equals(expectedChecksum, calculatedChecksum)) {
@@ -0,0 +1,92 @@
+package io.github.jpmorganchase.fusion.digest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * A digest to which data is added as it becomes available, for data that is not presented as a single
+ * {@code InputStream}.
+ */
+public class RunningDigest {
+
+    private final MessageDigest digest;
+    private int size;
+
+    public RunningDigest(MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Returns a digest that collects the data added to it and digests it with the given producer on completion, for
+     * producers that can only digest an {@code InputStream}.
+     *
+     * @param producer the producer to digest the collected data with
+     * @return a new digest
+     */
+    public static RunningDigest collecting(DigestProducer producer) {
+        return new Collecting(producer);
+    }
+
+    public void update(byte[] bytes, int offset, int length) {
+        digest.update(bytes, offset, length);
+        size += length;
+    }
+
+    /**
+     * Adds the remaining bytes of the provided buffer, which may be direct, leaving its position at its limit.
+     */
+    public void update(ByteBuffer buffer) {
+        size += buffer.remaining();
+        digest.update(buffer);
+    }
+
+    /**
+     * Completes the digest.  The returned {@code DigestDescriptor} carries no content.
+     *
+     * @return the checksum and size of the data added
+     */
+    public DigestDescriptor complete() {
+        byte[] raw = digest.digest();
+        return DigestDescriptor.builder()
+                .rawChecksum(raw)
+                .checksum(Base64.getEncoder().encodeToString(raw))
+                .size(size)
+                .build();
+    }
+
+    private static final class Collecting extends RunningDigest {
+
+        private final DigestProducer producer;
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+        private Collecting(DigestProducer producer) {
+            super(null);
+            this.producer = producer;
+        }
+
+        @Override
+        public void update(byte[] bytes, int offset, int length) {
+            data.write(bytes, offset, length);
+        }
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            data.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public DigestDescriptor complete() {
+            DigestDescriptor digested = producer.execute(new ByteArrayInputStream(data.toByteArray()));
+            return DigestDescriptor.builder()
+                    .rawChecksum(digested.getRawChecksum())
+                    .checksum(digested.getChecksum())
+                    .size(digested.getSize())
+                    .build();
+        }
+    }
+}
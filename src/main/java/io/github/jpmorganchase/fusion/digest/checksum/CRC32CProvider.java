@@ -17,6 +17,11 @@ public class CRC32CProvider implements DigestProvider {
         checksum.update(singleByte);
     }
 
+    @Override
+    public void update(byte[] bytes, int offset, int length) {
+        checksum.update(bytes, offset, length);
+    }
+
     @Override
     public String getDigest() {
         long checksumValue = checksum.getValue();
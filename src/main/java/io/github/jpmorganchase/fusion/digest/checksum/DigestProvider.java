@@ -1,10 +1,46 @@
 package io.github.jpmorganchase.fusion.digest.checksum;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public interface DigestProvider {
 
     void update(byte singleByte);
 
+    /**
+     * Updates the digest with a range of bytes.  The default adds the bytes one at a time; implementations should
+     * override it to add them in bulk.
+     *
+     * @param bytes the array holding the bytes to add to the digest
+     * @param offset the index of the first byte to add
+     * @param length the number of bytes to add
+     */
+    default void update(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            update(bytes[i]);
+        }
+    }
+
+    /**
+     * Updates the digest with the remaining bytes of the provided buffer, leaving the buffer's position at its limit.
+     * Heap buffers are passed through without copying, direct buffers are copied through a small scratch array.
+     *
+     * @param buffer the bytes to add to the digest
+     */
+    default void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(buffer.remaining(), 8192)];
+        while (buffer.hasRemaining()) {
+            int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            update(chunk, 0, length);
+        }
+    }
+
     String getDigest() throws IOException;
 }
@@ -1,5 +1,6 @@
 package io.github.jpmorganchase.fusion.digest.checksum;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
@@ -17,6 +18,16 @@ public class SHAProvider implements DigestProvider {
         digest.update(singleByte);
     }
 
+    @Override
+    public void update(byte[] bytes, int offset, int length) {
+        digest.update(bytes, offset, length);
+    }
+
+    @Override
+    public void update(ByteBuffer buffer) {
+        digest.update(buffer);
+    }
+
     @Override
     public String getDigest() {
         return Base64.getEncoder().encodeToString(digest.digest());
@@ -0,0 +1,41 @@
+package io.github.jpmorganchase.fusion.http;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link Client}.  Each method returns as soon as the request has been started, and the
+ * returned future completes with the response, or exceptionally with a {@link ClientException} if the request could
+ * not be made.  As with {@link Client}, error responses complete the future normally.
+ */
+public interface AsyncClient {
+
+    CompletableFuture<HttpResponse<String>> getAsync(String path, Map<String, String> headers);
+
+    CompletableFuture<HttpResponse<InputStream>> getInputStreamAsync(String path, Map<String, String> headers);
+
+    CompletableFuture<HttpResponse<Void>> headAsync(String path, Map<String, String> headers);
+
+    CompletableFuture<HttpResponse<String>> postAsync(String path, Map<String, String> headers, String body);
+
+    CompletableFuture<HttpResponse<String>> putAsync(String path, String body, Map<String, String> headers);
+
+    CompletableFuture<HttpResponse<String>> deleteAsync(String path, Map<String, String> headers, String body);
+
+    /**
+     * Adapts a {@link Client} for asynchronous use.  A client that is already an {@link AsyncClient} is returned
+     * as is; otherwise each request is made by the blocking client on a thread of the provided executor.
+     *
+     * @param client the client through which requests are made
+     * @param executor the executor on which blocking requests are run
+     * @return an asynchronous view of the client
+     */
+    static AsyncClient of(Client client, Executor executor) {
+        if (client instanceof AsyncClient) {
+            return (AsyncClient) client;
+        }
+        return new ExecutorAsyncClient(client, executor);
+    }
+}
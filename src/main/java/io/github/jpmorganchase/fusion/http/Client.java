@@ -1,5 +1,7 @@
 package io.github.jpmorganchase.fusion.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 
@@ -9,11 +11,43 @@ public interface Client {
 
     HttpResponse<InputStream> getInputStream(String path, Map<String, String> headers);
 
+    /**
+     * Retrieves only the status and headers of the resource at the given path.
+     * <p>
+     * Implementations that do not support HEAD fall back to a GET whose body is closed without being read.
+     *
+     * @param path the URL of the resource
+     * @param headers http headers to be provided in the request
+     * @return the response, with no body
+     */
+    default HttpResponse<Void> head(String path, Map<String, String> headers) {
+        HttpResponse<InputStream> response = getInputStream(path, headers);
+        try (InputStream ignored = response.getBody()) {
+            return HttpResponse.<Void>builder()
+                    .statusCode(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .build();
+        } catch (IOException e) {
+            throw new ClientException("Failed to close response body", e);
+        }
+    }
+
     HttpResponse<String> post(String path, Map<String, String> headers, String body);
 
     HttpResponse<String> put(String path, Map<String, String> headers, InputStream body);
 
     HttpResponse<String> put(String path, String body, Map<String, String> headers);
 
+    /**
+     * Sends {@code length} bytes of the provided array, starting at {@code offset}, as the body of a PUT request.
+     * The array is not copied, so must not be modified until this method returns.
+     */
+    default HttpResponse<String> put(String path, Map<String, String> headers, byte[] body, int offset, int length) {
+        if (body == null) {
+            throw new ClientException("No request body specified for PUT operation");
+        }
+        return put(path, headers, new ByteArrayInputStream(body, offset, length));
+    }
+
     HttpResponse<String> delete(String path, Map<String, String> headers, String body);
 }
@@ -0,0 +1,65 @@
+package io.github.jpmorganchase.fusion.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the requests made by a {@link JdkClient} and what became of their connections once each response was
+ * consumed.  A released connection had its response read to the end and closed, leaving it in the JDK keep-alive
+ * cache for the next request to the same host; a discarded connection was disconnected, so the next request to that
+ * host opens a new connection, with a fresh TCP and TLS handshake.
+ */
+public class ConnectionMetrics {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    void requested() {
+        requests.incrementAndGet();
+    }
+
+    void released() {
+        released.incrementAndGet();
+    }
+
+    void discarded() {
+        discarded.incrementAndGet();
+    }
+
+    /**
+     * @return the number of requests made
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * @return the number of connections returned to the keep-alive cache for reuse
+     */
+    public long getReleased() {
+        return released.get();
+    }
+
+    /**
+     * @return the number of connections disconnected rather than kept alive
+     */
+    public long getDiscarded() {
+        return discarded.get();
+    }
+
+    /**
+     * @return the fraction of connections whose response has been consumed that were kept alive for reuse, or 0 if
+     *     none have been consumed yet
+     */
+    public double getReuseRatio() {
+        long reusable = getReleased();
+        long consumed = reusable + getDiscarded();
+        return consumed == 0 ? 0.0 : (double) reusable / consumed;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionMetrics(requests=" + getRequests() + ", released=" + getReleased() + ", discarded="
+                + getDiscarded() + ")";
+    }
+}
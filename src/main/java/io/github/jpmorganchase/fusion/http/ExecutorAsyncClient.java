@@ -0,0 +1,51 @@
+package io.github.jpmorganchase.fusion.http;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link AsyncClient} that makes each request with a blocking {@link Client} on a thread of an executor, so the
+ * number of requests in flight is bounded by the executor rather than by the callers' threads.
+ */
+final class ExecutorAsyncClient implements AsyncClient {
+
+    private final Client client;
+    private final Executor executor;
+
+    ExecutorAsyncClient(Client client, Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> getAsync(String path, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> client.get(path, headers), executor);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<InputStream>> getInputStreamAsync(String path, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> client.getInputStream(path, headers), executor);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<Void>> headAsync(String path, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> client.head(path, headers), executor);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> postAsync(String path, Map<String, String> headers, String body) {
+        return CompletableFuture.supplyAsync(() -> client.post(path, headers, body), executor);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> putAsync(String path, String body, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> client.put(path, body, headers), executor);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> deleteAsync(String path, Map<String, String> headers, String body) {
+        return CompletableFuture.supplyAsync(() -> client.delete(path, headers, body), executor);
+    }
+}
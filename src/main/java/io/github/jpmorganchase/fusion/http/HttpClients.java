@@ -0,0 +1,52 @@
+package io.github.jpmorganchase.fusion.http;
+
+import java.net.Proxy;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the {@link Client} implementations that depend on the running JDK.  The SDK is built for Java 8, so the
+ * client built on {@code java.net.http.HttpClient} is compiled separately and looked up at runtime, and is only
+ * available when running on Java 11 or later.
+ */
+@Slf4j
+public final class HttpClients {
+
+    private static final String HTTP_CLIENT_CLASS = "java.net.http.HttpClient";
+    private static final String JAVA_NET_HTTP_CLIENT = "io.github.jpmorganchase.fusion.http.JavaNetHttpClient";
+
+    private HttpClients() {}
+
+    /**
+     * @return true if the running JDK provides {@code java.net.http.HttpClient}
+     */
+    public static boolean isJavaNetHttpAvailable() {
+        try {
+            Class.forName(HTTP_CLIENT_CLASS);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a client built on {@code java.net.http.HttpClient}, which prefers HTTP/2 and multiplexes concurrent
+     * requests to the same host over a single connection.
+     *
+     * @param proxy the proxy through which requests are made
+     * @return the client, or empty if the running JDK is earlier than Java 11
+     */
+    public static Optional<Client> javaNetHttpClient(Proxy proxy) {
+        if (!isJavaNetHttpAvailable()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((Client) Class.forName(JAVA_NET_HTTP_CLIENT)
+                    .getDeclaredConstructor(Proxy.class)
+                    .newInstance(proxy));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Unable to create java.net.http client", e);
+            return Optional.empty();
+        }
+    }
+}
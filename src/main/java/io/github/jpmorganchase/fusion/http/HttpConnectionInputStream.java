@@ -4,12 +4,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 
+/**
+ * Response body read straight from the connection.  Closing it reads any remaining content, up to a limit, so the
+ * connection can be kept alive for reuse; a body with more remaining than that is abandoned by disconnecting.
+ */
 final class HttpConnectionInputStream extends InputStream {
 
+    static final int DRAIN_LIMIT = 64 * 1024;
+
     private final HttpURLConnection connection;
+    private final ConnectionMetrics metrics;
+    private boolean closed;
 
     public HttpConnectionInputStream(HttpURLConnection connection) {
+        this(connection, new ConnectionMetrics());
+    }
+
+    HttpConnectionInputStream(HttpURLConnection connection, ConnectionMetrics metrics) {
         this.connection = connection;
+        this.metrics = metrics;
     }
 
     @Override
@@ -17,9 +30,53 @@ final class HttpConnectionInputStream extends InputStream {
         return connection.getInputStream().read();
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return connection.getInputStream().read(b, off, len);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return connection.getInputStream().available();
+    }
+
     @Override
     public void close() throws IOException {
-        connection.getInputStream().close();
-        connection.disconnect();
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        boolean drained;
+        try (InputStream in = connection.getInputStream()) {
+            drained = drain(in, DRAIN_LIMIT);
+        } catch (IOException e) {
+            drained = false;
+        }
+
+        if (drained) {
+            metrics.released();
+        } else {
+            connection.disconnect();
+            metrics.discarded();
+        }
+    }
+
+    /**
+     * Reads and discards the rest of a stream, giving up once more than {@code limit} bytes have been read.
+     *
+     * @return true if the end of the stream was reached
+     */
+    static boolean drain(InputStream in, int limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long drained = 0;
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            drained += read;
+            if (drained > limit) {
+                return false;
+            }
+        }
+        return read == -1;
     }
 }
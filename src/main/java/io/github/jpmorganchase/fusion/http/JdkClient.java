@@ -21,8 +21,20 @@ public class JdkClient implements Client {
     public static final String METHOD_POST = "POST";
     public static final String METHOD_PUT = "PUT";
     public static final String METHOD_DELETE = "DELETE";
+    public static final String METHOD_HEAD = "HEAD";
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+    private static final long UNKNOWN_LENGTH = -1L;
     private final Proxy proxy;
 
+    /**
+     * Counts requests made by this client, and whether their connections were kept alive for reuse.
+     */
+    private final ConnectionMetrics connectionMetrics = new ConnectionMetrics();
+
+    public ConnectionMetrics getConnectionMetrics() {
+        return connectionMetrics;
+    }
+
     @Override
     public HttpResponse<String> get(String path, Map<String, String> headers) {
         return executeMethod(METHOD_GET, path, headers);
@@ -30,7 +42,15 @@ public class JdkClient implements Client {
 
     @Override
     public HttpResponse<InputStream> getInputStream(String path, Map<String, String> headers) {
-        return executeMethod(METHOD_GET, path, headers, null, false, HttpConnectionInputStream::new);
+        return executeMethod(METHOD_GET, path, headers, null, UNKNOWN_LENGTH, this::getResponseStreamBody);
+    }
+
+    @Override
+    public HttpResponse<Void> head(String path, Map<String, String> headers) {
+        return executeMethod(METHOD_HEAD, path, headers, null, UNKNOWN_LENGTH, connection -> {
+            release(connection);
+            return null;
+        });
     }
 
     @Override
@@ -48,7 +68,21 @@ public class JdkClient implements Client {
         if (body == null) {
             throw new ClientException("No request body specified for PUT operation");
         }
-        return executeMethod(METHOD_PUT, path, headers, body, true, this::getResponseBody);
+        return executeMethod(METHOD_PUT, path, headers, body, UNKNOWN_LENGTH, this::getResponseBody);
+    }
+
+    @Override
+    public HttpResponse<String> put(String path, Map<String, String> headers, byte[] body, int offset, int length) {
+        if (body == null) {
+            throw new ClientException("No request body specified for PUT operation");
+        }
+        return executeMethod(
+                METHOD_PUT,
+                path,
+                headers,
+                new ByteArrayInputStream(body, offset, length),
+                length,
+                this::getResponseBody);
     }
 
     @Override
@@ -64,26 +98,32 @@ public class JdkClient implements Client {
         InputStream bodyAsStream =
                 body != null ? new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)) : null;
         logger.debug("Request body: {}", body);
-        return executeMethod(method, path, headers, bodyAsStream, true, this::getResponseBody);
+        return executeMethod(method, path, headers, bodyAsStream, UNKNOWN_LENGTH, this::getResponseBody);
     }
 
+    /**
+     * Executes the request, leaving the result mapper to consume the response.  Once a response has been read to the
+     * end and closed, the JDK keeps its connection alive for the next request to the same host, so the connection
+     * is only disconnected when the request fails or the response is abandoned part way through.
+     */
     private <T> HttpResponse<T> executeMethod(
             String method,
             String path,
             Map<String, String> headers,
             InputStream body,
-            boolean closeConnection,
+            long contentLength,
             Function<HttpURLConnection, T> resultMapper) {
         URL url = parseUrl(path);
         HttpURLConnection connection = openConnection(url);
         headers.forEach(connection::setRequestProperty);
         connection.setRequestProperty("User-Agent", UserAgentGenerator.getUserAgentString(this.getClass()));
 
+        connectionMetrics.requested();
         try {
             int httpCode;
             logRequest(connection, method);
             if (body != null) {
-                httpCode = executeRequestWithBody(connection, method, body);
+                httpCode = executeRequestWithBody(connection, method, body, contentLengthOf(headers, contentLength));
             } else {
                 httpCode = executeRequest(connection, method);
             }
@@ -95,10 +135,9 @@ public class JdkClient implements Client {
                     .build();
             logger.debug("Response: {}", response);
             return response;
-        } finally {
-            if (closeConnection) {
-                connection.disconnect();
-            }
+        } catch (RuntimeException e) {
+            discard(connection);
+            throw e;
         }
     }
 
@@ -119,26 +158,80 @@ public class JdkClient implements Client {
     }
 
     private String getResponseBody(HttpURLConnection connection) {
-        BufferedReader reader =
-                new BufferedReader(new InputStreamReader(getResponseStream(connection), StandardCharsets.UTF_8));
         StringWriter out = new StringWriter(connection.getContentLength() > 0 ? connection.getContentLength() : 2048);
 
-        try {
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(getResponseStream(connection), StandardCharsets.UTF_8))) {
             String line;
             while ((line = reader.readLine()) != null) {
                 out.append(line);
             }
-            reader.close();
         } catch (IOException e) {
             throw new ClientException("Failed to read data from response", e);
         }
+        connectionMetrics.released();
         return out.toString();
     }
 
+    /**
+     * A successful response is streamed from the connection as it is read.  An error response is read in full so
+     * the connection is released straight away, as callers checking the status never read it.
+     */
+    private InputStream getResponseStreamBody(HttpURLConnection connection) {
+        if (isSuccess(responseCodeOf(connection))) {
+            return new HttpConnectionInputStream(connection, connectionMetrics);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = errorStream(connection)) {
+            byte[] buf = new byte[8192];
+            int length;
+            while ((length = in.read(buf)) != -1) {
+                out.write(buf, 0, length);
+            }
+        } catch (IOException e) {
+            throw new ClientException("Failed to read data from response", e);
+        }
+        connectionMetrics.released();
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    /**
+     * Reads and closes whatever response the connection has, so it can be kept alive, disconnecting it if the
+     * response cannot be fully read.
+     */
+    private void release(HttpURLConnection connection) {
+        try (InputStream in = getResponseStream(connection)) {
+            if (HttpConnectionInputStream.drain(in, HttpConnectionInputStream.DRAIN_LIMIT)) {
+                connectionMetrics.released();
+                return;
+            }
+        } catch (IOException | ClientException e) {
+            logger.debug("Unable to read response, connection will not be reused", e);
+        }
+        discard(connection);
+    }
+
+    private void discard(HttpURLConnection connection) {
+        connection.disconnect();
+        connectionMetrics.discarded();
+    }
+
+    private static boolean isSuccess(int httpCode) {
+        return 100 <= httpCode && httpCode <= 399;
+    }
+
+    private static int responseCodeOf(HttpURLConnection connection) {
+        try {
+            return connection.getResponseCode();
+        } catch (IOException e) {
+            throw new ClientException("Failed to get InputStream from response", e);
+        }
+    }
+
     private InputStream getResponseStream(HttpURLConnection connection) {
         try {
-            int httpCode = connection.getResponseCode();
-            if (100 <= httpCode && httpCode <= 399) {
+            if (isSuccess(responseCodeOf(connection))) {
                 return connection.getInputStream();
             } else {
                 return errorStream(connection);
@@ -164,9 +257,32 @@ public class JdkClient implements Client {
         }
     }
 
-    private int executeRequestWithBody(HttpURLConnection connection, String method, InputStream body) {
+    /**
+     * The length of the request body when known, either as provided or from a Content-Length request header.  A
+     * known length lets the body stream straight to the connection rather than being buffered in full first.
+     */
+    private static long contentLengthOf(Map<String, String> headers, long contentLength) {
+        if (contentLength >= 0) {
+            return contentLength;
+        }
+        String header = headers.get(CONTENT_LENGTH_HEADER);
+        if (header == null) {
+            return UNKNOWN_LENGTH;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return UNKNOWN_LENGTH;
+        }
+    }
+
+    private int executeRequestWithBody(
+            HttpURLConnection connection, String method, InputStream body, long contentLength) {
         try {
             connection.setDoOutput(true);
+            if (contentLength >= 0) {
+                connection.setFixedLengthStreamingMode(contentLength);
+            }
             connection.setRequestMethod(method);
             OutputStream os = connection.getOutputStream();
             byte[] buf = new byte[8192];
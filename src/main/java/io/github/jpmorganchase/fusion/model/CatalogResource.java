@@ -2,7 +2,6 @@ package io.github.jpmorganchase.fusion.model;
 
 import static io.github.jpmorganchase.fusion.model.VarArgsHelper.copyMap;
 
-import com.google.gson.annotations.Expose;
 import io.github.jpmorganchase.fusion.Fusion;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -24,8 +23,10 @@ public abstract class CatalogResource {
 
     private final Map<String, Object> varArgs;
 
-    @Expose(serialize = false, deserialize = false)
-    private final Fusion fusion;
+    /**
+     * Transient so that Gson never inspects the {@link Fusion} instance when reading or writing a resource.
+     */
+    private final transient Fusion fusion;
 
     private final String catalogIdentifier;
 
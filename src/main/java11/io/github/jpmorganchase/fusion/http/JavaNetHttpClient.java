@@ -0,0 +1,324 @@
+package io.github.jpmorganchase.fusion.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Client} built on {@code java.net.http.HttpClient}, available when running on Java 11 or later.
+ * <p>
+ * Requests prefer HTTP/2, so the parts of parallel transfers and concurrent catalog calls to the same host are
+ * multiplexed over a single connection rather than each holding a socket of its own.  Response bodies requested as
+ * streams are read from the connection as they are consumed.
+ * <p>
+ * As an {@link AsyncClient} requests are sent without blocking the caller, and no thread is held while a response is
+ * awaited.
+ * <p>
+ * This class is compiled separately for Java 11, so must only be created through {@link HttpClients}.
+ */
+final class JavaNetHttpClient implements Client, AsyncClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(JavaNetHttpClient.class);
+    private static final String DEFAULT_ERROR = "{\"error\": \"Unable to perform requested action\"}";
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+
+    /**
+     * Headers set by the HTTP client itself, which it refuses to accept from callers.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = caseInsensitiveSet(
+            "Connection", "Content-Length", "Expect", "Host", "Upgrade");
+
+    private final HttpClient httpClient;
+
+    JavaNetHttpClient(Proxy proxy) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (proxy != null && proxy.type() == Proxy.Type.HTTP && proxy.address() instanceof InetSocketAddress) {
+            builder.proxy(ProxySelector.of((InetSocketAddress) proxy.address()));
+        }
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    public HttpResponse<String> get(String path, Map<String, String> headers) {
+        return send(request(path, headers).GET(), BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public HttpResponse<InputStream> getInputStream(String path, Map<String, String> headers) {
+        return bufferErrorBody(send(request(path, headers).GET(), BodyHandlers.ofInputStream()));
+    }
+
+    @Override
+    public HttpResponse<Void> head(String path, Map<String, String> headers) {
+        return send(request(path, headers).method("HEAD", BodyPublishers.noBody()), BodyHandlers.discarding());
+    }
+
+    @Override
+    public HttpResponse<String> post(String path, Map<String, String> headers, String body) {
+        return send(request(path, headers).POST(ofString(body)), BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends the stream as the body of a PUT.  Should the request need to be resent, for instance to follow a
+     * redirect, a {@link ByteArrayInputStream} body is sent again from the start; a body from any other stream can
+     * only be sent once, so the resent request fails rather than sending what remains of the stream.
+     */
+    @Override
+    public HttpResponse<String> put(String path, Map<String, String> headers, InputStream body) {
+        if (body == null) {
+            throw new ClientException("No request body specified for PUT operation");
+        }
+        BodyPublisher publisher = BodyPublishers.ofInputStream(resendable(body));
+        long contentLength = contentLengthOf(headers);
+        if (contentLength >= 0) {
+            publisher = BodyPublishers.fromPublisher(publisher, contentLength);
+        }
+        return send(request(path, headers).PUT(publisher), BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public HttpResponse<String> put(String path, String body, Map<String, String> headers) {
+        return send(request(path, headers).PUT(ofString(body)), BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public HttpResponse<String> put(String path, Map<String, String> headers, byte[] body, int offset, int length) {
+        if (body == null) {
+            throw new ClientException("No request body specified for PUT operation");
+        }
+        return send(
+                request(path, headers).PUT(BodyPublishers.ofByteArray(body, offset, length)),
+                BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public HttpResponse<String> delete(String path, Map<String, String> headers, String body) {
+        return send(
+                request(path, headers).method("DELETE", ofString(body)),
+                BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> getAsync(String path, Map<String, String> headers) {
+        return sendAsync(() -> request(path, headers).GET(), BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<InputStream>> getInputStreamAsync(String path, Map<String, String> headers) {
+        return sendAsync(() -> request(path, headers).GET(), BodyHandlers.ofInputStream())
+                .thenApply(JavaNetHttpClient::bufferErrorBody);
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<Void>> headAsync(String path, Map<String, String> headers) {
+        return sendAsync(
+                () -> request(path, headers).method("HEAD", BodyPublishers.noBody()), BodyHandlers.discarding());
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> postAsync(String path, Map<String, String> headers, String body) {
+        return sendAsync(
+                () -> request(path, headers).POST(ofString(body)), BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> putAsync(String path, String body, Map<String, String> headers) {
+        return sendAsync(
+                () -> request(path, headers).PUT(ofString(body)), BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<String>> deleteAsync(String path, Map<String, String> headers, String body) {
+        return sendAsync(
+                () -> request(path, headers).method("DELETE", ofString(body)),
+                BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Supplies the body each time the HTTP client subscribes to it, rewinding it for every subscription after the
+     * first.
+     */
+    private static Supplier<InputStream> resendable(InputStream body) {
+        boolean rewindable = body instanceof ByteArrayInputStream;
+        if (rewindable) {
+            body.mark(0);
+        }
+        AtomicBoolean supplied = new AtomicBoolean();
+        return () -> {
+            if (supplied.compareAndSet(false, true)) {
+                return body;
+            }
+            if (!rewindable) {
+                throw new ClientException("Request body has already been sent and cannot be sent again");
+            }
+            try {
+                body.reset();
+            } catch (IOException e) {
+                throw new ClientException("Unable to rewind request body", e);
+            }
+            return body;
+        };
+    }
+
+    private HttpRequest.Builder request(String path, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(parseUri(path));
+        headers.forEach((name, value) -> {
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                builder.header(name, value);
+            }
+        });
+        builder.header("User-Agent", UserAgentGenerator.getUserAgentString(JavaNetHttpClient.class));
+        return builder;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder builder, BodyHandler<T> bodyHandler) {
+        HttpRequest request = builder.build();
+        logger.debug("Executing {} request for URL: {}", request.method(), request.uri());
+        try {
+            return toResponse(httpClient.send(request, bodyHandler));
+        } catch (IOException e) {
+            throw new ClientException("Error performing HTTP operation", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Interrupted performing HTTP operation", e);
+        }
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            Supplier<HttpRequest.Builder> builder, BodyHandler<T> bodyHandler) {
+        HttpRequest request;
+        try {
+            request = builder.get().build();
+        } catch (ClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        logger.debug("Executing asynchronous {} request for URL: {}", request.method(), request.uri());
+        return httpClient.sendAsync(request, bodyHandler).handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                throw new CompletionException(new ClientException("Error performing HTTP operation", cause));
+            }
+            return toResponse(response);
+        });
+    }
+
+    private static <T> HttpResponse<T> toResponse(java.net.http.HttpResponse<T> response) {
+        HttpResponse<T> result = HttpResponse.<T>builder()
+                .statusCode(response.statusCode())
+                .headers(caseInsensitive(response.headers().map()))
+                .body(errorBodyOrDefault(response))
+                .build();
+        logger.debug("Response: {} over {}", result, response.version());
+        return result;
+    }
+
+    /**
+     * Reads the body of an error response, so the connection is released before the error is handled.
+     */
+    private static HttpResponse<InputStream> bufferErrorBody(HttpResponse<InputStream> response) {
+        if (!response.isError()) {
+            return response;
+        }
+        return HttpResponse.<InputStream>builder()
+                .statusCode(response.getStatusCode())
+                .headers(response.getHeaders())
+                .body(new ByteArrayInputStream(readErrorBody(response.getBody())))
+                .build();
+    }
+
+    /**
+     * Substitutes a generic error for an empty error body, as {@link JdkClient} does.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T errorBodyOrDefault(java.net.http.HttpResponse<T> response) {
+        T body = response.body();
+        if (response.statusCode() >= 400 && body instanceof String && ((String) body).isEmpty()) {
+            return (T) DEFAULT_ERROR;
+        }
+        return body;
+    }
+
+    private static byte[] readErrorBody(InputStream body) {
+        try (InputStream in = body) {
+            byte[] bytes = in.readAllBytes();
+            return bytes.length > 0 ? bytes : DEFAULT_ERROR.getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ClientException("Failed to read data from response", e);
+        }
+    }
+
+    private static BodyPublisher ofString(String body) {
+        if (body == null) {
+            return BodyPublishers.noBody();
+        }
+        logger.debug("Request body: {}", body);
+        return BodyPublishers.ofString(body, StandardCharsets.UTF_8);
+    }
+
+    private static long contentLengthOf(Map<String, String> headers) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (CONTENT_LENGTH_HEADER.equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                try {
+                    return Long.parseLong(header.getValue().trim());
+                } catch (NumberFormatException e) {
+                    return -1L;
+                }
+            }
+        }
+        return -1L;
+    }
+
+    private static URI parseUri(String path) {
+        try {
+            URI uri = new URI(path);
+            if (!uri.isAbsolute()) {
+                throw new URISyntaxException(path, "URL is not absolute");
+            }
+            return uri;
+        } catch (URISyntaxException e) {
+            throw new ClientException(String.format("Malformed URL path received: %s", path), e);
+        }
+    }
+
+    /**
+     * HTTP/2 header names are lower case, so headers are looked up without regard to case, as they are over HTTP/1.1.
+     */
+    private static Map<String, List<String>> caseInsensitive(Map<String, List<String>> headers) {
+        Map<String, List<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        result.putAll(headers);
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Set<String> caseInsensitiveSet(String... values) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(Arrays.asList(values));
+        return Collections.unmodifiableSet(set);
+    }
+}
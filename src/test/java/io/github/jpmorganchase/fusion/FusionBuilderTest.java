@@ -5,6 +5,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.Test;
 
 public class FusionBuilderTest {
@@ -20,6 +22,29 @@ public class FusionBuilderTest {
                 is(equalTo("Failed to load credential file from path: config/client_credentials.json")));
     }
 
+    @Test
+    public void closingFusionDoesNotShutDownProvidedExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Fusion f =
+                    Fusion.builder().bearerToken("my token").executor(executor).build();
+
+            f.close();
+
+            assertThat(executor.isShutdown(), is(false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void constructionProvidesRetryMetricsForTransfers() {
+        Fusion f = Fusion.builder().bearerToken("my token").build();
+
+        assertThat(f.getRetryMetrics().isPresent(), is(true));
+        assertThat(f.getRetryMetrics().get().getRetries(), is(equalTo(0L)));
+    }
+
     @Test
     public void constructionWithNoUrlUsesDefaultUrl() {
         Fusion f = Fusion.builder().bearerToken("my token").build();
@@ -1,12 +1,20 @@
 package io.github.jpmorganchase.fusion;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import io.github.jpmorganchase.fusion.api.APIManager;
+import io.github.jpmorganchase.fusion.api.batch.DownloadListener;
+import io.github.jpmorganchase.fusion.api.batch.DownloadResult;
+import io.github.jpmorganchase.fusion.api.concurrent.TransferScheduler;
+import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.http.Client;
 import io.github.jpmorganchase.fusion.http.HttpResponse;
 import io.github.jpmorganchase.fusion.model.*;
@@ -14,16 +22,27 @@ import io.github.jpmorganchase.fusion.oauth.credential.BearerTokenCredentials;
 import io.github.jpmorganchase.fusion.parsing.APIResponseParser;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 @ExtendWith(MockitoExtension.class)
 public class FusionTest {
@@ -626,6 +645,23 @@ public class FusionTest {
                 .build();
     }
 
+    @Test
+    public void testExecutorCannotBeUsedWithAProvidedApiManager() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FusionInitialisationException thrown =
+                    assertThrows(FusionInitialisationException.class, () -> Fusion.builder()
+                            .configuration(config)
+                            .bearerToken("my token")
+                            .api(apiManager)
+                            .executor(executor)
+                            .build());
+            assertThat(thrown.getMessage(), containsString("executor"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testListCatalogsInteraction() throws Exception {
         Fusion f = stubFusion();
@@ -882,6 +918,150 @@ public class FusionTest {
                                 "No files found to download for catalog=common, dataset=sample_dataset, series=20230308, distribution=csv")));
     }
 
+    @Test
+    public void testDownloadFilesReportsEachFileAndContinuesAfterAFailure() throws Exception {
+        Fusion f = stubFusion();
+        givenDistributionFiles("file1", "file2", "file3");
+        APICallException failure = new APICallException(500, "Internal server error");
+        doAnswer(invocation -> {
+                    if ("file2".equals(invocation.getArgument(5))) {
+                        throw failure;
+                    }
+                    return null;
+                })
+                .when(apiManager)
+                .callAPIFileDownload(
+                        anyString(), anyString(), eq("common"), eq("sample_dataset"), anyMap(), anyString(), eq(false));
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        DownloadListener listener = new DownloadListener() {
+            @Override
+            public void onStarted(String fileName, String path) {
+                events.add("started " + fileName);
+            }
+
+            @Override
+            public void onCompleted(String fileName, String path, long bytes) {
+                events.add("completed " + fileName);
+            }
+
+            @Override
+            public void onFailed(String fileName, Throwable cause) {
+                events.add("failed " + fileName);
+            }
+        };
+
+        DownloadResult result = f.downloadFiles(
+                "common", "sample_dataset", "20230308", "csv", TMP_PATH, new HashMap<>(), null, listener);
+
+        assertThat(result.isSuccessful(), is(false));
+        assertThat(result.getDownloaded().keySet(), containsInAnyOrder("file1", "file3"));
+        assertThat(result.getDownloaded().get("file3"), is(equalTo(String.format("%s/%s", TMP_PATH, "file3.csv"))));
+        assertThat(result.getFailed().keySet(), contains("file2"));
+        assertThat(result.getFailed().get("file2"), is(failure));
+        assertThat(
+                events,
+                containsInAnyOrder(
+                        "started file1",
+                        "completed file1",
+                        "started file2",
+                        "failed file2",
+                        "started file3",
+                        "completed file3"));
+        verify(apiManager, times(3))
+                .callAPIFileDownload(
+                        anyString(), anyString(), eq("common"), eq("sample_dataset"), anyMap(), anyString(), eq(false));
+    }
+
+    @Test
+    public void testDownloadThrowsFirstFailureWithOtherFailuresSuppressed() throws Exception {
+        Fusion f = stubFusion();
+        givenDistributionFiles("file1", "file2");
+        APICallException first = new APICallException(500, "Internal server error");
+        APICallException second = new APICallException(503, "Service unavailable");
+        doThrow(first)
+                .when(apiManager)
+                .callAPIFileDownload(
+                        anyString(), anyString(), eq("common"), eq("sample_dataset"), anyMap(), eq("file1"), eq(false));
+        doThrow(second)
+                .when(apiManager)
+                .callAPIFileDownload(
+                        anyString(), anyString(), eq("common"), eq("sample_dataset"), anyMap(), eq("file2"), eq(false));
+
+        APICallException thrown = assertThrows(
+                APICallException.class, () -> f.download("common", "sample_dataset", "20230308", "csv", TMP_PATH));
+
+        assertThat(thrown, is(first));
+        assertThat(Arrays.asList(thrown.getSuppressed()), contains(second));
+    }
+
+    @Test
+    public void testDownloadSeriesDownloadsEverySeriesMemberAndReportsThoseThatCannotBeListed() throws Exception {
+        Fusion f = stubFusion();
+        givenDistributionFilesOfSeries("20230308", "common_sample_dataset_20230308");
+        givenDistributionFilesOfSeries("20230309", "common_sample_dataset_20230309");
+        givenDistributionFilesOfSeries("20230310");
+        when(apiManager.callAPI(
+                        String.format("%scatalogs/%s/datasets/%s", config.getRootURL(), "common", "sample_dataset")))
+                .thenReturn("{}");
+
+        Map<String, DownloadResult> results = f.downloadSeries(
+                "common",
+                "sample_dataset",
+                Arrays.asList("20230308", "20230309", "20230310"),
+                "csv",
+                TMP_PATH,
+                new HashMap<>(),
+                null);
+
+        assertThat(results.keySet(), contains("20230308", "20230309", "20230310"));
+        assertThat(
+                results.get("20230309").getDownloaded().get("common_sample_dataset_20230309"),
+                is(equalTo(String.format("%s/%s", TMP_PATH, "common_sample_dataset_20230309.csv"))));
+        assertThat(results.get("20230308").isSuccessful(), is(true));
+        assertThat(results.get("20230310").getFailed().get("20230310"), is(instanceOf(FusionException.class)));
+        verify(apiManager, times(1))
+                .callAPI(String.format("%scatalogs/%s/datasets/%s", config.getRootURL(), "common", "sample_dataset"));
+        verify(apiManager, times(2))
+                .callAPIFileDownload(
+                        anyString(), anyString(), eq("common"), eq("sample_dataset"), anyMap(), anyString(), eq(false));
+    }
+
+    private void givenDistributionFilesOfSeries(String seriesMember, String... identifiers) {
+        String jsonResponse = String.format("{\"resources\": [], \"series\": \"%s\"}", seriesMember);
+        Map<String, DistributionFile> stubResponse = new LinkedHashMap<>();
+        for (String identifier : identifiers) {
+            stubResponse.put(
+                    identifier,
+                    DistributionFile.builder()
+                            .identifier(identifier)
+                            .fileExtension(".csv")
+                            .build());
+        }
+        when(apiManager.callAPI(String.format(
+                        "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files",
+                        config.getRootURL(), "common", "sample_dataset", seriesMember, "csv")))
+                .thenReturn(jsonResponse);
+        when(responseParser.parseDistributionFilesResponse(jsonResponse)).thenReturn(stubResponse);
+    }
+
+    private void givenDistributionFiles(String... identifiers) {
+        String jsonResponse = "{\"resources\": []}";
+        Map<String, DistributionFile> stubResponse = new LinkedHashMap<>();
+        for (String identifier : identifiers) {
+            stubResponse.put(
+                    identifier,
+                    DistributionFile.builder()
+                            .identifier(identifier)
+                            .fileExtension(".csv")
+                            .build());
+        }
+        when(apiManager.callAPI(String.format(
+                        "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files",
+                        config.getRootURL(), "common", "sample_dataset", "20230308", "csv")))
+                .thenReturn(jsonResponse);
+        when(responseParser.parseDistributionFilesResponse(jsonResponse)).thenReturn(stubResponse);
+    }
+
     @Test
     public void testDownloadStreamMultipleFiles() throws Exception {
         Fusion f = stubFusion();
@@ -925,6 +1105,189 @@ public class FusionTest {
         assertThat(response.size(), is(equalTo(2)));
         assertThat(response.containsKey("file1"), is(true));
         assertThat(response.containsKey("file2"), is(true));
+        assertThat(readFully(response.get("file1")), is(equalTo("A,B,C\n1,2,3")));
+        assertThat(readFully(response.get("file2")), is(equalTo("D,E,F\n4,5,6")));
+    }
+
+    @Test
+    public void testDownloadStreamConnectsOnlyWhenAStreamIsRead() throws Exception {
+        Fusion f = stubFusion();
+
+        String jsonResponse = "{\"resources\": [{\"identifier\": \"file1\"}, {\"identifier\": \"file2\"}]}";
+        Map<String, DistributionFile> stubResponse = new LinkedHashMap<>();
+        stubResponse.put("file1", DistributionFile.builder().identifier("file1").build());
+        stubResponse.put("file2", DistributionFile.builder().identifier("file2").build());
+
+        when(apiManager.callAPI(String.format(
+                        "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files",
+                        config.getRootURL(), "common", "sample_dataset", "20230308", "csv")))
+                .thenReturn(jsonResponse);
+        when(responseParser.parseDistributionFilesResponse(jsonResponse)).thenReturn(stubResponse);
+
+        String downloadUrl = String.format(
+                "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files/operationType/download",
+                config.getRootURL(), "common", "sample_dataset", "20230308", "csv");
+        when(apiManager.callAPIFileDownload(downloadUrl, "common", "sample_dataset", new HashMap<>(), "file2", false))
+                .thenReturn(new ByteArrayInputStream("D,E,F\n4,5,6".getBytes()));
+
+        Map<String, InputStream> response = f.downloadStream("common", "sample_dataset", "20230308", "csv");
+        verify(apiManager, never())
+                .callAPIFileDownload(anyString(), anyString(), anyString(), anyMap(), anyString(), anyBoolean());
+
+        assertThat(readFully(response.get("file2")), is(equalTo("D,E,F\n4,5,6")));
+        response.get("file1").close();
+
+        verify(apiManager, never())
+                .callAPIFileDownload(downloadUrl, "common", "sample_dataset", new HashMap<>(), "file1", false);
+    }
+
+    private static String readFully(InputStream stream) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+
+    @Test
+    public void testDownloadPublisherDownloadsOnlyOnDemand() throws Exception {
+        Fusion f = stubFusion();
+
+        String jsonResponse = "{\"resources\": [{\"identifier\": \"file1\"}, {\"identifier\": \"file2\"}]}";
+        Map<String, DistributionFile> stubResponse = new LinkedHashMap<>();
+        stubResponse.put("file1", DistributionFile.builder().identifier("file1").build());
+        stubResponse.put("file2", DistributionFile.builder().identifier("file2").build());
+
+        when(apiManager.callAPI(String.format(
+                        "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files",
+                        config.getRootURL(), "common", "sample_dataset", "20230308", "csv")))
+                .thenReturn(jsonResponse);
+        when(responseParser.parseDistributionFilesResponse(jsonResponse)).thenReturn(stubResponse);
+
+        String downloadUrl = String.format(
+                "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files/operationType/download",
+                config.getRootURL(), "common", "sample_dataset", "20230308", "csv");
+        when(apiManager.callAPIFileDownload(downloadUrl, "common", "sample_dataset", new HashMap<>(), "file1", false))
+                .thenReturn(new ByteArrayInputStream("A,B,C\n1,2,3".getBytes()));
+
+        Map<String, Publisher<ByteBuffer>> response =
+                f.downloadPublisher("common", "sample_dataset", "20230308", "csv");
+
+        assertThat(response.keySet(), contains("file1", "file2"));
+        verify(apiManager, never())
+                .callAPIFileDownload(anyString(), anyString(), anyString(), anyMap(), anyString(), anyBoolean());
+
+        CompletableFuture<String> content = new CompletableFuture<>();
+        response.get("file1").subscribe(new Subscriber<ByteBuffer>() {
+            private final StringBuilder received = new StringBuilder();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                received.append(StandardCharsets.UTF_8.decode(item));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                content.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                content.complete(received.toString());
+            }
+        });
+
+        assertThat(content.get(5, TimeUnit.SECONDS), is(equalTo("A,B,C\n1,2,3")));
+        verify(apiManager, never())
+                .callAPIFileDownload(downloadUrl, "common", "sample_dataset", new HashMap<>(), "file2", false);
+    }
+
+    @Test
+    public void testDownloadPublishersDrainConcurrentlyBeyondTheInFlightBoundInVirtualThreadMode() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        TransferScheduler scheduler = TransferScheduler.builder()
+                .executor(executor)
+                .virtualThreads(true)
+                .maxInFlightRequests(2)
+                .build();
+        Fusion f = new Fusion(
+                apiManager, null, null, config.getRootURL(), responseParser, null, scheduler, null, null, null, null);
+
+        String jsonResponse = "{\"resources\": []}";
+        Map<String, DistributionFile> stubResponse = new LinkedHashMap<>();
+        for (String identifier : Arrays.asList("file1", "file2", "file3")) {
+            stubResponse.put(
+                    identifier,
+                    DistributionFile.builder().identifier(identifier).build());
+        }
+        when(apiManager.callAPI(String.format(
+                        "%scatalogs/%s/datasets/%s/datasetseries/%s/distributions/%s/files",
+                        config.getRootURL(), "common", "sample_dataset", "20230308", "csv")))
+                .thenReturn(jsonResponse);
+        when(responseParser.parseDistributionFilesResponse(jsonResponse)).thenReturn(stubResponse);
+
+        CountDownLatch reading = new CountDownLatch(stubResponse.size());
+        when(apiManager.callAPIFileDownload(anyString(), anyString(), anyString(), anyMap(), anyString(), anyBoolean()))
+                .thenAnswer(invocation -> new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        reading.countDown();
+                        try {
+                            if (!reading.await(5, TimeUnit.SECONDS)) {
+                                throw new IOException("Not every publisher was reading at once");
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException(e);
+                        }
+                        return -1;
+                    }
+                });
+
+        try {
+            List<CompletableFuture<String>> contents = new ArrayList<>();
+            f.downloadPublisher("common", "sample_dataset", "20230308", "csv")
+                    .values()
+                    .forEach(publisher -> contents.add(whenPublisherIsDrained(publisher)));
+
+            for (CompletableFuture<String> content : contents) {
+                assertThat(content.get(10, TimeUnit.SECONDS), is(equalTo("")));
+            }
+        } finally {
+            scheduler.close();
+            executor.shutdownNow();
+        }
+    }
+
+    private static CompletableFuture<String> whenPublisherIsDrained(Publisher<ByteBuffer> publisher) {
+        CompletableFuture<String> content = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<ByteBuffer>() {
+            private final StringBuilder received = new StringBuilder();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                received.append(StandardCharsets.UTF_8.decode(item));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                content.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                content.complete(received.toString());
+            }
+        });
+        return content;
     }
 
     @Test
@@ -1078,6 +1441,100 @@ public class FusionTest {
         verify(apiManager, times(2)).callAPIWithResponse(anyString(), anyMap());
     }
 
+    @Test
+    public void testStreamDatasetsParsesEachPageAsItIsReached() throws Exception {
+        Fusion f = stubFusion();
+        String url = String.format("%1scatalogs/%2s/datasets", config.getRootURL(), "common");
+        String page1 = "{\"resources\":[{\"identifier\":\"dataset1\"}]}";
+        String page2 = "{\"resources\":[{\"identifier\":\"dataset2\"}]}";
+
+        when(apiManager.callAPIWithResponse(eq(url), argThat(headers -> !headers.containsKey("x-jpmc-next-token"))))
+                .thenReturn(HttpResponse.<String>builder()
+                        .statusCode(200)
+                        .body(page1)
+                        .headers(Collections.singletonMap("x-jpmc-next-token", Collections.singletonList("token123")))
+                        .build());
+        when(apiManager.callAPIWithResponse(
+                        eq(url), argThat(headers -> "token123".equals(headers.get("x-jpmc-next-token")))))
+                .thenReturn(HttpResponse.<String>builder()
+                        .statusCode(200)
+                        .body(page2)
+                        .headers(new HashMap<>())
+                        .build());
+        Dataset dataset1 = Dataset.builder().identifier("dataset1").build();
+        Dataset dataset2 = Dataset.builder().identifier("dataset2").build();
+        when(responseParser.parseDatasetResponse(page1, "common"))
+                .thenReturn(Collections.singletonMap("dataset1", dataset1));
+        when(responseParser.parseDatasetResponse(page2, "common"))
+                .thenReturn(Collections.singletonMap("dataset2", dataset2));
+
+        Iterator<Dataset> datasets = f.streamDatasets("common").iterator();
+
+        assertThat(datasets.next(), is(equalTo(dataset1)));
+        verify(apiManager, times(1)).callAPIWithResponse(anyString(), anyMap());
+        assertThat(datasets.next(), is(equalTo(dataset2)));
+        assertThat(datasets.hasNext(), is(false));
+        verify(apiManager, times(2)).callAPIWithResponse(anyString(), anyMap());
+    }
+
+    @Test
+    public void testListDatasetsAsyncWithPagination() throws Exception {
+        Fusion f = stubFusion();
+
+        Map<String, List<String>> headers1 = new HashMap<>();
+        headers1.put("x-jpmc-next-token", Collections.singletonList("token123"));
+
+        HttpResponse<String> httpResponse1 = HttpResponse.<String>builder()
+                .statusCode(200)
+                .body("{\"resources\":[{\"identifier\":\"dataset1\",\"description\":\"First\"}]}")
+                .headers(headers1)
+                .build();
+
+        HttpResponse<String> httpResponse2 = HttpResponse.<String>builder()
+                .statusCode(200)
+                .body("{\"resources\":[{\"identifier\":\"dataset2\",\"description\":\"Second\"}]}")
+                .headers(new HashMap<>())
+                .build();
+
+        when(apiManager.callAPIWithResponseAsync(
+                        eq(String.format("%1scatalogs/%2s/datasets", config.getRootURL(), "common")),
+                        argThat(headers -> !headers.containsKey("x-jpmc-next-token"))))
+                .thenReturn(CompletableFuture.completedFuture(httpResponse1));
+
+        when(apiManager.callAPIWithResponseAsync(
+                        eq(String.format("%1scatalogs/%2s/datasets", config.getRootURL(), "common")),
+                        argThat(headers -> "token123".equals(headers.get("x-jpmc-next-token")))))
+                .thenReturn(CompletableFuture.completedFuture(httpResponse2));
+
+        Map<String, Dataset> stubResponse = new HashMap<>();
+        stubResponse.put("dataset1", Dataset.builder().identifier("dataset1").build());
+        stubResponse.put("dataset2", Dataset.builder().identifier("dataset2").build());
+
+        String aggregatedJson =
+                "{\"resources\":[{\"identifier\":\"dataset1\",\"description\":\"First\"},{\"identifier\":\"dataset2\",\"description\":\"Second\"}]}";
+        when(responseParser.parseDatasetResponse(aggregatedJson, "common")).thenReturn(stubResponse);
+
+        Map<String, Dataset> actualResponse = f.listDatasetsAsync("common").join();
+        assertThat(actualResponse, is(equalTo(stubResponse)));
+
+        verify(apiManager, times(2)).callAPIWithResponseAsync(anyString(), anyMap());
+        verify(apiManager, never()).callAPIWithResponse(anyString(), anyMap());
+    }
+
+    @Test
+    public void testListCatalogsAsyncCompletesExceptionallyWhenCallFails() throws Exception {
+        Fusion f = stubFusion();
+
+        CompletableFuture<HttpResponse<String>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new APICallException(500, "Internal server error"));
+        when(apiManager.callAPIWithResponseAsync(eq(String.format("%1scatalogs", config.getRootURL())), anyMap()))
+                .thenReturn(failed);
+
+        CompletionException thrown = assertThrows(
+                CompletionException.class, () -> f.listCatalogsAsync().join());
+        assertThat(thrown.getCause(), is(instanceOf(APICallException.class)));
+    }
+
     @Test
     public void testListProductsWithPagination() throws Exception {
         Fusion f = stubFusion();
@@ -2,12 +2,22 @@ package io.github.jpmorganchase.fusion.api;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.jpmorganchase.fusion.FusionConfiguration;
 import io.github.jpmorganchase.fusion.FusionInitialisationException;
+import io.github.jpmorganchase.fusion.api.cache.CachePolicy;
+import io.github.jpmorganchase.fusion.api.cache.ResponseCache;
 import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.http.Client;
 import io.github.jpmorganchase.fusion.http.HttpResponse;
@@ -16,8 +26,10 @@ import io.github.jpmorganchase.fusion.model.Dataset;
 import io.github.jpmorganchase.fusion.oauth.provider.FusionTokenProvider;
 import io.github.jpmorganchase.fusion.serializing.APIRequestSerializer;
 import java.net.HttpURLConnection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -52,6 +64,8 @@ public class FusionAPIManagerTest {
 
     private String serializedCatalogResource;
 
+    private long now;
+
     @Test
     void successfulGetCall() {
         givenFusionApiManager();
@@ -136,6 +150,111 @@ public class FusionAPIManagerTest {
         thenExceptionMessageShouldMatchExpected("The requested resource does not exist.");
     }
 
+    @Test
+    void successfulAsyncGetCall() {
+        givenFusionApiManager();
+        givenApiPath("http://localhost:8080/test");
+        givenSessionBearerToken("my-token");
+        givenResponseBody("sample response");
+        givenRequestHeader("Authorization", "Bearer my-token");
+        givenCallToClientToGetIsSuccessful();
+        whenFusionApiManagerIsCalledToGetAsync();
+        thenTheResponseBodyShouldMatchExpected();
+    }
+
+    @Test
+    void asyncGetCallForResourceNotFoundCompletesExceptionally() {
+        givenFusionApiManager();
+        givenApiPath("http://localhost:8080/test");
+        givenSessionBearerToken("my-token");
+        givenRequestHeader("Authorization", "Bearer my-token");
+        givenCallToClientToGetReturnsNotFound();
+        whenFusionApiManagerIsCalledAsyncThenExceptionShouldBeThrown(APICallException.class);
+        thenExceptionMessageShouldMatchExpected("The requested resource does not exist.");
+    }
+
+    @Test
+    void asyncGetCallsRunTheBlockingCallsOfAnImplementationThatDoesNotOverrideThem() {
+        APIManager apiManager = mock(APIManager.class, CALLS_REAL_METHODS);
+        HttpResponse<String> response = HttpResponse.<String>builder()
+                .statusCode(200)
+                .body("sample response")
+                .build();
+        doReturn("sample response").when(apiManager).callAPI("http://localhost:8080/test");
+        doReturn(response).when(apiManager).callAPIWithResponse("http://localhost:8080/test", requestHeaders);
+
+        assertThat(apiManager.callAPIAsync("http://localhost:8080/test").join(), is(equalTo("sample response")));
+        assertThat(
+                apiManager
+                        .callAPIWithResponseAsync("http://localhost:8080/test", requestHeaders)
+                        .join(),
+                is(response));
+    }
+
+    @Test
+    void asyncGetCallOfAnImplementationThatDoesNotOverrideItCompletesExceptionally() {
+        APIManager apiManager = mock(APIManager.class, CALLS_REAL_METHODS);
+        doThrow(new APICallException(HttpURLConnection.HTTP_NOT_FOUND, "Not Found"))
+                .when(apiManager)
+                .callAPI("http://localhost:8080/test");
+
+        CompletionException completion = assertThrows(
+                CompletionException.class,
+                () -> apiManager.callAPIAsync("http://localhost:8080/test").join());
+
+        assertThat(completion.getCause(), is(instanceOf(APICallException.class)));
+    }
+
+    @Test
+    void repeatedGetCallIsServedFromTheCacheWhenCachingIsEnabled() {
+        givenCachingFusionApiManager();
+        givenApiPath("http://localhost:8080/catalogs/common/datasets");
+        givenSessionBearerToken("my-token");
+        givenResponseBody("sample response");
+        givenRequestHeader("Authorization", "Bearer my-token");
+        givenCallToClientToGetIsSuccessful();
+        WhenFusionApiManagerIsCalledToGet();
+        WhenFusionApiManagerIsCalledToGet();
+        thenTheResponseBodyShouldMatchExpected();
+        thenTheClientShouldHaveBeenCalledToGetTimes(1);
+    }
+
+    @Test
+    void getCallIsSentAgainOnceTheResourceIsUpdated() {
+        givenCachingFusionApiManager();
+        givenApiPath("http://localhost:8080/catalogs/common/datasets/dataset_one");
+        givenSessionBearerToken("my-token");
+        givenResponseBody("sample response");
+        givenCatalogResource("dataset_one");
+        givenSerializedCatalogResource("dataset_one");
+        givenRequestHeader("Authorization", "Bearer my-token");
+        givenCallToClientToGetIsSuccessful();
+        WhenFusionApiManagerIsCalledToGet();
+        givenRequestHeader("Content-Type", "application/json");
+        givenCallToClientToPutIsSuccessful();
+        givenCallToSerializeCatalogResource();
+        WhenFusionApiManagerIsCalledToPut();
+        requestHeaders.remove("Content-Type");
+        WhenFusionApiManagerIsCalledToGet();
+        thenTheClientShouldHaveBeenCalledToGetTimes(2);
+    }
+
+    @Test
+    void expiredResponseIsServedFromTheCacheWhenTheServerReportsItNotModified() {
+        givenRevalidatingFusionApiManager();
+        givenApiPath("http://localhost:8080/catalogs/common/datasets");
+        givenSessionBearerToken("my-token");
+        givenResponseBody("sample response");
+        givenRequestHeader("Authorization", "Bearer my-token");
+        givenCallToClientToGetIsSuccessfulWithEtag("\"v1\"");
+        WhenFusionApiManagerIsCalledToGet();
+        givenCachedResponsesHaveExpired();
+        givenCallToClientToGetIfNoneMatchIsNotModified("\"v1\"");
+        WhenFusionApiManagerIsCalledToGet();
+        thenTheResponseBodyShouldMatchExpected();
+        thenTheClientShouldHaveBeenCalledToGetTimes(1);
+    }
+
     @Test
     public void constructionWithNoCredentialsThrowsException() {
         FusionInitialisationException thrown = assertThrows(
@@ -153,6 +272,10 @@ public class FusionAPIManagerTest {
         actualResponse = fusionAPIManager.callAPI(apiPath);
     }
 
+    private void whenFusionApiManagerIsCalledToGetAsync() {
+        actualResponse = fusionAPIManager.callAPIAsync(apiPath).join();
+    }
+
     private void WhenFusionApiManagerIsCalledToPost() {
         actualResponse = fusionAPIManager.callAPIToPost(apiPath, catalogResource);
     }
@@ -177,6 +300,28 @@ public class FusionAPIManagerTest {
         when(client.get(apiPath, requestHeaders)).thenReturn(expectedHttpResponse);
     }
 
+    private void givenCallToClientToGetIsSuccessfulWithEtag(String etag) {
+        HttpResponse<String> expectedHttpResponse = HttpResponse.<String>builder()
+                .statusCode(200)
+                .headers(Collections.singletonMap("ETag", Collections.singletonList(etag)))
+                .body(responseBody)
+                .build();
+        when(client.get(apiPath, requestHeaders)).thenReturn(expectedHttpResponse);
+    }
+
+    private void givenCallToClientToGetIfNoneMatchIsNotModified(String etag) {
+        Map<String, String> conditionalHeaders = new HashMap<>(requestHeaders);
+        conditionalHeaders.put("If-None-Match", etag);
+        HttpResponse<String> notModified = HttpResponse.<String>builder()
+                .statusCode(HttpURLConnection.HTTP_NOT_MODIFIED)
+                .build();
+        when(client.get(apiPath, conditionalHeaders)).thenReturn(notModified);
+    }
+
+    private void givenCachedResponsesHaveExpired() {
+        now += CachePolicy.builder().build().getDefaultTtlMillis();
+    }
+
     private void givenCallToClientToPostIsSuccessful() {
         HttpResponse<String> expectedHttpResponse = HttpResponse.<String>builder()
                 .statusCode(200)
@@ -210,6 +355,16 @@ public class FusionAPIManagerTest {
                 exceptionClass, () -> fusionAPIManager.callAPI(apiPath), "Expected Exception but none thrown");
     }
 
+    private void whenFusionApiManagerIsCalledAsyncThenExceptionShouldBeThrown(
+            Class<? extends Throwable> exceptionClass) {
+        CompletionException completion = assertThrows(
+                CompletionException.class,
+                () -> fusionAPIManager.callAPIAsync(apiPath).join(),
+                "Expected Exception but none thrown");
+        thrown = completion.getCause();
+        assertThat(thrown, is(instanceOf(exceptionClass)));
+    }
+
     private void givenCallToClientToGetReturnsNotFound() {
         HttpResponse<String> expectedHttpResponse = HttpResponse.<String>builder()
                 .statusCode(HttpURLConnection.HTTP_NOT_FOUND)
@@ -225,6 +380,30 @@ public class FusionAPIManagerTest {
         requestHeaders.put(headerKey, headerValue);
     }
 
+    private void thenTheClientShouldHaveBeenCalledToGetTimes(int times) {
+        verify(client, times(times)).get(apiPath, requestHeaders);
+    }
+
+    private void givenCachingFusionApiManager() {
+        fusionAPIManager = FusionAPIManager.builder()
+                .httpClient(client)
+                .tokenProvider(fusionTokenProvider)
+                .serializer(serializer)
+                .configuration(FusionConfiguration.builder()
+                        .cachePolicy(CachePolicy.builder().build())
+                        .build())
+                .build();
+    }
+
+    private void givenRevalidatingFusionApiManager() {
+        fusionAPIManager = FusionAPIManager.builder()
+                .httpClient(client)
+                .tokenProvider(fusionTokenProvider)
+                .serializer(serializer)
+                .responseCache(new ResponseCache(CachePolicy.builder().build(), () -> now))
+                .build();
+    }
+
     private void givenFusionApiManager() {
         fusionAPIManager = FusionAPIManager.builder()
                 .httpClient(client)
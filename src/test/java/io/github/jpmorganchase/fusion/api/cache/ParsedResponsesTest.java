@@ -0,0 +1,56 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import io.github.jpmorganchase.fusion.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ParsedResponsesTest {
+
+    private static final String DATASETS = "https://fusion/api/v1/catalogs/common/datasets";
+
+    ParsedResponses testee = new ParsedResponses(10);
+
+    AtomicInteger parses = new AtomicInteger();
+
+    @Test
+    public void testPagesServedAgainAreNotParsedAgain() {
+        List<HttpResponse<String>> pages = Arrays.asList(responseOf("page 1"), responseOf("page 2"));
+
+        Map<String, String> first = whenParsed(pages);
+        first.put("modified", "by caller");
+        Map<String, String> second = whenParsed(pages);
+
+        assertThat(parses.get(), is(equalTo(1)));
+        assertThat(second, is(equalTo(Collections.singletonMap("datasets", "2 pages"))));
+    }
+
+    @Test
+    public void testPagesRequestedAgainInFullAreParsedAgain() {
+        HttpResponse<String> firstPage = responseOf("page 1");
+        whenParsed(Arrays.asList(firstPage, responseOf("page 2")));
+
+        whenParsed(Arrays.asList(firstPage, responseOf("page 2")));
+        whenParsed(Collections.singletonList(firstPage));
+
+        assertThat(parses.get(), is(equalTo(3)));
+    }
+
+    private Map<String, String> whenParsed(List<HttpResponse<String>> pages) {
+        return testee.parse(DATASETS, pages, () -> {
+            parses.incrementAndGet();
+            return Collections.singletonMap("datasets", pages.size() + " pages");
+        });
+    }
+
+    private static HttpResponse<String> responseOf(String body) {
+        return HttpResponse.<String>builder().statusCode(200).body(body).build();
+    }
+}
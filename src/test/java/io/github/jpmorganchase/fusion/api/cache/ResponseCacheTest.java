@@ -0,0 +1,257 @@
+package io.github.jpmorganchase.fusion.api.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import io.github.jpmorganchase.fusion.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResponseCacheTest {
+
+    private static final String ROOT = "https://fusion/api/v1/";
+    private static final String DATASETS = ROOT + "catalogs/common/datasets";
+    private static final String DATASET = DATASETS + "/sample_dataset";
+    private static final String ATTRIBUTES = DATASET + "/attributes";
+    private static final String CATALOGS = ROOT + "catalogs";
+
+    ResponseCache testee;
+
+    long now = 1_000L;
+
+    @Test
+    public void testResponseIsServedUntilItExpires() {
+        givenResponseCache(CachePolicy.builder().defaultTtlMillis(100).build());
+        testee.put(DATASETS, null, responseOf("datasets"));
+
+        now += 99;
+        assertThat(testee.get(DATASETS, null).isPresent(), is(true));
+        now += 1;
+        assertThat(testee.get(DATASETS, null).isPresent(), is(false));
+
+        assertThat(testee.getMetrics().getHits(), is(equalTo(1L)));
+        assertThat(testee.getMetrics().getMisses(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testResourceTypesMayHaveTheirOwnTimeToLive() {
+        givenResponseCache(CachePolicy.builder()
+                .defaultTtlMillis(100)
+                .ttlMillis(Collections.singletonMap(CachedResource.ATTRIBUTES, 1_000L))
+                .build());
+        testee.put(DATASETS, null, responseOf("datasets"));
+        testee.put(ATTRIBUTES, null, responseOf("attributes"));
+
+        now += 500;
+
+        assertThat(testee.get(DATASETS, null).isPresent(), is(false));
+        assertThat(testee.get(ATTRIBUTES, null).get().getBody(), is(equalTo("attributes")));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponseIsEvictedWhenFull() {
+        givenResponseCache(CachePolicy.builder().maxEntries(2).build());
+        testee.put(CATALOGS, null, responseOf("catalogs"));
+        testee.put(DATASETS, null, responseOf("datasets"));
+        testee.get(CATALOGS, null);
+
+        testee.put(ATTRIBUTES, null, responseOf("attributes"));
+
+        assertThat(testee.get(DATASETS, null).isPresent(), is(false));
+        assertThat(testee.get(CATALOGS, null).isPresent(), is(true));
+        assertThat(testee.getMetrics().getEvictions(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testResponsesAreKeyedByHeadersOtherThanAuthorization() {
+        givenResponseCache(CachePolicy.builder().build());
+        Map<String, String> firstPage = new HashMap<>();
+        firstPage.put("Authorization", "Bearer first-token");
+        firstPage.put("x-jpmc-paginate", "true");
+        testee.put(DATASETS, firstPage, responseOf("page 1"));
+
+        Map<String, String> sameRequestNewToken = new HashMap<>(firstPage);
+        sameRequestNewToken.put("Authorization", "Bearer second-token");
+        Map<String, String> secondPage = new HashMap<>(firstPage);
+        secondPage.put("x-jpmc-next-token", "2");
+
+        assertThat(testee.get(DATASETS, sameRequestNewToken).isPresent(), is(true));
+        assertThat(testee.get(DATASETS, secondPage).isPresent(), is(false));
+    }
+
+    @Test
+    public void testChangingAResourceInvalidatesItsCollectionAndTheResourcesItIsNestedIn() {
+        givenResponseCache(CachePolicy.builder().build());
+        String otherCatalog = ROOT + "catalogs/other/datasets";
+        testee.put(CATALOGS, null, responseOf("catalogs"));
+        testee.put(DATASETS, null, responseOf("datasets"));
+        testee.put(ATTRIBUTES, null, responseOf("attributes"));
+        testee.put(otherCatalog, null, responseOf("other"));
+
+        testee.invalidate(DATASET);
+
+        assertThat(testee.get(CATALOGS, null).isPresent(), is(false));
+        assertThat(testee.get(DATASETS, null).isPresent(), is(false));
+        assertThat(testee.get(ATTRIBUTES, null).isPresent(), is(false));
+        assertThat(testee.get(otherCatalog, null).isPresent(), is(true));
+        assertThat(testee.getMetrics().getInvalidations(), is(equalTo(3L)));
+    }
+
+    @Test
+    public void testNothingIsCachedForResourceTypesWithNoTimeToLive() {
+        givenResponseCache(CachePolicy.builder()
+                .ttlMillis(Collections.singletonMap(CachedResource.DATASETS, 0L))
+                .build());
+
+        testee.put(DATASETS, null, responseOf("datasets"));
+
+        assertThat(testee.size(), is(equalTo(0)));
+    }
+
+    @Test
+    public void testExpiredResponseWithValidatorsIsKeptForConditionalRequests() {
+        givenResponseCache(CachePolicy.builder().defaultTtlMillis(100).build());
+        testee.put(DATASETS, null, responseWithValidators("datasets", "\"v1\"", "Wed, 01 Mar 2023 10:00:00 GMT"));
+        testee.put(CATALOGS, null, responseOf("catalogs"));
+
+        now += 100;
+
+        assertThat(testee.get(DATASETS, null).isPresent(), is(false));
+        assertThat(testee.get(CATALOGS, null).isPresent(), is(false));
+        assertThat(testee.size(), is(equalTo(1)));
+        Map<String, String> conditions = testee.conditionalHeaders(DATASETS, null);
+        assertThat(conditions.get("If-None-Match"), is(equalTo("\"v1\"")));
+        assertThat(conditions.get("If-Modified-Since"), is(equalTo("Wed, 01 Mar 2023 10:00:00 GMT")));
+        assertThat(testee.conditionalHeaders(CATALOGS, null).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testResponseConfirmedUnchangedIsRenewedAndReturnedAsTheSameInstance() {
+        givenResponseCache(CachePolicy.builder().defaultTtlMillis(100).build());
+        HttpResponse<String> cached = responseWithValidators("datasets", "\"v1\"", null);
+        testee.put(DATASETS, null, cached);
+        now += 150;
+
+        HttpResponse<String> renewed = testee.notModified(DATASETS, null).get();
+
+        assertThat(renewed == cached, is(true));
+        assertThat(testee.get(DATASETS, null).get() == cached, is(true));
+        assertThat(testee.notModified(ATTRIBUTES, null).isPresent(), is(false));
+        assertThat(testee.getMetrics().getRevalidations(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testNewCacheStartsFromTheSnapshotOfAnEarlierOne(@TempDir Path directory) throws Exception {
+        CachePolicy policy = CachePolicy.builder()
+                .defaultTtlMillis(100)
+                .snapshotPath(directory.resolve("cache.jsonl.gz").toString())
+                .build();
+        givenResponseCache(policy);
+        Map<String, String> paginated = Collections.singletonMap("x-jpmc-paginate", "true");
+        testee.put(DATASETS, paginated, responseWithValidators("datasets", "\"v1\"", null));
+        testee.put(CATALOGS, null, responseOf("catalogs"));
+        now += 50;
+        testee.put(ATTRIBUTES, null, responseOf("attributes"));
+        testee.saveSnapshot();
+
+        now += 60;
+        givenResponseCache(policy);
+        int restored = testee.restoreSnapshot();
+
+        assertThat(restored, is(equalTo(2)));
+        assertThat(testee.get(ATTRIBUTES, null).get().getBody(), is(equalTo("attributes")));
+        assertThat(testee.get(CATALOGS, null).isPresent(), is(false));
+        assertThat(testee.get(DATASETS, paginated).isPresent(), is(false));
+        assertThat(testee.conditionalHeaders(DATASETS, paginated).get("If-None-Match"), is(equalTo("\"v1\"")));
+        assertThat(testee.notModified(DATASETS, paginated).get().getBody(), is(equalTo("datasets")));
+    }
+
+    @Test
+    public void testSnapshotIsOnlyRestoredForTheIdentityItWasSavedFor(@TempDir Path directory) throws Exception {
+        CachePolicy policy = CachePolicy.builder()
+                .snapshotPath(directory.resolve("cache.jsonl.gz").toString())
+                .build();
+        givenResponseCache(policy, "client-1");
+        testee.put(CATALOGS, null, responseOf("catalogs"));
+        testee.saveSnapshot();
+
+        givenResponseCache(policy, "client-2");
+        assertThat(testee.restoreSnapshot(), is(equalTo(0)));
+
+        givenResponseCache(policy, "client-1");
+        assertThat(testee.restoreSnapshot(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testCacheWithoutAnIdentityNeitherSavesNorRestoresSnapshots(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("cache.jsonl.gz");
+        CachePolicy policy =
+                CachePolicy.builder().snapshotPath(snapshot.toString()).build();
+        givenResponseCache(policy, null);
+        testee.put(CATALOGS, null, responseOf("catalogs"));
+
+        testee.saveSnapshot();
+
+        assertThat(Files.exists(snapshot), is(false));
+        givenResponseCache(policy, "client-1");
+        testee.put(CATALOGS, null, responseOf("catalogs"));
+        testee.saveSnapshot();
+        givenResponseCache(policy, null);
+        assertThat(testee.restoreSnapshot(), is(equalTo(0)));
+    }
+
+    @Test
+    public void testUnreadableSnapshotIsIgnored(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("cache.jsonl.gz");
+        Files.write(snapshot, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        givenResponseCache(
+                CachePolicy.builder().snapshotPath(snapshot.toString()).build());
+
+        assertThat(testee.restoreSnapshot(), is(equalTo(0)));
+        assertThat(testee.size(), is(equalTo(0)));
+    }
+
+    @Test
+    public void testResourceTypeIsTakenFromTheLastCollectionInThePath() {
+        assertThat(CachedResource.of(CATALOGS), is(CachedResource.CATALOGS));
+        assertThat(CachedResource.of(DATASET), is(CachedResource.DATASETS));
+        assertThat(CachedResource.of(ATTRIBUTES), is(CachedResource.ATTRIBUTES));
+        assertThat(
+                CachedResource.of(DATASET + "/datasetseries/20230308/distributions/csv/files"),
+                is(CachedResource.FILES));
+        assertThat(CachedResource.of(ROOT + "unknown"), is(CachedResource.OTHER));
+    }
+
+    private void givenResponseCache(CachePolicy policy) {
+        givenResponseCache(policy, "client-1");
+    }
+
+    private void givenResponseCache(CachePolicy policy, String identity) {
+        testee = new ResponseCache(policy, identity, () -> now);
+    }
+
+    private static HttpResponse<String> responseOf(String body) {
+        return HttpResponse.<String>builder().statusCode(200).body(body).build();
+    }
+
+    private static HttpResponse<String> responseWithValidators(String body, String etag, String lastModified) {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("etag", Collections.singletonList(etag));
+        if (lastModified != null) {
+            headers.put("Last-Modified", Collections.singletonList(lastModified));
+        }
+        return HttpResponse.<String>builder()
+                .statusCode(200)
+                .headers(headers)
+                .body(body)
+                .build();
+    }
+}
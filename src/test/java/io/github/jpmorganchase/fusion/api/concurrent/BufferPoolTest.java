@@ -0,0 +1,57 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BufferPoolTest {
+
+    @Test
+    public void testBuffersAreAllocatedLazilyAndReused() throws Exception {
+        BufferPool testee = new BufferPool(16, 2);
+
+        byte[] first = testee.acquire();
+        testee.release(first);
+        byte[] second = testee.acquire();
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second.length, equalTo(16));
+        assertThat(testee.getAllocated(), equalTo(1));
+    }
+
+    @Test
+    public void testAcquireBlocksUntilABufferIsReleasedOnceAllAreInUse() throws Exception {
+        BufferPool testee = new BufferPool(16, 2);
+        byte[] first = testee.acquire();
+        testee.acquire();
+
+        CompletableFuture<byte[]> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return testee.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiting.isDone(), is(false));
+
+        testee.release(first);
+
+        assertThat(waiting.get(10, TimeUnit.SECONDS), is(sameInstance(first)));
+        assertThat(testee.getAllocated(), equalTo(2));
+    }
+
+    @Test
+    public void testReleasingMoreBuffersThanTheCapacityIsRejected() throws Exception {
+        BufferPool testee = new BufferPool(16, 1);
+        testee.release(testee.acquire());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> testee.release(new byte[16]));
+    }
+}
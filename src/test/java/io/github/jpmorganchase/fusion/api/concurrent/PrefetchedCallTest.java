@@ -0,0 +1,62 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PrefetchedCallTest {
+
+    AtomicInteger calls = new AtomicInteger();
+
+    List<Runnable> queued = new ArrayList<>();
+
+    @Test
+    public void testCallMadeByTheExecutorIsNotRepeated() {
+        PrefetchedCall<Integer> testee = PrefetchedCall.start(calls::incrementAndGet, Runnable::run);
+
+        assertThat(testee.get(), is(equalTo(1)));
+        assertThat(testee.get(), is(equalTo(1)));
+        assertThat(calls.get(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testCallStillQueuedIsMadeByTheThreadNeedingItsResult() {
+        PrefetchedCall<Integer> testee = PrefetchedCall.start(calls::incrementAndGet, queued::add);
+
+        Integer result = testee.get();
+        queued.forEach(Runnable::run);
+
+        assertThat(result, is(equalTo(1)));
+        assertThat(testee.future().join(), is(equalTo(1)));
+        assertThat(calls.get(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testCallIsMadeWhenTheExecutorRejectsIt() {
+        PrefetchedCall<Integer> testee = PrefetchedCall.start(calls::incrementAndGet, task -> {
+            throw new RejectedExecutionException("closed");
+        });
+
+        assertThat(testee.get(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testExceptionThrownByTheCallIsRethrownUnwrapped() {
+        PrefetchedCall<Integer> testee = PrefetchedCall.start(
+                () -> {
+                    throw new IllegalStateException("failed");
+                },
+                Runnable::run);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, testee::get);
+
+        assertThat(thrown.getMessage(), is(equalTo("failed")));
+    }
+}
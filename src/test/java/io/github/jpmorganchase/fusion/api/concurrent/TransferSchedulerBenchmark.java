@@ -0,0 +1,125 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.github.jpmorganchase.fusion.http.Client;
+import io.github.jpmorganchase.fusion.http.JdkClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares fetching many small parts from a local WireMock server on the platform thread pool, bounded by
+ * {@code downloadThreadPoolSize}, against fetching them on virtual threads bounded by {@code maxInFlightRequests}.
+ * <p>
+ * Every operation fetches {@link #parts} parts of 4 KiB, each served after {@link #latencyMillis} ms to stand in for
+ * network latency. On JDKs without virtual threads the {@code virtual} strategy falls back to platform threads.
+ * <p>
+ * Run from the IDE via {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main TransferSchedulerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferSchedulerBenchmark {
+
+    private static final int PART_SIZE = 4 * 1024;
+
+    @Param({"platform", "virtual"})
+    String strategy;
+
+    @Param({"512"})
+    int parts;
+
+    @Param({"5"})
+    int latencyMillis;
+
+    private WireMockServer server;
+    private Client client;
+    private TransferScheduler scheduler;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        server.stubFor(get(urlPathMatching("/parts/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(new byte[PART_SIZE])
+                        .withFixedDelay(latencyMillis)));
+        baseUrl = server.baseUrl() + "/parts/";
+
+        client = JdkClient.builder().noProxy().build();
+        scheduler = TransferScheduler.builder()
+                .downloadConcurrency(Runtime.getRuntime().availableProcessors())
+                .uploadConcurrency(Runtime.getRuntime().availableProcessors())
+                .virtualThreads("virtual".equals(strategy))
+                .maxInFlightRequests(64)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public long fetchParts() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[parts];
+        for (int p = 0; p < parts; p++) {
+            String url = baseUrl + p;
+            futures[p] = CompletableFuture.supplyAsync(() -> fetch(url), scheduler.downloads());
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+
+    private long fetch(String url) {
+        byte[] buffer = new byte[PART_SIZE];
+        long total = 0;
+        try (InputStream in = client.getInputStream(url, Collections.emptyMap()).getBody()) {
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                total += bytesRead;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(TransferSchedulerBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,293 @@
+package io.github.jpmorganchase.fusion.api.concurrent;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import io.github.jpmorganchase.fusion.FusionConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+class TransferSchedulerTest {
+
+    TransferScheduler testee;
+
+    ExecutorService injected;
+
+    @AfterEach
+    void tearDown() {
+        if (testee != null) {
+            testee.close();
+        }
+        if (injected != null) {
+            injected.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsBoundedPerLaneAcrossAllSubmitters() throws Exception {
+        givenTransferScheduler(2, 3);
+
+        int maxDownloads = whenTasksAreRunConcurrently(testee.downloads(), 20);
+        int maxUploads = whenTasksAreRunConcurrently(testee.uploads(), 20);
+
+        assertThat(maxDownloads, lessThanOrEqualTo(2));
+        assertThat(maxUploads, lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void testLimitsAreTakenFromConfiguration() {
+        testee = TransferScheduler.builder()
+                .configuration(FusionConfiguration.builder()
+                        .downloadThreadPoolSize(5)
+                        .uploadThreadPoolSize(7)
+                        .build())
+                .build();
+
+        assertThat(((BoundedExecutor) testee.downloads()).getLimit(), equalTo(5));
+        assertThat(((BoundedExecutor) testee.uploads()).getLimit(), equalTo(7));
+    }
+
+    @Test
+    public void testRequestLaneIsBoundedByMaxInFlightRequests() {
+        testee = TransferScheduler.builder()
+                .configuration(
+                        FusionConfiguration.builder().maxInFlightRequests(12).build())
+                .build();
+
+        assertThat(((BoundedExecutor) testee.requests()).getLimit(), equalTo(12));
+    }
+
+    @Test
+    public void testFilesWaitingOnTheirPartsDoNotHoldTheDownloadLane() throws Exception {
+        givenTransferScheduler(1, 1);
+        AtomicInteger partsCompleted = new AtomicInteger();
+
+        List<CompletableFuture<Void>> files = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            files.add(CompletableFuture.runAsync(
+                    () -> CompletableFuture.runAsync(partsCompleted::incrementAndGet, testee.downloads())
+                            .join(),
+                    testee.files()));
+        }
+        CompletableFuture.allOf(files.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(partsCompleted.get(), equalTo(3));
+        assertThat(((BoundedExecutor) testee.files()).getLimit(), equalTo(1));
+    }
+
+    @Test
+    public void testFilesWaitingOnTheirPartsCompleteOnAProvidedFixedPool() throws Exception {
+        injected = Executors.newFixedThreadPool(2);
+        testee = TransferScheduler.builder()
+                .executor(injected)
+                .downloadConcurrency(2)
+                .uploadConcurrency(2)
+                .build();
+        AtomicInteger partsCompleted = new AtomicInteger();
+
+        List<CompletableFuture<Void>> files = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            files.add(CompletableFuture.runAsync(
+                    () -> {
+                        List<CompletableFuture<Void>> parts = new ArrayList<>();
+                        for (int p = 0; p < 3; p++) {
+                            parts.add(CompletableFuture.runAsync(partsCompleted::incrementAndGet, testee.downloads()));
+                        }
+                        CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                                .join();
+                    },
+                    testee.files()));
+        }
+        CompletableFuture<Void> asyncDownload = CompletableFuture.runAsync(
+                () -> CompletableFuture.runAsync(partsCompleted::incrementAndGet, testee.downloads())
+                        .join(),
+                testee.coordinators());
+
+        CompletableFuture.allOf(files.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        asyncDownload.get(10, TimeUnit.SECONDS);
+
+        assertThat(partsCompleted.get(), equalTo(13));
+    }
+
+    @Test
+    public void testQueuedWorkCompletesAfterCloseAndNewWorkIsRejected() throws Exception {
+        givenTransferScheduler(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        await(release);
+                        completed.incrementAndGet();
+                    },
+                    testee.downloads()));
+        }
+
+        testee.close();
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(completed.get(), equalTo(5));
+        assertThat(testee.isClosed(), is(true));
+        assertThat(testee.downloads().awaitTermination(10, TimeUnit.SECONDS), is(true));
+        Assertions.assertThrows(
+                RejectedExecutionException.class, () -> testee.uploads().execute(completed::incrementAndGet));
+    }
+
+    @Test
+    public void testInjectedExecutorIsUsedAndNotShutDown() throws Exception {
+        AtomicInteger threadsCreated = new AtomicInteger();
+        injected = Executors.newCachedThreadPool(r -> {
+            threadsCreated.incrementAndGet();
+            return new Thread(r);
+        });
+        testee = TransferScheduler.builder()
+                .executor(injected)
+                .downloadConcurrency(2)
+                .uploadConcurrency(2)
+                .build();
+
+        CompletableFuture.runAsync(() -> {}, testee.downloads()).get(10, TimeUnit.SECONDS);
+        testee.close();
+
+        assertThat(threadsCreated.get(), equalTo(1));
+        assertThat(injected.isShutdown(), is(false));
+    }
+
+    @Test
+    public void testInFlightRequestsRatherThanLanesAreBoundedInVirtualThreadMode() throws Exception {
+        injected = Executors.newCachedThreadPool();
+        testee = TransferScheduler.builder()
+                .executor(injected)
+                .downloadConcurrency(1)
+                .uploadConcurrency(1)
+                .virtualThreads(true)
+                .maxInFlightRequests(3)
+                .build();
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        started.countDown();
+                        await(release);
+                    },
+                    testee.downloads()));
+        }
+
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        assertThat(whenTasksAreRunConcurrently(testee.uploads(), 20), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void testAsynchronousCallsShareTheInFlightBoundWithPartsInVirtualThreadMode() throws Exception {
+        injected = Executors.newCachedThreadPool();
+        testee = TransferScheduler.builder()
+                .executor(injected)
+                .virtualThreads(true)
+                .maxInFlightRequests(1)
+                .build();
+        CountDownLatch partStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> part = CompletableFuture.runAsync(
+                () -> {
+                    partStarted.countDown();
+                    await(release);
+                },
+                testee.downloads());
+        assertThat(partStarted.await(10, TimeUnit.SECONDS), is(true));
+
+        CompletableFuture<Void> call = CompletableFuture.runAsync(() -> {}, testee.requests());
+        Thread.sleep(50);
+        assertThat(call.isDone(), is(false));
+
+        release.countDown();
+        CompletableFuture.allOf(part, call).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testVirtualThreadsAreUsedWhenSupported() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.isAvailable());
+        testee = TransferScheduler.builder().virtualThreads(true).build();
+
+        Boolean virtual = CompletableFuture.supplyAsync(
+                        () -> Thread.currentThread().toString().startsWith("VirtualThread"), testee.downloads())
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(virtual, is(true));
+        assertThat(((BoundedExecutor) testee.downloads()).getLimit(), equalTo(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testPlatformThreadsAreUsedWhenVirtualThreadsAreNotSupported() {
+        Assumptions.assumeFalse(VirtualThreads.isAvailable());
+        testee = TransferScheduler.builder()
+                .virtualThreads(true)
+                .downloadConcurrency(4)
+                .uploadConcurrency(4)
+                .build();
+
+        assertThat(((BoundedExecutor) testee.downloads()).getLimit(), equalTo(4));
+        assertThat(((BoundedExecutor) testee.uploads()).getLimit(), equalTo(4));
+    }
+
+    private void givenTransferScheduler(int downloadConcurrency, int uploadConcurrency) {
+        testee = TransferScheduler.builder()
+                .downloadConcurrency(downloadConcurrency)
+                .uploadConcurrency(uploadConcurrency)
+                .build();
+    }
+
+    private int whenTasksAreRunConcurrently(ExecutorService lane, int tasks) throws Exception {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        int now = active.incrementAndGet();
+                        maxActive.accumulateAndGet(now, Math::max);
+                        sleep();
+                        active.decrementAndGet();
+                    },
+                    lane));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        return maxActive.get();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.jpmorganchase.fusion.api.context;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.github.jpmorganchase.fusion.api.response.UploadedPart;
+import io.github.jpmorganchase.fusion.model.Operation;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UploadJournalTest {
+
+    private static final String API_PATH = "http://localhost:8080/test";
+
+    @TempDir
+    Path tempDir;
+
+    File file;
+
+    UploadJournal testee;
+
+    @Test
+    public void testConfirmedPartsAreResumed() throws Exception {
+        givenFileToUpload("A,B,C");
+        givenJournal(8);
+        testee.started(new Operation("op-1"));
+        testee.partUploaded(uploadedPart(1));
+        testee.partUploaded(uploadedPart(3));
+        testee.close();
+
+        Optional<MultipartTransferContext> resumed =
+                UploadJournal.of(journals(), API_PATH, file, 8).resume();
+
+        assertThat(resumed.isPresent(), is(true));
+        assertThat(resumed.get().getOperation().getOperationId(), is(equalTo("op-1")));
+        assertThat(resumed.get().uploadedPartNumbers(), is(equalTo(new HashSet<>(Arrays.asList(1, 3)))));
+        assertThat(
+                resumed.get().getParts().get(1).getPart(),
+                is(equalTo(uploadedPart(3).getPart())));
+        assertThat(
+                resumed.get().getParts().get(1).getDigest(),
+                is(equalTo(uploadedPart(3).getDigest())));
+    }
+
+    @Test
+    public void testNothingIsResumedWithoutAJournal() throws Exception {
+        givenFileToUpload("A,B,C");
+        givenJournal(8);
+
+        assertThat(testee.resume().isPresent(), is(false));
+    }
+
+    @Test
+    public void testJournalForAModifiedFileIsNotResumed() throws Exception {
+        givenFileToUpload("A,B,C");
+        givenJournal(8);
+        testee.started(new Operation("op-1"));
+        testee.close();
+
+        Files.write(file.toPath(), "A,B,C,D".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(UploadJournal.of(journals(), API_PATH, file, 8).resume().isPresent(), is(false));
+    }
+
+    @Test
+    public void testJournalWithADifferentPartSizeIsNotResumed() throws Exception {
+        givenFileToUpload("A,B,C");
+        givenJournal(8);
+        testee.started(new Operation("op-1"));
+        testee.close();
+
+        assertThat(UploadJournal.of(journals(), API_PATH, file, 16).resume().isPresent(), is(false));
+    }
+
+    @Test
+    public void testIncompleteFinalEntryIsIgnored() throws Exception {
+        givenFileToUpload("A,B,C");
+        givenJournal(8);
+        testee.started(new Operation("op-1"));
+        testee.partUploaded(uploadedPart(1));
+        testee.close();
+        Files.write(
+                testee.getPath(), "{\"partNo\":2,\"dig".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        Optional<MultipartTransferContext> resumed = testee.resume();
+
+        assertThat(resumed.isPresent(), is(true));
+        assertThat(resumed.get().uploadedPartNumbers(), is(equalTo(new HashSet<>(Arrays.asList(1)))));
+    }
+
+    @Test
+    public void testPartsRecordedAfterAnIncompleteFinalEntryAreResumed() throws Exception {
+        givenFileToUpload("A,B,C");
+        givenJournal(8);
+        testee.started(new Operation("op-1"));
+        testee.partUploaded(uploadedPart(1));
+        testee.close();
+        Files.write(
+                testee.getPath(), "{\"partNo\":2,\"dig".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        UploadJournal resumedJournal = UploadJournal.of(journals(), API_PATH, file, 8);
+        resumedJournal.resume();
+        resumedJournal.partUploaded(uploadedPart(2));
+        resumedJournal.partUploaded(uploadedPart(3));
+        resumedJournal.close();
+
+        Optional<MultipartTransferContext> resumed =
+                UploadJournal.of(journals(), API_PATH, file, 8).resume();
+
+        assertThat(resumed.isPresent(), is(true));
+        assertThat(resumed.get().uploadedPartNumbers(), is(equalTo(new HashSet<>(Arrays.asList(1, 2, 3)))));
+    }
+
+    @Test
+    public void testDeletedJournalIsNotResumed() throws Exception {
+        givenFileToUpload("A,B,C");
+        givenJournal(8);
+        testee.started(new Operation("op-1"));
+
+        testee.delete();
+
+        assertThat(Files.exists(testee.getPath()), is(false));
+        assertThat(testee.resume().isPresent(), is(false));
+    }
+
+    private void givenFileToUpload(String content) throws Exception {
+        file = Files.write(tempDir.resolve("upload.csv"), content.getBytes(StandardCharsets.UTF_8))
+                .toFile();
+    }
+
+    private void givenJournal(int partSize) {
+        testee = UploadJournal.of(journals(), API_PATH, file, partSize);
+    }
+
+    private Path journals() {
+        return tempDir.resolve("journals");
+    }
+
+    private static UploadedPartContext uploadedPart(int partNo) {
+        return UploadedPartContext.builder()
+                .partNo(partNo)
+                .digest(new byte[] {(byte) partNo, 1, 2})
+                .part(UploadedPart.builder()
+                        .partNumber(String.valueOf(partNo))
+                        .partIdentifier("part-id-" + partNo)
+                        .partDigest("digest-" + partNo)
+                        .build())
+                .build();
+    }
+}
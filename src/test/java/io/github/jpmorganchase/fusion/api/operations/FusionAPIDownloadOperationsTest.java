@@ -3,7 +3,13 @@ package io.github.jpmorganchase.fusion.api.operations;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.jpmorganchase.fusion.FusionConfiguration;
@@ -22,6 +28,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -77,6 +84,49 @@ class FusionAPIDownloadOperationsTest {
         thenTheFileShouldMatchExpected();
     }
 
+    @Test
+    void successfulSinglePartDownloadToFileReusesProbeContent() throws Exception {
+        // given
+        givenFusionApiManager();
+        givenDownloadBody("A,B,C\n1,2,3");
+        givenDownloadRequestForFile(
+                "common",
+                "API_TEST",
+                "downloads/common-API_TEST-20230319.csv",
+                "http://localhost:8080/test/catalogs/common/datasets/API_TEST/datasetseries/20230319/distributions/csv",
+                Collections.singletonMap("fusion-e2e", "rootId/Id"));
+        givenCallToPartFetcherToGetHeadReturnsWithContent(
+                "version-123", "47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU=", "A,B,C\n1,2,3");
+
+        // when
+        whenFusionApiManagerIsCalledToDownloadFileToPath();
+
+        // then
+        thenTheFileShouldMatchExpected();
+        thenPartFetcherShouldOnlyHaveBeenCalledForHead();
+    }
+
+    @Test
+    void successfulSinglePartDownloadToStreamReusesProbeContent() throws Exception {
+        // given
+        givenFusionApiManager();
+        givenDownloadBody("A,B,C\n1,2,3");
+        givenDownloadRequestForStream(
+                "common",
+                "API_TEST",
+                "http://localhost:8080/test/catalogs/common/datasets/API_TEST/datasetseries/20230319/distributions/csv",
+                Collections.singletonMap("fusion-e2e", "rootId/Id"));
+        givenCallToPartFetcherToGetHeadReturnsWithContent(
+                "version-123", "47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU=", "A,B,C\n1,2,3");
+
+        // when
+        whenApiIsCalledToDownloadFileAsStream();
+
+        // then
+        thenTheDownloadBodyShouldMatchExpected();
+        thenPartFetcherShouldOnlyHaveBeenCalledForHead();
+    }
+
     @Test
     void singlePartDownloadToFileFailToGetDistribution() throws Exception {
         // given
@@ -151,6 +201,36 @@ class FusionAPIDownloadOperationsTest {
         thenTheFileShouldMatchExpected();
     }
 
+    @Test
+    void successfulMultiPartDownloadToMemoryMappedFile() throws Exception {
+        // given
+        givenFusionApiManager(FusionConfiguration.builder()
+                .memoryMappedDownloads(true)
+                .forceMemoryMappedDownloads(true)
+                .build());
+        givenDownloadRequestForFile(
+                "common",
+                "API_TEST",
+                "downloads/common-API_TEST-20230319.csv",
+                "http://localhost:8080/test/catalogs/common/datasets/API_TEST/datasetseries/20230319/distributions/csv",
+                Collections.singletonMap("fusion-e2e", "rootId/Id"));
+        givenCallToPartFetcherToGetHeadReturns("a1", 3, "SFiERkoisri4Xv+MPlq3mtarmxbkmHPSaeLAXeNDk6A=-3", 17);
+
+        givenCallToPartFetcherSuccess(
+                "A,B,C", 1, "a1", "KPD9WTOuUoQrDwpugLaHblJS+OdUnXaML3YWXla28Rg=", 3, 17, 0, 4, 17);
+        givenCallToPartFetcherSuccess(
+                "\r1,2,", 2, "a1", "KyQR+rbMkYVdfMHW+tHYfTOmpszv9gHWVn1Ec9yj7lA=", 3, 17, 5, 9, 17);
+        givenCallToPartFetcherSuccess(
+                "3\r4,5,6", 3, "a1", "qMnQo29rnj1iA37dWzSBFCKSctoJe8AX5mgmexxvh4A=", 3, 17, 10, 16, 17);
+        givenDownloadBody("A,B,C\r1,2,3\r4,5,6");
+
+        // When
+        whenFusionApiManagerIsCalledToDownloadFileToPath();
+
+        // then
+        thenTheFileShouldMatchExpected();
+    }
+
     @Test
     void multiPartDownloadToFileFailsToGetHead() throws Exception {
         // given
@@ -203,6 +283,45 @@ class FusionAPIDownloadOperationsTest {
         thenAPICallExceptionShouldMatch(504);
     }
 
+    @Test
+    void resumableMultiPartDownloadToFileFetchesOnlyMissingPartsOnRetry() throws Exception {
+        // given
+        givenFusionApiManager(
+                FusionConfiguration.builder().resumableDownloads(true).build());
+
+        givenDirectoryExists("downloads");
+        givenDownloadRequestForFile(
+                "common",
+                "API_TEST",
+                "downloads/common-API_TEST-20230319.csv",
+                "http://localhost:8080/test/catalogs/common/datasets/API_TEST/datasetseries/20230319/distributions/csv",
+                Collections.singletonMap("fusion-e2e", "rootId/Id"));
+        givenCallToPartFetcherToGetHeadReturns("a1", 5, "SFiERkoisri4Xv+MPlq3mtarmxbkmHPSaeLAXeNDk6A=-5", 23);
+
+        givenCallToPartFetcherSuccess(
+                "A,B,C", 1, "a1", "KPD9WTOuUoQrDwpugLaHblJS+OdUnXaML3YWXla28Rg=", 5, 23, 0, 4, 23);
+        givenCallToPartFetcherSuccess(
+                "\r1,2,", 2, "a1", "KyQR+rbMkYVdfMHW+tHYfTOmpszv9gHWVn1Ec9yj7lA=", 5, 23, 5, 9, 23);
+        givenCallToClientToGetPartFails(3, 504);
+        givenCallToPartFetcherSuccess(
+                ",6\r7,", 4, "a1", "RjKiTp8KSSXM64sjp5uHtPXF/uwjh8VNVaCvgDAwrkA=", 5, 23, 15, 19, 23);
+        givenCallToPartFetcherSuccess(
+                "8,9", 5, "a1", "GI3Dn4384xRI1aZfvWIpkSDzDQbYwKaK4yCy3oBZm/U=", 5, 23, 20, 23, 23);
+        givenDownloadBody("A,B,C\r1,2,3\r4,5,6\r7,8,9");
+        whenFusionApiManagerIsCalledToDownloadFileToPathAndExceptionIsExcepted(APICallException.class);
+        givenCallToPartFetcherNowSucceeds(
+                "3\r4,5", 3, "a1", "qMnQo29rnj1iA37dWzSBFCKSctoJe8AX5mgmexxvh4A=", 5, 23, 10, 14, 23);
+
+        // When
+        whenFusionApiManagerIsCalledToDownloadFileToPath();
+
+        // then
+        thenTheFileShouldMatchExpected();
+        thenPartShouldHaveBeenFetchedTimes(1, 1);
+        thenPartShouldHaveBeenFetchedTimes(3, 2);
+        thenCheckpointShouldHaveBeenRemoved();
+    }
+
     @Test
     void multiPartDownloadToFileFailsToWriteToFile() throws Exception {
         // given
@@ -302,6 +421,36 @@ class FusionAPIDownloadOperationsTest {
         thenTheDownloadBodyShouldMatchExpected();
     }
 
+    @Test
+    void successfulMultiPartDownloadToStreamWithReadAhead() throws Exception {
+        // given
+        givenFusionApiManager(FusionConfiguration.builder().downloadReadAhead(3).build());
+        givenDownloadBody("A,B,C\r1,2,3\r4,5,6\r7,8,9");
+        givenDownloadRequestForStream(
+                "common",
+                "API_TEST",
+                "http://localhost:8080/test/catalogs/common/datasets/API_TEST/datasetseries/20230319/distributions/csv",
+                Collections.singletonMap("fusion-e2e", "rootId/Id"));
+
+        givenCallToPartFetcherToGetHeadReturns("a1", 5, "SFiERkoisri4Xv+MPlq3mtarmxbkmHPSaeLAXeNDk6A=-5", 23);
+        givenCallToPartFetcherSuccess(
+                "A,B,C", 1, "a1", "KPD9WTOuUoQrDwpugLaHblJS+OdUnXaML3YWXla28Rg=", 5, 23, 0, 4, 23);
+        givenCallToPartFetcherSuccess(
+                "\r1,2,", 2, "a1", "KyQR+rbMkYVdfMHW+tHYfTOmpszv9gHWVn1Ec9yj7lA=", 5, 23, 5, 9, 23);
+        givenCallToPartFetcherSuccess(
+                "3\r4,5", 3, "a1", "qMnQo29rnj1iA37dWzSBFCKSctoJe8AX5mgmexxvh4A=", 5, 23, 10, 14, 23);
+        givenCallToPartFetcherSuccess(
+                ",6\r7,", 4, "a1", "RjKiTp8KSSXM64sjp5uHtPXF/uwjh8VNVaCvgDAwrkA=", 5, 23, 15, 19, 23);
+        givenCallToPartFetcherSuccess(
+                "8,9", 5, "a1", "GI3Dn4384xRI1aZfvWIpkSDzDQbYwKaK4yCy3oBZm/U=", 5, 23, 20, 23, 23);
+
+        // When
+        whenApiIsCalledToDownloadFileAsStream();
+
+        // then
+        thenTheDownloadBodyShouldMatchExpected();
+    }
+
     @Test
     void successfulCallToPerformMultiPartDownload() throws Exception {
         // given
@@ -406,11 +555,12 @@ class FusionAPIDownloadOperationsTest {
             long rangeStart,
             long rangeEnd,
             long rangeTotal) {
-        when(partFetcher.fetch(PartRequest.builder()
+        givenPartFetcherReturns(
+                PartRequest.builder()
                         .partNo(partNumber)
                         .downloadRequest(downloadRequest)
-                        .build()))
-                .thenReturn(GetPartResponse.builder()
+                        .build(),
+                GetPartResponse.builder()
                         .content(inputStream)
                         .head(Head.builder()
                                 .checksum(checksum)
@@ -426,11 +576,66 @@ class FusionAPIDownloadOperationsTest {
                         .build());
     }
 
-    private void givenCallToClientToGetPartFails(int partNumber, int failureStatus) {
-        given(partFetcher.fetch(PartRequest.builder()
+    private void givenCallToPartFetcherNowSucceeds(
+            String content,
+            int partNumber,
+            String version,
+            String checksum,
+            int partCount,
+            long contentLength,
+            long rangeStart,
+            long rangeEnd,
+            long rangeTotal) {
+        givenPartFetcherReturns(
+                PartRequest.builder()
                         .partNo(partNumber)
                         .downloadRequest(downloadRequest)
-                        .build()))
+                        .build(),
+                GetPartResponse.builder()
+                        .content(new ByteArrayInputStream(content.getBytes()))
+                        .head(Head.builder()
+                                .checksum(checksum)
+                                .version(version)
+                                .partCount(partCount)
+                                .contentLength(contentLength)
+                                .contentRange(ContentRange.builder()
+                                        .start(rangeStart)
+                                        .end(rangeEnd)
+                                        .total(rangeTotal)
+                                        .build())
+                                .build())
+                        .build());
+    }
+
+    private void givenPartFetcherReturns(PartRequest partRequest, GetPartResponse response) {
+        doReturn(response).when(partFetcher).fetch(partRequest);
+        doAnswer(invocation ->
+                        invocation.<Function<GetPartResponse, ?>>getArgument(1).apply(response))
+                .when(partFetcher)
+                .fetch(eq(partRequest), any());
+    }
+
+    private void thenPartShouldHaveBeenFetchedTimes(int partNumber, int expected) {
+        verify(partFetcher, times(expected))
+                .fetch(
+                        eq(PartRequest.builder()
+                                .partNo(partNumber)
+                                .downloadRequest(downloadRequest)
+                                .build()),
+                        any());
+    }
+
+    private void thenCheckpointShouldHaveBeenRemoved() {
+        assertThat(new File(downloadRequest.getFilePath() + ".fusion-checkpoint").exists(), is(false));
+    }
+
+    private void givenCallToClientToGetPartFails(int partNumber, int failureStatus) {
+        PartRequest partRequest = PartRequest.builder()
+                .partNo(partNumber)
+                .downloadRequest(downloadRequest)
+                .build();
+        given(partFetcher.fetch(partRequest)).willThrow(new APICallException(failureStatus, "broken response"));
+        given(partFetcher.fetch(eq(partRequest), any()))
                 .willThrow(new APICallException(failureStatus, "broken response"));
     }
 
@@ -465,6 +670,26 @@ class FusionAPIDownloadOperationsTest {
                 .thenReturn(GetPartResponse.builder().head(head).build());
     }
 
+    private void givenCallToPartFetcherToGetHeadReturnsWithContent(String version, String checksum, String content) {
+        head = Head.builder()
+                .version(version)
+                .contentLength(content.length())
+                .checksum(checksum)
+                .build();
+        when(partFetcher.fetch(PartRequest.builder()
+                        .partNo(0)
+                        .downloadRequest(downloadRequest)
+                        .build()))
+                .thenReturn(GetPartResponse.builder()
+                        .head(head)
+                        .content(new ByteArrayInputStream(content.getBytes()))
+                        .build());
+    }
+
+    private void thenPartFetcherShouldOnlyHaveBeenCalledForHead() {
+        verify(partFetcher, times(1)).fetch(any(PartRequest.class));
+    }
+
     private void givenCallToClientToGetHeadFails(int failureStatusCode) {
         when(partFetcher.fetch(PartRequest.builder()
                         .partNo(0)
@@ -479,6 +704,7 @@ class FusionAPIDownloadOperationsTest {
             if (file.exists()) {
                 file.delete();
             }
+            new File(downloadRequest.getFilePath() + ".fusion-checkpoint").delete();
         }
     }
 
@@ -516,12 +742,15 @@ class FusionAPIDownloadOperationsTest {
     }
 
     private void thenTheDownloadBodyShouldMatchExpected() throws Exception {
-        byte[] outputBytes = new byte[(int) downloadBody.length];
-        StringBuilder sb = new StringBuilder();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[(int) downloadBody.length];
+        int bytesRead;
 
-        while ((responseStream.read(outputBytes)) != -1) {}
+        while ((bytesRead = responseStream.read(buffer)) != -1) {
+            output.write(buffer, 0, bytesRead);
+        }
 
-        assertThat(outputBytes, is(equalTo(downloadBody)));
+        assertThat(output.toByteArray(), is(equalTo(downloadBody)));
     }
 
     private void whenApiIsCalledToDownloadFileAsStream() {
@@ -569,10 +798,14 @@ class FusionAPIDownloadOperationsTest {
     }
 
     private void givenFusionApiManager() {
+        givenFusionApiManager(FusionConfiguration.builder().build());
+    }
+
+    private void givenFusionApiManager(FusionConfiguration configuration) {
 
         apiDownloader = FusionAPIDownloadOperations.builder()
                 .partFetcher(partFetcher)
-                .configuration(FusionConfiguration.builder().build())
+                .configuration(configuration)
                 .build();
     }
 
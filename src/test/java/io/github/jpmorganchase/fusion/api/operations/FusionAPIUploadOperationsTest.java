@@ -5,17 +5,23 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.gson.GsonBuilder;
 import io.github.jpmorganchase.fusion.FusionConfiguration;
 import io.github.jpmorganchase.fusion.api.FusionAPIManagerTest;
 import io.github.jpmorganchase.fusion.api.context.MultipartTransferContext;
+import io.github.jpmorganchase.fusion.api.context.UploadJournal;
 import io.github.jpmorganchase.fusion.api.context.UploadedPartContext;
 import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.api.request.UploadRequest;
 import io.github.jpmorganchase.fusion.api.response.UploadedPart;
 import io.github.jpmorganchase.fusion.api.response.UploadedParts;
+import io.github.jpmorganchase.fusion.api.retry.Retrier;
+import io.github.jpmorganchase.fusion.api.retry.RetryPolicy;
 import io.github.jpmorganchase.fusion.digest.AlgoSpecificDigestProducer;
 import io.github.jpmorganchase.fusion.digest.DigestDescriptor;
 import io.github.jpmorganchase.fusion.digest.DigestProducer;
@@ -29,7 +35,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
@@ -95,7 +105,7 @@ class FusionAPIUploadOperationsTest {
         givenUploadBody("A,B,C\n1,2,3\n4,5,6\n7,8,9");
         givenClientHeaders("client-header-key", "client-header-val", "client-header-key1", "client-header-value1");
 
-        givenCallToProduceDigestReturnsDigestDescriptor("k0IH+I4DpJla6wabZBNCUEMSBZtS2seC/9ixCa3KnZE=");
+        givenCallToProduceDigestOfFileReturnsDigestDescriptor("k0IH+I4DpJla6wabZBNCUEMSBZtS2seC/9ixCa3KnZE=");
         givenCallToClientToUploadIsSuccessful(
                 "my-token",
                 "dataset-token",
@@ -395,6 +405,253 @@ class FusionAPIUploadOperationsTest {
                 "common", "test-dataset", "2023-03-01", "2023-03-02", "2023-03-03", copyOfHeaders());
     }
 
+    @Test
+    void successfullyUploadPartsFromPooledBuffersWithDigestsComputedWhileReading() throws Exception {
+        // given
+        givenSha256DigestProducer();
+        givenUploadPartSize(1);
+        givenSdkAPIUploader();
+        givenApiPath("http://localhost:8080/test");
+        givenSessionBearerToken("my-token");
+        givenDatasetBearerToken("common", "test-dataset", "dataset-token");
+        givenMultipartTransferContextStatusIsStarted("my-op-id");
+        byte[] data = new byte[(1024 * 1024 * 5) / 2];
+        new Random(7).nextBytes(data);
+        uploadRequest = UploadRequest.builder()
+                .fromStream(new ByteArrayInputStream(data))
+                .apiPath(apiPath)
+                .catalog("common")
+                .dataset("test-dataset")
+                .maxSinglePartFileSize(1)
+                .build();
+        Map<Integer, byte[]> sent = givenCallsToClientToUploadPartsAreRecorded();
+
+        // when
+        whenFusionApiManagerIsCalledToUploadParts();
+
+        // then
+        thenMultipartTransferContextStatusShouldBeTransferred();
+        thenPartsUploadedShouldReassembleTo(sent, 3, data);
+    }
+
+    @Test
+    void successfullyUploadFilePartsInParallelUsingPositionalReads() throws Exception {
+        // given
+        givenSha256DigestProducer();
+        givenUploadPartSize(1);
+        givenSdkAPIUploader();
+        givenApiPath("http://localhost:8080/test");
+        givenSessionBearerToken("my-token");
+        givenDatasetBearerToken("common", "test-dataset", "dataset-token");
+        givenMultipartTransferContextStatusIsStarted("my-op-id");
+        byte[] data = new byte[(1024 * 1024 * 7) / 2];
+        new Random(13).nextBytes(data);
+        Path file = Files.createTempFile("fusion-upload", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, data);
+        uploadRequest = UploadRequest.builder()
+                .fromFile(file.toString())
+                .apiPath(apiPath)
+                .catalog("common")
+                .dataset("test-dataset")
+                .maxSinglePartFileSize(1)
+                .build();
+        Map<Integer, byte[]> sent = givenCallsToClientToUploadPartsAreRecorded();
+
+        // when
+        whenFusionApiManagerIsCalledToUploadParts();
+
+        // then
+        thenMultipartTransferContextStatusShouldBeTransferred();
+        thenPartsUploadedShouldReassembleTo(sent, 4, data);
+        assertThat(multipartTransferContext.getTotalBytes(), is(equalTo((long) data.length)));
+    }
+
+    @Test
+    void streamAndFileUploadsRunningTogetherShareASinglePartBufferWithoutDeadlocking() throws Exception {
+        // given
+        givenSha256DigestProducer();
+        givenUploadPartSize(1);
+        givenSdkAPIUploaderWithUploadThreads(1);
+        givenApiPath("http://localhost:8080/test");
+        givenSessionBearerToken("my-token");
+        givenDatasetBearerToken("common", "test-dataset", "dataset-token");
+        byte[] data = new byte[(1024 * 1024 * 7) / 2];
+        new Random(23).nextBytes(data);
+        Path file = Files.createTempFile("fusion-upload", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, data);
+        UploadRequest fromStream = UploadRequest.builder()
+                .fromStream(new ByteArrayInputStream(data))
+                .apiPath(apiPath)
+                .catalog("common")
+                .dataset("test-dataset")
+                .maxSinglePartFileSize(1)
+                .build();
+        UploadRequest fromFile = UploadRequest.builder()
+                .fromFile(file.toString())
+                .apiPath(apiPath)
+                .catalog("common")
+                .dataset("test-dataset")
+                .maxSinglePartFileSize(1)
+                .build();
+        givenCallsToClientToUploadPartsAreRecorded();
+
+        // when
+        FutureTask<MultipartTransferContext> streamUpload =
+                new FutureTask<>(() -> fusionAPIUploader.callAPIToUploadParts(
+                        MultipartTransferContext.started(new Operation("op-1")), fromStream));
+        Thread streamUploader = new Thread(streamUpload);
+        streamUploader.setDaemon(true);
+        streamUploader.start();
+        MultipartTransferContext fileContext = Assertions.assertTimeoutPreemptively(
+                Duration.ofSeconds(30),
+                () -> fusionAPIUploader.callAPIToUploadParts(
+                        MultipartTransferContext.started(new Operation("op-2")), fromFile));
+        MultipartTransferContext streamContext = streamUpload.get(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(streamContext.getTotalBytes(), is(equalTo((long) data.length)));
+        assertThat(fileContext.getTotalBytes(), is(equalTo((long) data.length)));
+        verify(client, times(8)).put(anyString(), anyMap(), any(byte[].class), eq(0), anyInt());
+    }
+
+    @Test
+    void partUploadFailingWithRetryableStatusIsRetriedWithoutRestartingTheUpload() throws Exception {
+        // given
+        givenSha256DigestProducer();
+        givenUploadPartSize(1);
+        givenSdkAPIUploaderRetrying(3);
+        givenApiPath("http://localhost:8080/test");
+        givenSessionBearerToken("my-token");
+        givenDatasetBearerToken("common", "test-dataset", "dataset-token");
+        givenMultipartTransferContextStatusIsStarted("my-op-id");
+        byte[] data = new byte[(1024 * 1024 * 5) / 2];
+        new Random(19).nextBytes(data);
+        Path file = Files.createTempFile("fusion-upload", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, data);
+        uploadRequest = UploadRequest.builder()
+                .fromFile(file.toString())
+                .apiPath(apiPath)
+                .catalog("common")
+                .dataset("test-dataset")
+                .maxSinglePartFileSize(1)
+                .build();
+        Map<Integer, byte[]> sent = givenCallsToClientToUploadPartsAreRecorded(Collections.singleton(2));
+
+        // when
+        whenFusionApiManagerIsCalledToUploadParts();
+
+        // then
+        thenMultipartTransferContextStatusShouldBeTransferred();
+        thenPartsUploadedShouldReassembleTo(sent, 3, data);
+        verify(client, times(4)).put(anyString(), anyMap(), any(byte[].class), eq(0), anyInt());
+        assertThat(fusionAPIUploader.getRetrier().getMetrics().getRecovered(), is(equalTo(1L)));
+    }
+
+    @Test
+    void resumableUploadSkipsPartsRecordedInJournalAndRemovesItOnCompletion() throws Exception {
+        // given
+        givenSha256DigestProducer();
+        givenUploadPartSize(1);
+        Path journals = Files.createTempDirectory("fusion-journals");
+        givenResumableSdkAPIUploader(journals);
+        givenApiPath("http://localhost:8080/test");
+        givenSessionBearerToken("my-token");
+        givenDatasetBearerToken("common", "test-dataset", "dataset-token");
+        byte[] data = new byte[(1024 * 1024 * 7) / 2];
+        new Random(17).nextBytes(data);
+        Path file = Files.createTempFile("fusion-upload", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, data);
+
+        UploadJournal journal = UploadJournal.of(journals, apiPath, file.toFile(), 1024 * 1024);
+        journal.started(new Operation("op-1"));
+        journal.partUploaded(journaledPart(data, 1));
+        journal.partUploaded(journaledPart(data, 2));
+        journal.close();
+
+        Map<Integer, byte[]> sent = givenCallsToClientToUploadPartsAreRecorded();
+        when(client.post(eq(apiPath + "/operations/upload?operationId=op-1"), anyMap(), anyString()))
+                .thenReturn(HttpResponse.<String>builder().statusCode(200).build());
+
+        // when
+        fusionAPIUploader.callAPIFileUpload(UploadRequest.builder()
+                .fromFile(file.toString())
+                .apiPath(apiPath)
+                .catalog("common")
+                .dataset("test-dataset")
+                .maxSinglePartFileSize(1)
+                .build());
+
+        // then
+        assertThat(sent.keySet(), is(equalTo(new TreeSet<>(Arrays.asList(3, 4)))));
+        verify(client, never()).post(eq(apiPath + "/operationType/upload"), anyMap(), any());
+        assertThat(Files.exists(journal.getPath()), is(false));
+    }
+
+    private static UploadedPartContext journaledPart(byte[] data, int partNo) throws Exception {
+        int partSize = 1024 * 1024;
+        byte[] part = Arrays.copyOfRange(data, (partNo - 1) * partSize, partNo * partSize);
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(part);
+        return UploadedPartContext.builder()
+                .partNo(partNo)
+                .digest(digest)
+                .part(UploadedPart.builder()
+                        .partNumber(String.valueOf(partNo))
+                        .partDigest(Base64.getEncoder().encodeToString(digest))
+                        .build())
+                .build();
+    }
+
+    private Map<Integer, byte[]> givenCallsToClientToUploadPartsAreRecorded() {
+        return givenCallsToClientToUploadPartsAreRecorded(Collections.emptySet());
+    }
+
+    private Map<Integer, byte[]> givenCallsToClientToUploadPartsAreRecorded(Set<Integer> unavailableOnce) {
+        Map<Integer, byte[]> sent = Collections.synchronizedMap(new TreeMap<>());
+        Set<Integer> failed = Collections.synchronizedSet(new HashSet<>());
+        when(client.put(anyString(), anyMap(), any(byte[].class), eq(0), anyInt()))
+                .thenAnswer(invocation -> {
+                    String path = invocation.getArgument(0);
+                    int partNo = Integer.parseInt(path.substring(path.lastIndexOf('=') + 1));
+                    if (unavailableOnce.contains(partNo) && failed.add(partNo)) {
+                        return HttpResponse.<String>builder().statusCode(503).build();
+                    }
+                    Map<String, String> headers = invocation.getArgument(1);
+                    byte[] part = Arrays.copyOf((byte[]) invocation.getArgument(2), invocation.getArgument(4));
+                    sent.put(partNo, part);
+                    String digest = Base64.getEncoder()
+                            .encodeToString(MessageDigest.getInstance("SHA-256").digest(part));
+                    assertThat(headers.get("Digest"), is(equalTo("SHA-256=" + digest)));
+                    return HttpResponse.<String>builder()
+                            .statusCode(200)
+                            .body(new GsonBuilder()
+                                    .create()
+                                    .toJson(UploadedPart.builder()
+                                            .partNumber(String.valueOf(partNo))
+                                            .partDigest(digest)
+                                            .build()))
+                            .build();
+                });
+        return sent;
+    }
+
+    private void thenPartsUploadedShouldReassembleTo(Map<Integer, byte[]> sent, int partCount, byte[] data)
+            throws IOException {
+        Set<Integer> expectedPartNumbers = new TreeSet<>();
+        for (int p = 1; p <= partCount; p++) {
+            expectedPartNumbers.add(p);
+        }
+        assertThat(sent.keySet(), is(equalTo(expectedPartNumbers)));
+        ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+        for (byte[] part : sent.values()) {
+            reassembled.write(part);
+        }
+        assertThat(reassembled.toByteArray(), is(equalTo(data)));
+    }
+
     @Test
     void multipartUploadFailsToInitiateTransfer() {
         // given
@@ -842,7 +1099,7 @@ class FusionAPIUploadOperationsTest {
 
         String body = new GsonBuilder().create().toJson(uploadedPart);
 
-        when(client.put(eq(apiPath + path), eq(headers), isNotNull()))
+        when(client.put(eq(apiPath + path), eq(headers), isNotNull(), eq(0), anyInt()))
                 .thenReturn(HttpResponse.<String>builder()
                         .body(body)
                         .statusCode(200)
@@ -869,7 +1126,7 @@ class FusionAPIUploadOperationsTest {
 
         headers.put("Digest", "SHA-256=" + digest);
 
-        when(client.put(eq(apiPath + path), eq(headers), isNotNull()))
+        when(client.put(eq(apiPath + path), eq(headers), isNotNull(), eq(0), anyInt()))
                 .thenReturn(
                         HttpResponse.<String>builder().statusCode(failureStatus).build());
     }
@@ -1038,10 +1295,65 @@ class FusionAPIUploadOperationsTest {
         when(this.digestProducer.execute(argThat(bodyEquals(uploadBody)))).thenReturn(digestDescriptor);
     }
 
+    private void givenCallToProduceDigestOfFileReturnsDigestDescriptor(String digest) {
+        digestDescriptor = DigestDescriptor.builder()
+                .checksum(digest)
+                .size(uploadBody.length)
+                .build();
+
+        when(this.digestProducer.execute(Paths.get(fileName))).thenReturn(digestDescriptor);
+    }
+
     private void givenRequestHeader(Map<String, String> headers, String headerKey, String headerValue) {
         headers.put(headerKey, headerValue);
     }
 
+    private void givenResumableSdkAPIUploader(Path journals) {
+
+        fusionAPIUploader = FusionAPIUploadOperations.builder()
+                .httpClient(client)
+                .configuration(FusionConfiguration.builder()
+                        .uploadPartSize(uploadPartSize)
+                        .singlePartUploadSizeLimit(singlePartUploadSizeLimit)
+                        .resumableUploads(true)
+                        .uploadJournalPath(journals.toString())
+                        .build())
+                .fusionTokenProvider(fusionTokenProvider)
+                .digestProducer(digestProducer)
+                .build();
+    }
+
+    private void givenSdkAPIUploaderRetrying(int maxAttempts) {
+
+        fusionAPIUploader = FusionAPIUploadOperations.builder()
+                .httpClient(client)
+                .configuration(FusionConfiguration.builder()
+                        .uploadPartSize(uploadPartSize)
+                        .singlePartUploadSizeLimit(singlePartUploadSizeLimit)
+                        .build())
+                .fusionTokenProvider(fusionTokenProvider)
+                .digestProducer(digestProducer)
+                .retrier(new Retrier(RetryPolicy.builder()
+                        .maxAttempts(maxAttempts)
+                        .baseBackoffMillis(1)
+                        .build()))
+                .build();
+    }
+
+    private void givenSdkAPIUploaderWithUploadThreads(int uploadThreadPoolSize) {
+
+        fusionAPIUploader = FusionAPIUploadOperations.builder()
+                .httpClient(client)
+                .configuration(FusionConfiguration.builder()
+                        .uploadPartSize(uploadPartSize)
+                        .singlePartUploadSizeLimit(singlePartUploadSizeLimit)
+                        .uploadThreadPoolSize(uploadThreadPoolSize)
+                        .build())
+                .fusionTokenProvider(fusionTokenProvider)
+                .digestProducer(digestProducer)
+                .build();
+    }
+
     private void givenSdkAPIUploader() {
 
         fusionAPIUploader = FusionAPIUploadOperations.builder()
@@ -0,0 +1,76 @@
+package io.github.jpmorganchase.fusion.api.paging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.github.jpmorganchase.fusion.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PageIteratorTest {
+
+    List<String> requestedTokens = new ArrayList<>();
+
+    @Test
+    public void testPagesAreRequestedOnlyAsTheirResourcesAreReached() {
+        PageIterator<String> testee = givenPages(pageOf("a,b", "2"), pageOf("", "3"), pageOf("c", null));
+
+        assertThat(testee.next(), is(equalTo("a")));
+        assertThat(testee.next(), is(equalTo("b")));
+        assertThat(testee.getPageCount(), is(equalTo(1)));
+
+        assertThat(testee.next(), is(equalTo("c")));
+        assertThat(testee.hasNext(), is(false));
+        assertThat(testee.getPageCount(), is(equalTo(3)));
+        assertThat(requestedTokens, contains(nullValue(), equalTo("2"), equalTo("3")));
+    }
+
+    @Test
+    public void testEmptyListingHasNoResources() {
+        PageIterator<String> testee = givenPages(pageOf("", ""));
+
+        assertThat(testee.hasNext(), is(false));
+        Assertions.assertThrows(NoSuchElementException.class, testee::next);
+        assertThat(testee.getPageCount(), is(equalTo(1)));
+    }
+
+    @SafeVarargs
+    private final PageIterator<String> givenPages(HttpResponse<String>... pages) {
+        return new PageIterator<>(
+                token -> {
+                    requestedTokens.add(token);
+                    return pages[requestedTokens.size() - 1];
+                },
+                PageIteratorTest::parse);
+    }
+
+    private static Map<String, String> parse(String body) {
+        Map<String, String> resources = new LinkedHashMap<>();
+        for (String resource : body.split(",")) {
+            if (!resource.isEmpty()) {
+                resources.put(resource, resource);
+            }
+        }
+        return resources;
+    }
+
+    private static HttpResponse<String> pageOf(String body, String nextToken) {
+        Map<String, List<String>> headers = nextToken != null
+                ? Collections.singletonMap("x-jpmc-next-token", Collections.singletonList(nextToken))
+                : Collections.emptyMap();
+        return HttpResponse.<String>builder()
+                .statusCode(200)
+                .headers(headers)
+                .body(body)
+                .build();
+    }
+}
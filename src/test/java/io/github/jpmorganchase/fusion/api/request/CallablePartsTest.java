@@ -3,12 +3,16 @@ package io.github.jpmorganchase.fusion.api.request;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import io.github.jpmorganchase.fusion.api.response.GetPartResponse;
+import io.github.jpmorganchase.fusion.api.response.Head;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,6 +54,57 @@ class CallablePartsTest {
         thenExecutorHasBeenInvokedTheExpectedNumberOfTimes(2);
     }
 
+    @Test
+    public void testBufferedPartsAreReadInFullWhetherOrNotTheirLengthIsKnown() throws Exception {
+        byte[] sized = bytesOf(1000);
+        byte[] unsized = bytesOf(200_000);
+        PartFetcher partFetcher = Mockito.mock(PartFetcher.class);
+        Mockito.when(partFetcher.fetch(Mockito.argThat(request -> request != null && request.getPartNo() == 1)))
+                .thenReturn(GetPartResponse.builder()
+                        .content(new ByteArrayInputStream(sized))
+                        .head(Head.builder().contentLength(sized.length).build())
+                        .build());
+        Mockito.when(partFetcher.fetch(Mockito.argThat(request -> request != null && request.getPartNo() == 2)))
+                .thenReturn(GetPartResponse.builder()
+                        .content(new ByteArrayInputStream(unsized))
+                        .build());
+        callableParts.add(
+                CallablePart.builder().partNo(1).partFetcher(partFetcher).build());
+        callableParts.add(
+                CallablePart.builder().partNo(2).partFetcher(partFetcher).build());
+        ExecutorService direct = Executors.newSingleThreadExecutor();
+        try {
+            testee = CallableParts.builder()
+                    .parts(callableParts)
+                    .executor(direct)
+                    .buffered(true)
+                    .build();
+
+            assertThat(readFully(testee.next().get()), equalTo(sized));
+            assertThat(readFully(testee.next().get()), equalTo(unsized));
+        } finally {
+            direct.shutdownNow();
+        }
+    }
+
+    private static byte[] bytesOf(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return out.toByteArray();
+    }
+
     private void thenExecutorHasBeenInvokedTheExpectedNumberOfTimes(int times) {
         Mockito.verify(executor, Mockito.times(times)).submit(Mockito.any(CallablePart.class));
     }
@@ -3,18 +3,25 @@ package io.github.jpmorganchase.fusion.api.request;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import io.github.jpmorganchase.fusion.FusionConfiguration;
 import io.github.jpmorganchase.fusion.api.exception.APICallException;
 import io.github.jpmorganchase.fusion.api.response.GetPartResponse;
 import io.github.jpmorganchase.fusion.api.response.Head;
+import io.github.jpmorganchase.fusion.api.retry.Retrier;
+import io.github.jpmorganchase.fusion.api.retry.RetryPolicy;
 import io.github.jpmorganchase.fusion.api.stream.IntegrityCheckingInputStream;
 import io.github.jpmorganchase.fusion.http.Client;
 import io.github.jpmorganchase.fusion.http.HttpResponse;
 import io.github.jpmorganchase.fusion.oauth.provider.FusionTokenProvider;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -63,6 +70,18 @@ class PartFetcherTest {
                 .build();
     }
 
+    private void givenPartFetcherWithRetries(int maxAttempts) {
+        testee = PartFetcher.builder()
+                .client(client)
+                .credentials(credentials)
+                .configuration(configuration)
+                .retrier(new Retrier(RetryPolicy.builder()
+                        .maxAttempts(maxAttempts)
+                        .baseBackoffMillis(1)
+                        .build()))
+                .build();
+    }
+
     @Test
     public void testFetchPartForSinglePartDownloadWithoutHeaders() throws Exception {
 
@@ -221,6 +240,40 @@ class PartFetcherTest {
         givenCallToGetSessionBearerReturns("session-token");
         givenCallToGetDatasetBearerReturns("foo", "bar", "dataset-token");
         givenResponseHeadersForHead("version-1", "Om6weQ85rIfJTzhWst0sXREOaBFgImGpqSPTuyOtyLc=", "5", "23");
+        givenCallToHeadReturnsSuccess("http://foobar.com/v1/some/resource", "session-token", "dataset-token");
+
+        whenFetchIsInvoked();
+
+        thenNoContentShouldBeReturned();
+        thenStreamShouldNotHaveBeenRequested();
+        thenChecksumInHeadShouldBeAsExpected("Om6weQ85rIfJTzhWst0sXREOaBFgImGpqSPTuyOtyLc=");
+    }
+
+    @Test
+    public void testFetchPartForHeadThrowsExceptionWhenHttpResponseInError() {
+
+        givenPartFetcher();
+        givenDownloadRequest("foo", "bar", "http://foobar.com/v1/some/resource");
+        givenPartRequestForHead();
+        givenCallToGetSessionBearerReturns("session-token");
+        givenCallToGetDatasetBearerReturns("foo", "bar", "dataset-token");
+        givenCallToHeadReturnsFailure(404, "http://foobar.com/v1/some/resource", "session-token", "dataset-token");
+
+        whenFetchIsInvokedWithException();
+
+        assertThat(exception.getResponseCode(), equalTo(404));
+    }
+
+    @Test
+    public void testFetchPartForHeadReusesProbeResponseForSinglePartDownload() throws Exception {
+
+        givenPartFetcher();
+        givenProbeResponseReuseIsEnabled();
+        givenDownloadRequest("foo", "bar", "http://foobar.com/v1/some/resource");
+        givenPartRequestForHead();
+        givenCallToGetSessionBearerReturns("session-token");
+        givenCallToGetDatasetBearerReturns("foo", "bar", "dataset-token");
+        givenResponseHeadersForSinglePartHead("version-1", "Om6weQ85rIfJTzhWst0sXREOaBFgImGpqSPTuyOtyLc=", "4");
         givenCallToGetInputStreamReturnsSuccess(
                 "data", "http://foobar.com/v1/some/resource", "session-token", "dataset-token");
 
@@ -231,6 +284,25 @@ class PartFetcherTest {
         thenChecksumInHeadShouldBeAsExpected("Om6weQ85rIfJTzhWst0sXREOaBFgImGpqSPTuyOtyLc=");
     }
 
+    @Test
+    public void testFetchPartForHeadDiscardsProbeResponseForMultipartDownload() throws Exception {
+
+        givenPartFetcher();
+        givenProbeResponseReuseIsEnabled();
+        givenDownloadRequest("foo", "bar", "http://foobar.com/v1/some/resource");
+        givenPartRequestForHead();
+        givenCallToGetSessionBearerReturns("session-token");
+        givenCallToGetDatasetBearerReturns("foo", "bar", "dataset-token");
+        givenResponseHeadersForHead("version-1", "Om6weQ85rIfJTzhWst0sXREOaBFgImGpqSPTuyOtyLc=-5", "5", "23");
+        givenCallToGetInputStreamReturnsSuccess(
+                "data", "http://foobar.com/v1/some/resource", "session-token", "dataset-token");
+
+        whenFetchIsInvoked();
+
+        thenNoContentShouldBeReturned();
+        assertThat(actual.getHead().isMultipart(), equalTo(true));
+    }
+
     @Test
     public void testFetchThrowsExceptionWhenHttpResponseInError() {
 
@@ -250,6 +322,70 @@ class PartFetcherTest {
         thenTheExceptionShouldBeAsExpected("bad-data", 400);
     }
 
+    @Test
+    public void testFetchRetriesPartRequestThatFailsWithRetryableStatus() throws Exception {
+
+        givenPartFetcherWithRetries(3);
+        givenDownloadRequest("foo", "bar", "http://foobar.com/v1/some/resource");
+        givenPartRequestForMultiPartDownload(2);
+        givenCallToGetSessionBearerReturns("session-token");
+        givenCallToGetDatasetBearerReturns("foo", "bar", "dataset-token");
+        givenResponseHeadersForMultipart(
+                "version-1", "Om6weQ85rIfJTzhWst0sXREOaBFgImGpqSPTuyOtyLc=", "5", "23", "bytes 0-4/23");
+        givenCallToGetInputStreamFailsOnceWith(
+                503,
+                "data",
+                "http://foobar.com/v1/some/resource?downloadPartNumber=2",
+                "session-token",
+                "dataset-token");
+
+        whenFetchIsInvoked();
+
+        thenStreamDataShouldBeAsExpected("data");
+        assertThat(testee.getRetrier().getMetrics().getRetries(), equalTo(1L));
+        assertThat(testee.getRetrier().getMetrics().getRecovered(), equalTo(1L));
+    }
+
+    @Test
+    public void testFetchRetriesPartRequestWhoseContentFailsWhileBeingRead() {
+
+        givenPartFetcherWithRetries(3);
+        givenDownloadRequest("foo", "bar", "http://foobar.com/v1/some/resource");
+        givenPartRequestForMultiPartDownload(2);
+        givenCallToGetSessionBearerReturns("session-token");
+        givenCallToGetDatasetBearerReturns("foo", "bar", "dataset-token");
+        givenResponseHeadersForMultipart(
+                "version-1", "Om6weQ85rIfJTzhWst0sXREOaBFgImGpqSPTuyOtyLc=", "5", "23", "bytes 0-4/23");
+        givenCallToGetInputStreamBreaksOnceWhileReading(
+                "data", "http://foobar.com/v1/some/resource?downloadPartNumber=2", "session-token", "dataset-token");
+
+        String read = testee.fetch(pr, PartFetcherTest::readFully);
+
+        assertThat(read, equalTo("data"));
+        assertThat(testee.getRetrier().getMetrics().getRetries(), equalTo(1L));
+        assertThat(testee.getRetrier().getMetrics().getRecovered(), equalTo(1L));
+    }
+
+    @Test
+    public void testFetchDoesNotRetryPartRequestThatFailsWithNonRetryableStatus() {
+
+        givenPartFetcherWithRetries(3);
+        givenDownloadRequest("foo", "bar", "http://foobar.com/v1/some/resource");
+        givenPartRequestForMultiPartDownload(2);
+        givenCallToGetSessionBearerReturns("session-token");
+        givenCallToGetDatasetBearerReturns("foo", "bar", "dataset-token");
+        givenCallToGetInputStreamReturnsFailure(
+                "bad-data",
+                "http://foobar.com/v1/some/resource?downloadPartNumber=2",
+                "session-token",
+                "dataset-token");
+
+        whenFetchIsInvokedWithException();
+
+        thenTheExceptionShouldBeAsExpected("bad-data", 400);
+        assertThat(testee.getRetrier().getMetrics().getRetries(), equalTo(0L));
+    }
+
     private Map<String, String> givenHeader(String key, String value) {
         return new HashMap<String, String>() {
             {
@@ -290,6 +426,14 @@ class PartFetcherTest {
         assertThat(bytes, equalTo(data.getBytes()));
     }
 
+    private void thenNoContentShouldBeReturned() {
+        assertThat(actual.getContent(), nullValue());
+    }
+
+    private void thenStreamShouldNotHaveBeenRequested() {
+        Mockito.verify(client, Mockito.never()).getInputStream(Mockito.anyString(), Mockito.anyMap());
+    }
+
     private void thenStreamShouldBeAsExpected() {
         assertThat(this.actual.getContent(), instanceOf(IntegrityCheckingInputStream.class));
     }
@@ -336,6 +480,28 @@ class PartFetcherTest {
         Mockito.when(client.getInputStream(path, requestHeaders)).thenReturn(httpResponse);
     }
 
+    private void givenCallToHeadReturnsSuccess(String path, String sessionToken, String datasetToken) {
+        HttpResponse<Void> headResponse = HttpResponse.<Void>builder()
+                .headers(responseHeaders)
+                .statusCode(200)
+                .build();
+
+        Mockito.when(client.head(path, givenAuthHeaders(sessionToken, datasetToken)))
+                .thenReturn(headResponse);
+    }
+
+    private void givenCallToHeadReturnsFailure(int statusCode, String path, String sessionToken, String datasetToken) {
+        HttpResponse<Void> headResponse =
+                HttpResponse.<Void>builder().statusCode(statusCode).build();
+
+        Mockito.when(client.head(path, givenAuthHeaders(sessionToken, datasetToken)))
+                .thenReturn(headResponse);
+    }
+
+    private void givenProbeResponseReuseIsEnabled() {
+        Mockito.when(configuration.isReuseProbeResponseForSinglePartDownloads()).thenReturn(true);
+    }
+
     private void givenCallToGetInputStreamReturnsFailure(
             String error, String path, String sessionToken, String datasetToken) {
 
@@ -349,6 +515,58 @@ class PartFetcherTest {
         Mockito.when(client.getInputStream(path, requestHeaders)).thenReturn(badResponse);
     }
 
+    private void givenCallToGetInputStreamFailsOnceWith(
+            int statusCode, String data, String path, String sessionToken, String datasetToken) {
+
+        HttpResponse<InputStream> unavailable =
+                HttpResponse.<InputStream>builder().statusCode(statusCode).build();
+        httpResponse = HttpResponse.<InputStream>builder()
+                .body(new ByteArrayInputStream(data.getBytes()))
+                .headers(responseHeaders)
+                .statusCode(200)
+                .build();
+
+        Mockito.when(client.getInputStream(path, givenAuthHeaders(sessionToken, datasetToken)))
+                .thenReturn(unavailable, httpResponse);
+    }
+
+    private void givenCallToGetInputStreamBreaksOnceWhileReading(
+            String data, String path, String sessionToken, String datasetToken) {
+
+        HttpResponse<InputStream> broken = HttpResponse.<InputStream>builder()
+                .body(new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                })
+                .headers(responseHeaders)
+                .statusCode(200)
+                .build();
+        httpResponse = HttpResponse.<InputStream>builder()
+                .body(new ByteArrayInputStream(data.getBytes()))
+                .headers(responseHeaders)
+                .statusCode(200)
+                .build();
+
+        Mockito.when(client.getInputStream(path, givenAuthHeaders(sessionToken, datasetToken)))
+                .thenReturn(broken, httpResponse);
+    }
+
+    private static String readFully(GetPartResponse response) {
+        try (InputStream content = response.getContent()) {
+            ByteArrayOutputStream read = new ByteArrayOutputStream();
+            byte[] buffer = new byte[64];
+            int n;
+            while ((n = content.read(buffer)) != -1) {
+                read.write(buffer, 0, n);
+            }
+            return new String(read.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void givenResponseHeadersForHead(String version, String checksum, String partCount, String contentLength) {
         addResponseHeader("x-jpmc-version-id", version);
         addResponseHeader("x-jpmc-checksum-sha256", checksum);
@@ -356,6 +574,12 @@ class PartFetcherTest {
         addResponseHeader("Content-Length", contentLength);
     }
 
+    private void givenResponseHeadersForSinglePartHead(String version, String checksum, String contentLength) {
+        addResponseHeader("x-jpmc-version-id", version);
+        addResponseHeader("x-jpmc-checksum-sha256", checksum);
+        addResponseHeader("Content-Length", contentLength);
+    }
+
     private void givenResponseHeadersForMultipart(
             String version, String checksum, String partCount, String contentLength, String contentRange) {
         addResponseHeader("x-jpmc-version-id", version);
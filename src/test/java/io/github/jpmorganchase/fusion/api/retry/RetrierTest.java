@@ -0,0 +1,135 @@
+package io.github.jpmorganchase.fusion.api.retry;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import io.github.jpmorganchase.fusion.api.exception.APICallException;
+import io.github.jpmorganchase.fusion.http.ClientException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RetrierTest {
+
+    Retrier testee;
+
+    AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    public void testRequestFailingWithRetryableStatusIsRetriedUntilItSucceeds() {
+        givenRetrier(3);
+
+        String result = testee.call("test request", () -> failTimesThenSucceed(2, new APICallException(503, "")));
+
+        assertThat(result, is(equalTo("ok")));
+        assertThat(attempts.get(), is(equalTo(3)));
+        thenMetricsShouldBe(2, 1, 0);
+    }
+
+    @Test
+    public void testRequestFailingWithRetryableExceptionCauseIsRetried() {
+        givenRetrier(2);
+
+        String result = testee.call(
+                "test request",
+                () -> failTimesThenSucceed(1, new ClientException("reset", new SocketException("Connection reset"))));
+
+        assertThat(result, is(equalTo("ok")));
+        thenMetricsShouldBe(1, 1, 0);
+    }
+
+    @Test
+    public void testRequestFailingWithNonRetryableStatusIsNotRetried() {
+        givenRetrier(3);
+        APICallException failure = new APICallException(403, "");
+
+        RuntimeException thrown = Assertions.assertThrows(
+                RuntimeException.class, () -> testee.call("test request", () -> failTimesThenSucceed(1, failure)));
+
+        assertThat(thrown, is(sameInstance(failure)));
+        assertThat(attempts.get(), is(equalTo(1)));
+        thenMetricsShouldBe(0, 0, 0);
+    }
+
+    @Test
+    public void testLastFailureIsThrownOnceAttemptsAreExhausted() {
+        givenRetrier(3);
+        APICallException failure = new APICallException(500, "");
+
+        RuntimeException thrown = Assertions.assertThrows(
+                RuntimeException.class, () -> testee.call("test request", () -> failTimesThenSucceed(5, failure)));
+
+        assertThat(thrown, is(sameInstance(failure)));
+        assertThat(attempts.get(), is(equalTo(3)));
+        thenMetricsShouldBe(2, 0, 1);
+    }
+
+    @Test
+    public void testNoRetriesAreMadeWhenRetriesAreDisabled() {
+        testee = new Retrier(RetryPolicy.none());
+
+        Assertions.assertThrows(
+                APICallException.class,
+                () -> testee.call("test request", () -> failTimesThenSucceed(1, new APICallException(503, ""))));
+
+        assertThat(attempts.get(), is(equalTo(1)));
+        thenMetricsShouldBe(0, 0, 0);
+    }
+
+    @Test
+    public void testBackoffGrowsExponentiallyWithinJitterUpToTheMaximum() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .baseBackoffMillis(100)
+                .maxBackoffMillis(1000)
+                .jitter(0.5)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoffMillis(1), is(between(50, 100)));
+            assertThat(policy.backoffMillis(3), is(between(200, 400)));
+            assertThat(policy.backoffMillis(10), is(between(500, 1000)));
+        }
+    }
+
+    @Test
+    public void testIOExceptionsAreRetryableByDefault() {
+        RetryPolicy policy = RetryPolicy.builder().build();
+
+        assertThat(policy.isRetryable(new ClientException("failed", new IOException())), is(true));
+        assertThat(policy.isRetryable(new IllegalStateException()), is(false));
+        assertThat(policy.isRetryable(new APICallException(429, "")), is(true));
+        assertThat(policy.isRetryable(new APICallException(404, "")), is(false));
+    }
+
+    private void givenRetrier(int maxAttempts) {
+        testee = new Retrier(RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .baseBackoffMillis(1)
+                .build());
+    }
+
+    private String failTimesThenSucceed(int failures, RuntimeException failure) {
+        if (attempts.incrementAndGet() <= failures) {
+            throw failure;
+        }
+        return "ok";
+    }
+
+    private void thenMetricsShouldBe(long retries, long recovered, long exhausted) {
+        assertThat(testee.getMetrics().getRetries(), is(equalTo(retries)));
+        assertThat(testee.getMetrics().getRecovered(), is(equalTo(recovered)));
+        assertThat(testee.getMetrics().getExhausted(), is(equalTo(exhausted)));
+    }
+
+    private static Matcher<Long> between(long min, long max) {
+        return both(greaterThanOrEqualTo(min)).and(lessThanOrEqualTo(max));
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.jpmorganchase.fusion.api.stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class ByteBufferPublisherTest {
+
+    ByteBufferPublisher testee;
+
+    RecordingSubscriber subscriber;
+
+    AtomicInteger opened = new AtomicInteger();
+
+    AtomicBoolean closed = new AtomicBoolean();
+
+    @Test
+    public void testNothingIsReadUntilDemandIsSignalled() {
+        givenPublisherOf("abcdefgh", 3);
+
+        whenSubscribed();
+
+        thenStreamShouldHaveBeenOpenedTimes(0);
+        assertThat(subscriber.chunks, is(empty()));
+    }
+
+    @Test
+    public void testOnlyTheRequestedNumberOfChunksIsPublished() {
+        givenPublisherOf("abcdefgh", 3);
+        whenSubscribed();
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.chunks, contains("abc", "def"));
+        assertThat(subscriber.completed, is(false));
+        thenStreamShouldHaveBeenOpenedTimes(1);
+    }
+
+    @Test
+    public void testAllChunksArePublishedThenCompletionAndTheStreamIsClosed() {
+        givenPublisherOf("abcdefgh", 3);
+        whenSubscribed();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.chunks, contains("abc", "def", "gh"));
+        assertThat(subscriber.completed, is(true));
+        assertThat(subscriber.error, is(nullValue()));
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void testCancellationClosesTheStreamAndStopsPublishing() {
+        givenPublisherOf("abcdefgh", 3);
+        whenSubscribed();
+        subscriber.subscription.request(1);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+
+        assertThat(subscriber.chunks, contains("abc"));
+        assertThat(subscriber.completed, is(false));
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void testNonPositiveRequestIsSignalledAsAnError() {
+        givenPublisherOf("abcdefgh", 3);
+        whenSubscribed();
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+    }
+
+    @Test
+    public void testFailureToOpenTheStreamIsSignalledAsAnError() {
+        testee = ByteBufferPublisher.builder()
+                .source(() -> {
+                    throw new IOException("unavailable");
+                })
+                .executor(Runnable::run)
+                .build();
+        whenSubscribed();
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error, is(instanceOf(IOException.class)));
+        assertThat(subscriber.completed, is(false));
+    }
+
+    @Test
+    public void testRejectionByTheExecutorIsSignalledAsASingleError() {
+        AtomicInteger errors = new AtomicInteger();
+        testee = ByteBufferPublisher.builder()
+                .source(() -> new ByteArrayInputStream("abcdefgh".getBytes(StandardCharsets.UTF_8)))
+                .executor(task -> {
+                    throw new RejectedExecutionException("shut down");
+                })
+                .build();
+        subscriber = new RecordingSubscriber() {
+            @Override
+            public void onError(Throwable throwable) {
+                super.onError(throwable);
+                errors.incrementAndGet();
+            }
+        };
+        testee.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error, is(instanceOf(RejectedExecutionException.class)));
+        assertThat(errors.get(), is(equalTo(1)));
+        assertThat(subscriber.chunks, is(empty()));
+    }
+
+    @Test
+    public void testOnlyASingleSubscriberIsSupported() {
+        givenPublisherOf("abcdefgh", 3);
+        whenSubscribed();
+
+        RecordingSubscriber second = new RecordingSubscriber();
+        testee.subscribe(second);
+
+        assertThat(second.error, is(instanceOf(IllegalStateException.class)));
+        assertThat(subscriber.error, is(nullValue()));
+    }
+
+    @Test
+    public void testDemandSignalledFromOnNextIsHonoured() {
+        givenPublisherOf("abcdefgh", 3);
+        subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(ByteBuffer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        testee.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.chunks, contains("abc", "def", "gh"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    private void givenPublisherOf(String content, int chunkSize) {
+        Callable<InputStream> source = () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)) {
+                @Override
+                public void close() throws IOException {
+                    closed.set(true);
+                    super.close();
+                }
+            };
+        };
+        testee = ByteBufferPublisher.builder()
+                .source(source)
+                .executor(Runnable::run)
+                .chunkSize(chunkSize)
+                .build();
+    }
+
+    private void whenSubscribed() {
+        subscriber = new RecordingSubscriber();
+        testee.subscribe(subscriber);
+    }
+
+    private void thenStreamShouldHaveBeenOpenedTimes(int times) {
+        assertThat(opened.get(), is(equalTo(times)));
+    }
+
+    static class RecordingSubscriber implements Subscriber<ByteBuffer> {
+
+        Subscription subscription;
+        final List<String> chunks = new ArrayList<>();
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            chunks.add(StandardCharsets.UTF_8.decode(item).toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
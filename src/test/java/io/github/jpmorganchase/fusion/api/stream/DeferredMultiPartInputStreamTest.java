@@ -2,6 +2,7 @@ package io.github.jpmorganchase.fusion.api.stream;
 
 import io.github.jpmorganchase.fusion.api.request.CallableParts;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
@@ -42,6 +43,31 @@ class DeferredMultiPartInputStreamTest {
         thenPartsShouldHaveBeenInvokedAsExpected(3);
     }
 
+    @Test
+    public void testCanHandleStreamComposedOfMultiplePartsUsingBulkReads() throws Exception {
+
+        givenCallForPartReturns("foobar1");
+        givenNextCallForPartReturns("foobar2");
+        givenFinalCallForNextPart();
+        givenDeferredInputStream();
+
+        whenBulkReadIsCalledUntilAllDataIsRead(5);
+
+        thenDataShouldBeAsExpected("foobar1foobar2");
+        thenPartsShouldHaveBeenInvokedAsExpected(3);
+    }
+
+    @Test
+    public void testCanHandleNoPartsUsingBulkReads() throws Exception {
+        givenCallForPartReturnsNull();
+        givenDeferredInputStream();
+
+        whenBulkReadIsCalledUntilAllDataIsRead(5);
+
+        thenDataShouldBeAsExpected("");
+        thenPartsShouldHaveBeenInvokedAsExpected(1);
+    }
+
     @Test
     public void testCanHandleStreamComposedOfSinglePart() throws Exception {
         givenCallForPartReturns("foobar1");
@@ -64,6 +90,34 @@ class DeferredMultiPartInputStreamTest {
         thenPartsShouldHaveBeenInvokedAsExpected(1);
     }
 
+    @Test
+    public void testPartsAreRequestedAheadUpToTheReadAheadDepth() throws Exception {
+        givenCallForPartReturns("foobar1");
+        givenNextCallForPartReturns("foobar2");
+        givenNextCallForPartReturns("foobar3");
+        givenFinalCallForNextPart();
+        givenDeferredInputStreamWithReadAhead(2);
+
+        thenPartsShouldHaveBeenInvokedAsExpected(3);
+
+        whenBulkReadIsCalledUntilAllDataIsRead(4);
+
+        thenDataShouldBeAsExpected("foobar1foobar2foobar3");
+        thenPartsShouldHaveBeenInvokedAsExpected(5);
+    }
+
+    @Test
+    public void testClosingDiscardsPartsRequestedAhead() throws Exception {
+        CompletableFuture<InputStream> pending = new CompletableFuture<>();
+        givenCallForPartReturns("foobar1");
+        partStubbing.thenReturn(pending);
+        givenDeferredInputStreamWithReadAhead(2);
+
+        testee.close();
+
+        MatcherAssert.assertThat(pending.isCancelled(), CoreMatchers.is(true));
+    }
+
     private void thenPartsShouldHaveBeenInvokedAsExpected(int times) {
         Mockito.verify(parts, Mockito.times(times)).next();
     }
@@ -76,6 +130,13 @@ class DeferredMultiPartInputStreamTest {
         testee = DeferredMultiPartInputStream.builder().parts(parts).build();
     }
 
+    private void givenDeferredInputStreamWithReadAhead(int readAhead) throws Exception {
+        testee = DeferredMultiPartInputStream.builder()
+                .parts(parts)
+                .readAhead(readAhead)
+                .build();
+    }
+
     private void whenReadIsCalledUntilAllDataIsRead() throws Exception {
         int byteRead;
         StringBuilder sb = new StringBuilder();
@@ -86,6 +147,17 @@ class DeferredMultiPartInputStreamTest {
         actualDataRead = sb.toString();
     }
 
+    private void whenBulkReadIsCalledUntilAllDataIsRead(int chunkSize) throws Exception {
+        int bytesRead;
+        byte[] chunk = new byte[chunkSize];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        while ((bytesRead = testee.read(chunk, 0, chunkSize)) != -1) {
+            out.write(chunk, 0, bytesRead);
+        }
+        actualDataRead = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     private void givenCallForPartReturnsNull() {
         Mockito.when(parts.next()).thenReturn(CompletableFuture.completedFuture(null));
     }
@@ -2,6 +2,7 @@ package io.github.jpmorganchase.fusion.api.stream;
 
 import io.github.jpmorganchase.fusion.digest.PartChecker;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -39,6 +40,30 @@ class IntegrityCheckingInputStreamTest {
         thenItShouldEqualOriginalPart("foobar");
     }
 
+    @Test
+    public void testCanSuccessfullyVerifyIntegrityUsingBulkReads() throws Exception {
+        givenPart("foobar");
+        givenChecksum("w6uP8Tcg6K2QR905Rms8iXTlksL6OD1KOWBxTK7wxPI=");
+        givenPartChecker();
+        givenIntegrityCheckingInputStream();
+
+        whenEntireStreamHasBeenReadInChunksOf(4);
+
+        thenItShouldEqualOriginalPart("foobar");
+    }
+
+    @Test
+    public void testExceptionIsThrownWhenIntegrityCheckFailsUsingBulkReads() {
+        givenPart("foobar");
+        givenChecksum("dodgy-checksum");
+        givenPartChecker();
+        givenIntegrityCheckingInputStream();
+
+        exception = Assertions.assertThrows(IOException.class, () -> whenEntireStreamHasBeenReadInChunksOf(4));
+
+        thenExceptionShouldMatchExpected();
+    }
+
     @Test
     public void testExceptionIsThrownWhenIntegrityCheckFails() {
         givenPart("foobar");
@@ -93,6 +118,17 @@ class IntegrityCheckingInputStreamTest {
         actualDataRead = sb.toString();
     }
 
+    private void whenEntireStreamHasBeenReadInChunksOf(int chunkSize) throws Exception {
+        int bytesRead;
+        byte[] chunk = new byte[chunkSize];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        while ((bytesRead = testee.read(chunk, 0, chunkSize)) != -1) {
+            out.write(chunk, 0, bytesRead);
+        }
+        actualDataRead = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     private void givenIntegrityCheckingInputStream() {
         testee = IntegrityCheckingInputStream.builder()
                 .partChecker(checker)
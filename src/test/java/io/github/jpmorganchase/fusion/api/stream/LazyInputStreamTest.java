@@ -0,0 +1,92 @@
+package io.github.jpmorganchase.fusion.api.stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyInputStreamTest {
+
+    AtomicInteger opened = new AtomicInteger();
+
+    @Test
+    public void testContentIsOpenedOnFirstReadOnly() throws Exception {
+        LazyInputStream testee = givenLazyStreamOf("abc", null);
+        assertThat(opened.get(), is(equalTo(0)));
+        assertThat(testee.available(), is(equalTo(0)));
+
+        assertThat(testee.read(), is(equalTo((int) 'a')));
+        assertThat(testee.read(new byte[8], 0, 8), is(equalTo(2)));
+
+        assertThat(opened.get(), is(equalTo(1)));
+        assertThat(testee.isOpened(), is(true));
+    }
+
+    @Test
+    public void testClosingAnUnreadStreamNeverOpensIt() throws Exception {
+        LazyInputStream testee = givenLazyStreamOf("abc", null);
+
+        testee.close();
+
+        assertThat(opened.get(), is(equalTo(0)));
+        assertThrows(IOException.class, testee::read);
+    }
+
+    @Test
+    public void testOpeningWaitsForAPermitReleasedByClosingAnotherStream() throws Exception {
+        Semaphore permits = new Semaphore(1);
+        LazyInputStream first = givenLazyStreamOf("abc", permits);
+        LazyInputStream second = givenLazyStreamOf("def", permits);
+        first.read();
+
+        CompletableFuture<Integer> secondRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                return second.read();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> secondRead.get(200, TimeUnit.MILLISECONDS));
+
+        first.close();
+
+        assertThat(secondRead.get(5, TimeUnit.SECONDS), is(equalTo((int) 'd')));
+        second.close();
+        assertThat(permits.availablePermits(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testPermitIsReturnedWhenOpeningFails() {
+        Semaphore permits = new Semaphore(1);
+        LazyInputStream testee = LazyInputStream.builder()
+                .source(() -> {
+                    throw new IllegalStateException("download failed");
+                })
+                .permits(permits)
+                .build();
+
+        assertThrows(IllegalStateException.class, testee::read);
+        assertThat(permits.availablePermits(), is(equalTo(1)));
+    }
+
+    private LazyInputStream givenLazyStreamOf(String content, Semaphore permits) {
+        return LazyInputStream.builder()
+                .source(() -> {
+                    opened.incrementAndGet();
+                    return (InputStream) new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+                })
+                .permits(permits)
+                .build();
+    }
+}
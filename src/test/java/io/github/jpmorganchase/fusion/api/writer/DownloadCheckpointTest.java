@@ -0,0 +1,149 @@
+package io.github.jpmorganchase.fusion.api.writer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.github.jpmorganchase.fusion.api.response.Head;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DownloadCheckpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path file;
+
+    DownloadCheckpoint testee;
+
+    @Test
+    public void testWrittenPartsAreResumed() throws Exception {
+        givenPartiallyDownloadedFile(23);
+        givenCheckpoint(head("v1", "c1", 23, 5));
+        testee.resume();
+        testee.partCompleted(1);
+        testee.partCompleted(4);
+        testee.close();
+
+        BitSet resumed =
+                DownloadCheckpoint.of(file.toString(), head("v1", "c1", 23, 5)).resume();
+
+        assertThat(resumed, is(equalTo(parts(1, 4))));
+    }
+
+    @Test
+    public void testCheckpointIsDiscardedWhenTheVersionHasChanged() throws Exception {
+        givenPartiallyDownloadedFile(23);
+        givenCheckpoint(head("v1", "c1", 23, 5));
+        testee.resume();
+        testee.partCompleted(1);
+        testee.close();
+
+        DownloadCheckpoint changed = DownloadCheckpoint.of(file.toString(), head("v2", "c2", 23, 5));
+        assertThat(changed.resume().isEmpty(), is(true));
+        changed.close();
+
+        assertThat(
+                DownloadCheckpoint.of(file.toString(), head("v1", "c1", 23, 5))
+                        .resume()
+                        .isEmpty(),
+                is(true));
+    }
+
+    @Test
+    public void testCheckpointIsDiscardedWhenThePartialFileIsMissing() throws Exception {
+        givenPartiallyDownloadedFile(23);
+        givenCheckpoint(head("v1", "c1", 23, 5));
+        testee.resume();
+        testee.partCompleted(2);
+        testee.close();
+        Files.delete(file);
+
+        assertThat(
+                DownloadCheckpoint.of(file.toString(), head("v1", "c1", 23, 5))
+                        .resume()
+                        .isEmpty(),
+                is(true));
+    }
+
+    @Test
+    public void testIncompleteFinalEntryIsIgnored() throws Exception {
+        givenPartiallyDownloadedFile(23);
+        givenCheckpoint(head("v1", "c1", 23, 5));
+        testee.resume();
+        testee.partCompleted(3);
+        testee.close();
+        Files.write(testee.getPath(), "{\"partNo\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        BitSet resumed =
+                DownloadCheckpoint.of(file.toString(), head("v1", "c1", 23, 5)).resume();
+
+        assertThat(resumed, is(equalTo(parts(3))));
+    }
+
+    @Test
+    public void testPartsRecordedAfterAnIncompleteFinalEntryAreResumed() throws Exception {
+        givenPartiallyDownloadedFile(23);
+        givenCheckpoint(head("v1", "c1", 23, 5));
+        testee.resume();
+        testee.partCompleted(3);
+        testee.close();
+        Files.write(testee.getPath(), "{\"partNo\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        DownloadCheckpoint resumedCheckpoint = DownloadCheckpoint.of(file.toString(), head("v1", "c1", 23, 5));
+        resumedCheckpoint.resume();
+        resumedCheckpoint.partCompleted(1);
+        resumedCheckpoint.partCompleted(5);
+        resumedCheckpoint.close();
+
+        BitSet resumed =
+                DownloadCheckpoint.of(file.toString(), head("v1", "c1", 23, 5)).resume();
+
+        assertThat(resumed, is(equalTo(parts(1, 3, 5))));
+    }
+
+    @Test
+    public void testDeleteRemovesTheCheckpoint() throws Exception {
+        givenPartiallyDownloadedFile(23);
+        givenCheckpoint(head("v1", "c1", 23, 5));
+        testee.resume();
+        testee.partCompleted(1);
+
+        testee.delete();
+
+        assertThat(Files.exists(testee.getPath()), is(false));
+    }
+
+    private void givenPartiallyDownloadedFile(int length) throws Exception {
+        file = tempDir.resolve("download.csv");
+        Files.write(file, new byte[length]);
+    }
+
+    private void givenCheckpoint(Head head) {
+        testee = DownloadCheckpoint.of(file.toString(), head);
+    }
+
+    private static Head head(String version, String checksum, long contentLength, int partCount) {
+        return Head.builder()
+                .version(version)
+                .checksum(checksum)
+                .contentLength(contentLength)
+                .partCount(partCount)
+                .isMultipart(true)
+                .build();
+    }
+
+    private static BitSet parts(int... partNumbers) {
+        BitSet parts = new BitSet();
+        for (int partNo : partNumbers) {
+            parts.set(partNo);
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.jpmorganchase.fusion.api.writer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileChannelPartWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path file;
+
+    FileChannelPartWriter testee;
+
+    @Test
+    public void testPartsWrittenOutOfOrderAreAssembledAtTheirPositions() throws Exception {
+        givenFile("download.csv");
+        givenWriterSizedTo(14);
+
+        whenPartIsWritten("foobar2", 7);
+        whenPartIsWritten("foobar1", 0);
+        testee.close();
+
+        thenFileContentShouldBe("foobar1foobar2");
+    }
+
+    @Test
+    public void testPartsLargerThanTheBufferAreWrittenInFull() throws Exception {
+        byte[] part = new byte[200 * 1024 + 17];
+        for (int i = 0; i < part.length; i++) {
+            part[i] = (byte) i;
+        }
+        givenFile("large.bin");
+        givenWriterSizedTo(part.length * 2L);
+
+        testee.write(new ByteArrayInputStream(part), part.length);
+        testee.write(new ByteArrayInputStream(part), 0);
+        testee.close();
+
+        byte[] expected = new byte[part.length * 2];
+        System.arraycopy(part, 0, expected, 0, part.length);
+        System.arraycopy(part, 0, expected, part.length, part.length);
+        assertThat(Files.readAllBytes(file), equalTo(expected));
+    }
+
+    @Test
+    public void testPartsCanBeWrittenConcurrently() throws Exception {
+        int parts = 32;
+        int partSize = 100 * 1024;
+        givenFile("concurrent.bin");
+        givenWriterSizedTo((long) parts * partSize);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int p = 0; p < parts; p++) {
+                final int partNo = p;
+                futures.add(CompletableFuture.runAsync(
+                        () -> {
+                            byte[] content = new byte[partSize];
+                            Arrays.fill(content, (byte) partNo);
+                            Assertions.assertDoesNotThrow(
+                                    () -> testee.write(new ByteArrayInputStream(content), (long) partNo * partSize));
+                        },
+                        executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        testee.close();
+
+        byte[] written = Files.readAllBytes(file);
+        assertThat(written.length, equalTo(parts * partSize));
+        for (int i = 0; i < written.length; i++) {
+            assertThat(written[i], equalTo((byte) (i / partSize)));
+        }
+    }
+
+    @Test
+    public void testNegativePositionIsRejected() throws Exception {
+        givenFile("negative.csv");
+        givenWriterSizedTo(7);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> whenPartIsWritten("foobar1", -1));
+        testee.close();
+    }
+
+    private void givenFile(String name) {
+        file = tempDir.resolve(name);
+    }
+
+    private void givenWriterSizedTo(long length) throws Exception {
+        testee = FileChannelPartWriter.open(file.toString(), length);
+    }
+
+    private void whenPartIsWritten(String content, long position) throws Exception {
+        testee.write(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), position);
+    }
+
+    private void thenFileContentShouldBe(String expected) throws Exception {
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), equalTo(expected));
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.jpmorganchase.fusion.api.writer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedPartWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path file;
+
+    MappedPartWriter testee;
+
+    @Test
+    public void testPartsWrittenOutOfOrderAreAssembledAtTheirPositions() throws Exception {
+        givenFile("download.csv");
+        givenWriterSizedTo(14, false);
+
+        whenPartIsWritten("foobar2", 7);
+        whenPartIsWritten("foobar1", 0);
+        testee.close();
+
+        thenFileContentShouldBe("foobar1foobar2");
+    }
+
+    @Test
+    public void testPartsCanBeForcedToStorage() throws Exception {
+        givenFile("forced.csv");
+        givenWriterSizedTo(14, true);
+
+        whenPartIsWritten("foobar1", 0);
+        whenPartIsWritten("foobar2", 7);
+        testee.close();
+
+        thenFileContentShouldBe("foobar1foobar2");
+    }
+
+    @Test
+    public void testPartLongerThanTheDownloadIsRejected() throws Exception {
+        givenFile("overflow.csv");
+        givenWriterSizedTo(10, false);
+
+        IOException exception = Assertions.assertThrows(IOException.class, () -> whenPartIsWritten("foobar1", 7));
+        testee.close();
+
+        assertThat(exception.getMessage(), equalTo("Part exceeds the expected length of the download"));
+        assertThat(Files.size(file), equalTo(10L));
+    }
+
+    @Test
+    public void testNegativePositionIsRejected() throws Exception {
+        givenFile("negative.csv");
+        givenWriterSizedTo(7, false);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> whenPartIsWritten("foobar1", -1));
+        testee.close();
+    }
+
+    private void givenFile(String name) {
+        file = tempDir.resolve(name);
+    }
+
+    private void givenWriterSizedTo(long length, boolean force) throws Exception {
+        testee = MappedPartWriter.open(file.toString(), length, force);
+    }
+
+    private void whenPartIsWritten(String content, long position) throws Exception {
+        testee.write(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), position);
+    }
+
+    private void thenFileContentShouldBe(String expected) throws Exception {
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), equalTo(expected));
+    }
+}
@@ -7,9 +7,15 @@ import static org.hamcrest.Matchers.is;
 import io.github.jpmorganchase.fusion.api.exception.ApiInputValidationException;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class AlgoSpecificDigestProducerTest {
 
@@ -19,6 +25,9 @@ class AlgoSpecificDigestProducerTest {
 
     private DigestDescriptor digestDescriptor;
 
+    @TempDir
+    Path tempDir;
+
     @Test
     public void testValidDescriptorReturnedForSha256Algo() {
         givenSha256SpecificDigestProducer();
@@ -70,6 +79,87 @@ class AlgoSpecificDigestProducerTest {
         whenExecuteIsCalledThenExceptionShouldBeThrown(NoSuchAlgorithmException.class);
     }
 
+    @Test
+    public void testFileIsDigestedWithoutRetainingItsContent() throws Exception {
+        givenSha256SpecificDigestProducer();
+        Path file = tempDir.resolve("upload.csv");
+        Files.write(file, "A,B,C".getBytes());
+
+        digestDescriptor = algoSpecificDigestProducer.execute(file);
+
+        thenDescriptorShouldHaveExpectedDigest("KPD9WTOuUoQrDwpugLaHblJS+OdUnXaML3YWXla28Rg=");
+        thenDescriptorShouldHaveExpectedSize(5);
+        thenDescriptorShouldHaveExpectedContent(null);
+    }
+
+    @Test
+    public void testDigestOfFileMatchesDigestOfStreamAcrossBufferBoundaries() throws Exception {
+        givenSha256SpecificDigestProducer();
+        byte[] content = new byte[200 * 1024 + 3];
+        new Random(11).nextBytes(content);
+        Path file = tempDir.resolve("large.bin");
+        Files.write(file, content);
+
+        DigestDescriptor ofFile = algoSpecificDigestProducer.execute(file);
+        DigestDescriptor ofStream = algoSpecificDigestProducer.execute(new ByteArrayInputStream(content));
+
+        assertThat(ofFile.getChecksum(), is(equalTo(ofStream.getChecksum())));
+        assertThat(ofFile.getSize(), is(equalTo(content.length)));
+    }
+
+    @Test
+    public void testBehaviourWhenFileDoesNotExist() {
+        givenSha256SpecificDigestProducer();
+        Assertions.assertThrows(
+                ApiInputValidationException.class,
+                () -> algoSpecificDigestProducer.execute(tempDir.resolve("missing.csv")));
+    }
+
+    @Test
+    public void testProducerImplementingOnlyStreamDigestsCanBeStarted() {
+        givenSha256SpecificDigestProducer();
+        DigestProducer streamOnly = streamOnlyProducer();
+
+        RunningDigest running = streamOnly.start();
+        running.update("A,".getBytes(), 0, 2);
+        running.update(ByteBuffer.wrap("B,C".getBytes()));
+        digestDescriptor = running.complete();
+
+        thenDescriptorShouldHaveExpectedDigest("KPD9WTOuUoQrDwpugLaHblJS+OdUnXaML3YWXla28Rg=");
+        thenDescriptorShouldHaveExpectedSize(5);
+        thenDescriptorShouldHaveExpectedContent(null);
+    }
+
+    @Test
+    public void testProducerImplementingOnlyStreamDigestsCanDigestFiles() throws Exception {
+        givenSha256SpecificDigestProducer();
+        Path file = tempDir.resolve("upload.csv");
+        Files.write(file, "A,B,C".getBytes());
+
+        digestDescriptor = streamOnlyProducer().execute(file);
+
+        thenDescriptorShouldHaveExpectedDigest("KPD9WTOuUoQrDwpugLaHblJS+OdUnXaML3YWXla28Rg=");
+        thenDescriptorShouldHaveExpectedSize(5);
+        thenDescriptorShouldHaveExpectedContent(null);
+    }
+
+    /**
+     * A producer written against the original interface, implementing only the stream and list digests.
+     */
+    private DigestProducer streamOnlyProducer() {
+        return new DigestProducer() {
+            @Override
+            public DigestDescriptor execute(InputStream data) {
+                return algoSpecificDigestProducer.execute(data);
+            }
+
+            @Override
+            public DigestDescriptor execute(List<ByteBuffer> digests) {
+                return algoSpecificDigestProducer.execute(digests);
+            }
+        };
+    }
+
     private void thenDescriptorShouldHaveExpectedContent(byte[] content) {
         assertThat(digestDescriptor.getContent(), is(equalTo(content)));
     }
@@ -31,6 +31,30 @@ class PartCheckerTest {
         thenVerificationShouldCompleteSuccessfully("w6uP8Tcg6K2QR905Rms8iXTlksL6OD1KOWBxTK7wxPI=");
     }
 
+    @Test
+    public void testCanUpdateVerifyDigestFromChunks() throws Exception {
+
+        // Given
+        givenPartChecker();
+        givenBytesToVerify("foobar");
+
+        // When
+        whenAllBytesHaveBeenReadByThePartCheckerInChunksOf(4);
+
+        // Then
+        thenVerificationShouldCompleteSuccessfully("w6uP8Tcg6K2QR905Rms8iXTlksL6OD1KOWBxTK7wxPI=");
+    }
+
+    @Test
+    public void testCanVerifyDigestOfEmptyPart() throws Exception {
+
+        // Given
+        givenPartChecker();
+
+        // Then
+        thenVerificationShouldCompleteSuccessfully("47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU=");
+    }
+
     @Test
     public void testAlternateMessageDigestAlgoCanBeSet() throws Exception {
 
@@ -91,6 +115,14 @@ class PartCheckerTest {
         }
     }
 
+    private void whenAllBytesHaveBeenReadByThePartCheckerInChunksOf(int chunkSize) throws Exception {
+        int bytesRead;
+        byte[] chunk = new byte[chunkSize];
+        while ((bytesRead = bytesToVerify.read(chunk, 0, chunkSize)) != -1) {
+            testee.update(chunk, 0, bytesRead);
+        }
+    }
+
     private void whenAttemptIsMadeToUpdateExceptionShouldBeThrown() {
         exception = assertThrows(IOException.class, () -> testee.update(bytesToVerify.read()));
     }
@@ -0,0 +1,112 @@
+package io.github.jpmorganchase.fusion.digest.checksum;
+
+import io.github.jpmorganchase.fusion.api.stream.IntegrityCheckingInputStream;
+import io.github.jpmorganchase.fusion.digest.PartChecker;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the single-byte and bulk paths of each {@link DigestProvider} supported by {@link DigestProviderService}.
+ * <p>
+ * Every operation digests a 1 MiB payload, so the reported ops/s is the throughput in MiB/s. The {@code stream*}
+ * benchmarks read the same payload through an {@link IntegrityCheckingInputStream} the way a download does.
+ * <p>
+ * Run from the IDE via {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main DigestProviderBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DigestProviderBenchmark {
+
+    private static final int PAYLOAD_SIZE = 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    @Param({"CRC32", "CRC32C", "CRC64NVME", "MD5", "SHA-1", "SHA-256"})
+    String algorithm;
+
+    private final DigestProviderService service = new DigestProviderService();
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        payload = new byte[PAYLOAD_SIZE];
+        new Random(42).nextBytes(payload);
+    }
+
+    @Benchmark
+    public String providerSingleByte() throws IOException {
+        DigestProvider provider = service.getDigestProvider(algorithm);
+        for (byte b : payload) {
+            provider.update(b);
+        }
+        return provider.getDigest();
+    }
+
+    @Benchmark
+    public String providerBulk() throws IOException {
+        DigestProvider provider = service.getDigestProvider(algorithm);
+        for (int offset = 0; offset < payload.length; offset += READ_BUFFER_SIZE) {
+            provider.update(payload, offset, Math.min(READ_BUFFER_SIZE, payload.length - offset));
+        }
+        return provider.getDigest();
+    }
+
+    @Benchmark
+    public long streamSingleByte() throws IOException {
+        long total = 0;
+        try (InputStream in = integrityCheckingStream()) {
+            while (in.read() != -1) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long streamBulk() throws IOException {
+        long total = 0;
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream in = integrityCheckingStream()) {
+            int bytesRead;
+            while ((bytesRead = in.read(buffer, 0, buffer.length)) != -1) {
+                total += bytesRead;
+            }
+        }
+        return total;
+    }
+
+    private InputStream integrityCheckingStream() {
+        return IntegrityCheckingInputStream.builder()
+                .part(new ByteArrayInputStream(payload))
+                .partChecker(PartChecker.builder().digestAlgo(algorithm).build())
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(DigestProviderBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
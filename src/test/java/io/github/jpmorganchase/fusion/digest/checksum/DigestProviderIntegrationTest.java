@@ -5,8 +5,11 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class DigestProviderIntegrationTest {
 
@@ -24,6 +27,27 @@ class DigestProviderIntegrationTest {
         assertThat(digest, equalTo("w6uP8Tcg6K2QR905Rms8iXTlksL6OD1KOWBxTK7wxPI="));
     }
 
+    @Test
+    void testProviderImplementingOnlySingleByteUpdatesAcceptsRangesOfBytes() throws IOException {
+        DigestProvider sha256 = service.getDigestProvider("SHA-256");
+        DigestProvider singleByteOnly = new DigestProvider() {
+            @Override
+            public void update(byte singleByte) {
+                sha256.update(singleByte);
+            }
+
+            @Override
+            public String getDigest() throws IOException {
+                return sha256.getDigest();
+            }
+        };
+        byte[] data = "xxfoobarxx".getBytes(StandardCharsets.UTF_8);
+
+        singleByteOnly.update(data, 2, 6);
+
+        assertThat(singleByteOnly.getDigest(), equalTo("w6uP8Tcg6K2QR905Rms8iXTlksL6OD1KOWBxTK7wxPI="));
+    }
+
     @Test
     void testSha1DigestForFoobar() throws IOException {
         DigestProvider provider = service.getDigestProvider("SHA-1");
@@ -74,4 +98,33 @@ class DigestProviderIntegrationTest {
         assertThat(digest, notNullValue());
         org.junit.jupiter.api.Assertions.assertEquals(12, digest.length());
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME", "SHA-1", "SHA-256", "MD5"})
+    void testBulkUpdatesProduceSameDigestAsSingleByteUpdates(String algorithm) throws IOException {
+        byte[] data = "the quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+
+        DigestProvider singleByte = service.getDigestProvider(algorithm);
+        for (byte b : data) {
+            singleByte.update(b);
+        }
+
+        DigestProvider bulk = service.getDigestProvider(algorithm);
+        bulk.update(data, 0, 10);
+        bulk.update(data, 10, data.length - 10);
+
+        DigestProvider heapBuffer = service.getDigestProvider(algorithm);
+        heapBuffer.update(ByteBuffer.wrap(data));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        DigestProvider directBuffer = service.getDigestProvider(algorithm);
+        directBuffer.update(direct);
+
+        String expected = singleByte.getDigest();
+        assertThat(bulk.getDigest(), equalTo(expected));
+        assertThat(heapBuffer.getDigest(), equalTo(expected));
+        assertThat(directBuffer.getDigest(), equalTo(expected));
+        assertThat(direct.hasRemaining(), equalTo(false));
+    }
 }
@@ -0,0 +1,65 @@
+package io.github.jpmorganchase.fusion.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncClientTest {
+
+    private static final String URL = "http://localhost:8080/test";
+    private static final Map<String, String> HEADERS = Collections.singletonMap("header1", "value1");
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "async-client"));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void clientThatIsAlreadyAsynchronousIsUsedAsIs() {
+        Client client = mock(Client.class, withSettings().extraInterfaces(AsyncClient.class));
+
+        assertThat(AsyncClient.of(client, executor), is(sameInstance(client)));
+    }
+
+    @Test
+    void blockingClientMakesRequestsOnTheExecutor() {
+        Client client = mock(Client.class);
+        AtomicReference<String> requestThread = new AtomicReference<>();
+        when(client.get(URL, HEADERS)).thenAnswer(invocation -> {
+            requestThread.set(Thread.currentThread().getName());
+            return HttpResponse.<String>builder().statusCode(200).body("body").build();
+        });
+
+        HttpResponse<String> response =
+                AsyncClient.of(client, executor).getAsync(URL, HEADERS).join();
+
+        assertThat(response.getBody(), is(equalTo("body")));
+        assertThat(requestThread.get(), is(equalTo("async-client")));
+    }
+
+    @Test
+    void failureOfBlockingClientCompletesTheFutureExceptionally() {
+        Client client = mock(Client.class);
+        when(client.post(URL, HEADERS, "body")).thenThrow(new ClientException("failed"));
+
+        CompletionException thrown = assertThrows(CompletionException.class, () -> AsyncClient.of(client, executor)
+                .postAsync(URL, HEADERS, "body")
+                .join());
+
+        assertThat(thrown.getCause(), is(instanceOf(ClientException.class)));
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.jpmorganchase.fusion.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the latency of listing catalogs from a local WireMock server with connections kept alive between
+ * requests, against a fresh connection per request as made when every connection was disconnected after use.  The
+ * {@code reconnect} strategy asks for the connection to be closed after each response to reproduce that behaviour.
+ * <p>
+ * The server is plain HTTP on loopback, so the difference measured is the TCP connect alone; against the Fusion API
+ * each new connection also pays a TLS handshake.  The client's connection metrics are printed at the end of each
+ * trial.
+ * <p>
+ * Run from the IDE via {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main CatalogListingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogListingBenchmark {
+
+    private static final String CATALOGS_PATH = "/v1/catalogs/";
+
+    @Param({"keepAlive", "reconnect"})
+    String strategy;
+
+    private WireMockServer server;
+    private JdkClient client;
+    private String url;
+    private Map<String, String> headers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        server.stubFor(get(urlPathEqualTo(CATALOGS_PATH))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(catalogs(20))));
+        url = server.baseUrl() + CATALOGS_PATH;
+
+        client = JdkClient.builder().noProxy().build();
+        headers =
+                "reconnect".equals(strategy) ? Collections.singletonMap("Connection", "close") : Collections.emptyMap();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%s: %s%n", strategy, client.getConnectionMetrics());
+        server.stop();
+    }
+
+    @Benchmark
+    public int listCatalogs() {
+        return client.get(url, headers).getBody().length();
+    }
+
+    private static String catalogs(int count) {
+        StringBuilder body = new StringBuilder("{\"resources\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"identifier\":\"catalog-")
+                    .append(i)
+                    .append("\",\"title\":\"Catalog ")
+                    .append(i)
+                    .append("\",\"description\":\"A catalog used for benchmarking\"}");
+        }
+        return body.append("]}").toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(CatalogListingBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,21 @@ public class HttpConnectionInputStreamTest {
         assertThat(result, is(11));
     }
 
+    @Test
+    public void bulkReadDelegatesCallsToTheConnection() throws Exception {
+        HttpConnectionInputStream stream = new HttpConnectionInputStream(connection);
+        byte[] buffer = new byte[16];
+
+        when(connection.getInputStream()).thenReturn(underlyingStream);
+        when(underlyingStream.read(buffer, 2, 8)).thenReturn(8);
+
+        int result = stream.read(buffer, 2, 8);
+
+        verify(underlyingStream, times(1)).read(buffer, 2, 8);
+        verify(underlyingStream, never()).read();
+        assertThat(result, is(8));
+    }
+
     @Test
     public void closeDelegatesCallsToTheConnection() throws Exception {
         HttpConnectionInputStream stream = new HttpConnectionInputStream(connection);
@@ -44,4 +60,31 @@ public class HttpConnectionInputStreamTest {
         verify(connection, times(1)).disconnect();
         verify(underlyingStream, times(1)).close();
     }
+
+    @Test
+    public void closeReadsRemainingContentAndKeepsTheConnectionAlive() throws Exception {
+        ConnectionMetrics metrics = new ConnectionMetrics();
+        HttpConnectionInputStream stream = new HttpConnectionInputStream(connection, metrics);
+
+        when(connection.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[1024]));
+
+        stream.close();
+
+        verify(connection, never()).disconnect();
+        assertThat(metrics.getReleased(), is(1L));
+    }
+
+    @Test
+    public void closeDisconnectsWhenTooMuchContentRemains() throws Exception {
+        ConnectionMetrics metrics = new ConnectionMetrics();
+        HttpConnectionInputStream stream = new HttpConnectionInputStream(connection, metrics);
+
+        when(connection.getInputStream())
+                .thenReturn(new ByteArrayInputStream(new byte[HttpConnectionInputStream.DRAIN_LIMIT + 1]));
+
+        stream.close();
+
+        verify(connection, times(1)).disconnect();
+        assertThat(metrics.getDiscarded(), is(1L));
+    }
 }
@@ -0,0 +1,224 @@
+package io.github.jpmorganchase.fusion.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Runs only on Java 11 or later, where {@link HttpClients} can create the client.
+ */
+public class JavaNetHttpClientTest {
+
+    @RegisterExtension
+    static WireMockExtension wiremock = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().notifier(new Slf4jNotifier(true)))
+            .configureStaticDsl(true)
+            .build();
+
+    @RegisterExtension
+    static WireMockExtension wiremockProxy = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().notifier(new Slf4jNotifier(true)))
+            .build();
+
+    private static final String SAMPLE_RESPONSE_BODY = "sample response";
+    private static final String BASE_PATH = "/test";
+    private static final Map<String, String> NO_REQUEST_HEADERS = Collections.emptyMap();
+
+    private static Client httpClient;
+    private static String BASE_URL;
+    private static String API_URL;
+
+    @BeforeAll
+    public static void setUp() {
+        assumeTrue(HttpClients.isJavaNetHttpAvailable(), "java.net.http requires Java 11 or later");
+
+        httpClient = HttpClients.javaNetHttpClient(Proxy.NO_PROXY).orElseThrow(IllegalStateException::new);
+        BASE_URL = wiremock.getRuntimeInfo().getHttpBaseUrl();
+        API_URL = String.format("%s%s", BASE_URL, BASE_PATH);
+    }
+
+    @Test
+    void successfulGetCallSendsHeadersAndUserAgent() {
+        stubFor(get(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        HttpResponse<String> response = httpClient.get(API_URL, Collections.singletonMap("header1", "value1"));
+
+        verify(getRequestedFor(urlEqualTo(BASE_PATH))
+                .withHeader("header1", WireMock.equalTo("value1"))
+                .withHeader("User-Agent", containing("(JavaNetHttpClient)")));
+        assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_OK));
+        assertThat(response.getBody(), is(equalTo(SAMPLE_RESPONSE_BODY)));
+        assertThat(response.isError(), is(false));
+    }
+
+    @Test
+    void getCallWithEmptyErrorBodyReturnsDefaultError() {
+        stubFor(get(BASE_PATH).willReturn(aResponse().withStatus(HttpURLConnection.HTTP_INTERNAL_ERROR)));
+
+        HttpResponse<String> response = httpClient.get(API_URL, NO_REQUEST_HEADERS);
+
+        assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_INTERNAL_ERROR));
+        assertThat(response.getBody(), containsString("Unable to perform requested action"));
+        assertThat(response.isError(), is(true));
+    }
+
+    @Test
+    void getInputStreamCallStreamsTheResponseBody() throws Exception {
+        stubFor(get(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        HttpResponse<InputStream> response = httpClient.getInputStream(API_URL, NO_REQUEST_HEADERS);
+
+        assertThat(response.isError(), is(false));
+        assertThat(readFully(response.getBody()), is(equalTo(SAMPLE_RESPONSE_BODY)));
+    }
+
+    @Test
+    void getInputStreamCallWithErrorReturnsTheErrorBody() throws Exception {
+        stubFor(get(BASE_PATH)
+                .willReturn(
+                        aResponse().withStatus(HttpURLConnection.HTTP_NOT_FOUND).withBody("not found")));
+
+        HttpResponse<InputStream> response = httpClient.getInputStream(API_URL, NO_REQUEST_HEADERS);
+
+        assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_NOT_FOUND));
+        assertThat(readFully(response.getBody()), is(equalTo("not found")));
+    }
+
+    @Test
+    void headCallReturnsHeadersLookedUpWithoutRegardToCase() {
+        stubFor(head(urlEqualTo(BASE_PATH)).willReturn(aResponse().withHeader("x-jpmc-version-id", "version-1")));
+
+        HttpResponse<Void> response = httpClient.head(API_URL, NO_REQUEST_HEADERS);
+
+        assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_OK));
+        assertThat(response.getHeaders().get("X-Jpmc-Version-Id"), contains("version-1"));
+        assertThat(response.getBody(), is(nullValue()));
+    }
+
+    @Test
+    void putCallFromStreamSendsTheDeclaredContentLength() {
+        stubFor(put(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Length", "16");
+        headers.put("Digest", "SHA-256=abc");
+
+        HttpResponse<String> response = httpClient.put(
+                API_URL, headers, new ByteArrayInputStream("sample post body".getBytes(StandardCharsets.UTF_8)));
+
+        verify(putRequestedFor(urlEqualTo(BASE_PATH))
+                .withHeader("Content-Length", WireMock.equalTo("16"))
+                .withHeader("Digest", WireMock.equalTo("SHA-256=abc"))
+                .withRequestBody(WireMock.equalTo("sample post body")));
+        assertThat(response.getBody(), is(equalTo(SAMPLE_RESPONSE_BODY)));
+    }
+
+    @Test
+    void putCallFromArrayStreamResendsTheWholeBodyWhenRedirected() {
+        stubFor(put(BASE_PATH).willReturn(aResponse().withStatus(307).withHeader("Location", BASE_PATH + "/moved")));
+        stubFor(put(BASE_PATH + "/moved").willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        HttpResponse<String> response = httpClient.put(
+                API_URL,
+                Collections.singletonMap("Content-Length", "16"),
+                new ByteArrayInputStream("sample post body".getBytes(StandardCharsets.UTF_8)));
+
+        verify(putRequestedFor(urlEqualTo(BASE_PATH + "/moved")).withRequestBody(WireMock.equalTo("sample post body")));
+        assertThat(response.getBody(), is(equalTo(SAMPLE_RESPONSE_BODY)));
+    }
+
+    @Test
+    void putCallFromArraySendsOnlyTheGivenRange() {
+        stubFor(put(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+        byte[] body = "xxsample post bodyxx".getBytes(StandardCharsets.UTF_8);
+
+        httpClient.put(API_URL, NO_REQUEST_HEADERS, body, 2, 16);
+
+        verify(putRequestedFor(urlEqualTo(BASE_PATH)).withRequestBody(WireMock.equalTo("sample post body")));
+    }
+
+    @Test
+    void postAndDeleteCallsSendTheirBodies() {
+        stubFor(post(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+        stubFor(delete(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        httpClient.post(API_URL, NO_REQUEST_HEADERS, "sample post body");
+        httpClient.delete(API_URL, NO_REQUEST_HEADERS, null);
+
+        verify(postRequestedFor(urlEqualTo(BASE_PATH)).withRequestBody(WireMock.equalTo("sample post body")));
+        verify(deleteRequestedFor(urlEqualTo(BASE_PATH)));
+    }
+
+    @Test
+    void getRequestRespectsConfiguredProxySettings() {
+        Client proxiedClient = HttpClients.javaNetHttpClient(
+                        new Proxy(Proxy.Type.HTTP, new InetSocketAddress("localhost", wiremockProxy.getPort())))
+                .orElseThrow(IllegalStateException::new);
+        wiremockProxy.stubFor(get(BASE_PATH).willReturn(aResponse().proxiedFrom(BASE_URL)));
+        stubFor(get(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        HttpResponse<String> response = proxiedClient.get(API_URL, NO_REQUEST_HEADERS);
+
+        wiremockProxy.verify(getRequestedFor(urlEqualTo(BASE_PATH)));
+        assertThat(response.getBody(), is(equalTo(SAMPLE_RESPONSE_BODY)));
+    }
+
+    @Test
+    void asyncGetCallCompletesWithTheResponse() {
+        stubFor(get(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        HttpResponse<String> response =
+                ((AsyncClient) httpClient).getAsync(API_URL, NO_REQUEST_HEADERS).join();
+
+        assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_OK));
+        assertThat(response.getBody(), is(equalTo(SAMPLE_RESPONSE_BODY)));
+    }
+
+    @Test
+    void asyncCallToMalformedUrlCompletesExceptionally() {
+        CompletionException thrown = assertThrows(CompletionException.class, () -> ((AsyncClient) httpClient)
+                .getAsync("not a url", NO_REQUEST_HEADERS)
+                .join());
+
+        assertThat(thrown.getCause(), is(instanceOf(ClientException.class)));
+    }
+
+    @Test
+    void malformedUrlThrowsClientException() {
+        assertThrows(ClientException.class, () -> httpClient.get("not a url", NO_REQUEST_HEADERS));
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        try (InputStream body = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toString(StandardCharsets.UTF_8.name());
+        }
+    }
+}
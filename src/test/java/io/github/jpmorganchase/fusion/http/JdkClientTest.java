@@ -216,6 +216,30 @@ public class JdkClientTest {
         assertThat(response.isError(), is(false));
     }
 
+    @Test
+    void successfulHeadCallReturnsHeadersWithoutBody() {
+        stubFor(head(urlEqualTo(BASE_PATH)).willReturn(aResponse().withHeader("x-jpmc-version-id", "version-1")));
+
+        HttpResponse<Void> response = httpClient.head(API_URL, SINGLE_REQUEST_HEADER);
+
+        verify(headRequestedFor(urlEqualTo(BASE_PATH)).withHeader("header1", WireMock.equalTo("value1")));
+        verify(0, getRequestedFor(urlEqualTo(BASE_PATH)));
+        assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_OK));
+        assertThat(response.getHeaders().get("x-jpmc-version-id"), contains("version-1"));
+        assertThat(response.getBody(), is(nullValue()));
+        assertThat(response.isError(), is(false));
+    }
+
+    @Test
+    void headCallWith404Response() {
+        stubFor(head(urlEqualTo(BASE_PATH)).willReturn(aResponse().withStatus(HttpURLConnection.HTTP_NOT_FOUND)));
+
+        HttpResponse<Void> response = httpClient.head(API_URL, NO_REQUEST_HEADERS);
+
+        assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_NOT_FOUND));
+        assertThat(response.isError(), is(true));
+    }
+
     @Test
     void successfulPostCall() throws Exception {
 
@@ -349,6 +373,38 @@ public class JdkClientTest {
         assertThat(response.isError(), is(false));
     }
 
+    @Test
+    void successfulPutCallFromArraySendsOnlyTheGivenRangeWithContentLength() throws Exception {
+
+        stubFor(put(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        byte[] body = "xxsample post bodyyy".getBytes();
+        HttpResponse<String> response = httpClient.put(API_URL, Collections.emptyMap(), body, 2, 16);
+
+        verify(putRequestedFor(urlEqualTo(BASE_PATH))
+                .withRequestBody(WireMock.equalTo("sample post body"))
+                .withHeader("Content-Length", WireMock.equalTo("16"))
+                .withoutHeader("Transfer-Encoding"));
+        assertThat(response.getStatusCode(), is(equalTo(200)));
+        assertThat(response.getBody(), is(equalTo(SAMPLE_RESPONSE_BODY)));
+    }
+
+    @Test
+    void putCallFromStreamHonoursContentLengthHeader() throws Exception {
+
+        stubFor(put(BASE_PATH).willReturn(aResponse().withBody(SAMPLE_RESPONSE_BODY)));
+
+        Map<String, String> requestHeaders = new HashMap<>();
+        requestHeaders.put("Content-Length", "16");
+        HttpResponse<String> response =
+                httpClient.put(API_URL, requestHeaders, new ByteArrayInputStream("sample post body".getBytes()));
+
+        verify(putRequestedFor(urlEqualTo(BASE_PATH))
+                .withRequestBody(WireMock.equalTo("sample post body"))
+                .withHeader("Content-Length", WireMock.equalTo("16")));
+        assertThat(response.getStatusCode(), is(equalTo(200)));
+    }
+
     @Test
     void successfulPutCallWithOneHeader() throws Exception {
 
@@ -638,6 +694,35 @@ public class JdkClientTest {
         assertThat(response.isError(), is(false));
     }
 
+    @Test
+    void connectionsAreReleasedForReuseOnceResponsesAreConsumed() throws Exception {
+        getMethodStub();
+        JdkClient client = JdkClient.builder().noProxy().build();
+
+        client.get(API_URL, Collections.emptyMap());
+        client.head(API_URL, Collections.emptyMap());
+        try (InputStream body =
+                client.getInputStream(API_URL, Collections.emptyMap()).getBody()) {
+            assertThat(body.read(), is(not(-1)));
+        }
+
+        assertThat(client.getConnectionMetrics().getRequests(), is(equalTo(3L)));
+        assertThat(client.getConnectionMetrics().getReleased(), is(equalTo(3L)));
+        assertThat(client.getConnectionMetrics().getDiscarded(), is(equalTo(0L)));
+        assertThat(client.getConnectionMetrics().getReuseRatio(), is(equalTo(1.0)));
+    }
+
+    @Test
+    void errorResponseToStreamRequestIsReadSoItsConnectionIsReleased() throws Exception {
+        getMethodStub(HttpURLConnection.HTTP_UNAVAILABLE);
+        JdkClient client = JdkClient.builder().noProxy().build();
+
+        HttpResponse<InputStream> response = client.getInputStream(API_URL, Collections.emptyMap());
+
+        assertThat(response.isError(), is(true));
+        assertThat(client.getConnectionMetrics().getReleased(), is(equalTo(1L)));
+    }
+
     // Wrapper for ByteArrayInputStream allowing us to check that the close method got called when expected
     private static final class CloseTrackingByteArrayInputStream extends ByteArrayInputStream {
 